@@ -1,5 +1,5 @@
 /*
-    Copyright 2018-2025 Picovoice Inc.
+    Copyright 2018-2026 Picovoice Inc.
     You may not use this file except in compliance with the license. A copy of the license is
     located in the "LICENSE" file accompanying this source.
     Unless required by applicable law or agreed to in writing, software distributed under the
@@ -13,6 +13,8 @@ package ai.picovoice.rhino;
 import android.content.Context;
 import android.util.Log;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import ai.picovoice.android.voiceprocessor.VoiceProcessor;
 import ai.picovoice.android.voiceprocessor.VoiceProcessorErrorListener;
 import ai.picovoice.android.voiceprocessor.VoiceProcessorException;
@@ -29,22 +31,28 @@ public class RhinoManager {
     private final VoiceProcessorFrameListener vpFrameListener;
     private final VoiceProcessorErrorListener vpErrorListener;
 
+    private final boolean isContinuous;
+
+    private final AtomicBoolean isListening = new AtomicBoolean(false);
+
     private boolean isFinalized;
-    private boolean isListening;
 
     /**
      * Private constructor.
      *
      * @param rhino         Absolute path to the file containing model parameters.
+     * @param isContinuous  Keep listening after an inference instead of stopping audio capture.
      * @param callback      It is invoked upon completion of intent inference.
      * @param errorCallback A callback that reports errors encountered while processing audio.
      */
     private RhinoManager(
             final Rhino rhino,
+            final boolean isContinuous,
             final RhinoManagerCallback callback,
             final RhinoManagerErrorCallback errorCallback) {
 
         this.rhino = rhino;
+        this.isContinuous = isContinuous;
         this.voiceProcessor = VoiceProcessor.getInstance();
         this.vpFrameListener = new VoiceProcessorFrameListener() {
             @Override
@@ -53,8 +61,14 @@ public class RhinoManager {
                     isFinalized = rhino.process(frame);
                     if (isFinalized) {
                         final RhinoInference inference = rhino.getInference();
-                        callback.invoke(inference);
-                        stop();
+                        if (isContinuous) {
+                            // capture keeps running, so the next command is heard without restarting audio
+                            rhino.reset();
+                            callback.invoke(inference);
+                        } else {
+                            callback.invoke(inference);
+                            stop();
+                        }
                     }
                 } catch (RhinoException e) {
                     if (errorCallback != null) {
@@ -78,9 +92,17 @@ public class RhinoManager {
     }
 
     /**
-     * Stops recording audio.
+     * Stops recording audio. In continuous mode this is how listening ends; otherwise it can be used to
+     * abandon a command before an inference is returned. Any partial command is discarded when
+     * {@link #process()} is called again. It is safe to call while the manager stops itself after an
+     * inference; only one of the calls stops audio capture.
+     *
+     * @throws RhinoException if audio capture cannot be stopped.
      */
-    private void stop() throws RhinoException {
+    public void stop() throws RhinoException {
+        if (!isListening.compareAndSet(true, false)) {
+            return;
+        }
         voiceProcessor.removeErrorListener(vpErrorListener);
         voiceProcessor.removeFrameListener(vpFrameListener);
         if (voiceProcessor.getNumFrameListeners() == 0) {
@@ -90,28 +112,37 @@ public class RhinoManager {
                 throw new RhinoException(e);
             }
         }
-        isListening = false;
     }
 
     /**
      * Start recording audio from the microphone and infers the user's intent from the spoken
      * command. Once the inference is finalized it will invoke the user provided callback and
-     * terminates recording audio.
+     * terminates recording audio. In continuous mode recording continues and the callback is
+     * invoked for every command until {@link #stop()} is called.
      */
     public void process() throws RhinoException {
-        if (isListening) {
+        if (!isListening.compareAndSet(false, true)) {
             return;
         }
 
-        this.voiceProcessor.addFrameListener(vpFrameListener);
-        this.voiceProcessor.addErrorListener(vpErrorListener);
-
         try {
+            rhino.reset();
+            this.voiceProcessor.addFrameListener(vpFrameListener);
+            this.voiceProcessor.addErrorListener(vpErrorListener);
             voiceProcessor.start(rhino.getFrameLength(), rhino.getSampleRate());
+        } catch (RhinoException e) {
+            abandonStart();
+            throw e;
         } catch (VoiceProcessorException e) {
+            abandonStart();
             throw new RhinoException(e);
         }
-        isListening = true;
+    }
+
+    private void abandonStart() {
+        voiceProcessor.removeErrorListener(vpErrorListener);
+        voiceProcessor.removeFrameListener(vpFrameListener);
+        isListening.set(false);
     }
 
     /**
@@ -151,6 +182,7 @@ public class RhinoManager {
         private float sensitivity = 0.5f;
         private float endpointDurationSec = 1.0f;
         private boolean requireEndpoint = true;
+        private boolean isContinuous = false;
         private RhinoManagerErrorCallback errorCallback = null;
 
         public RhinoManager.Builder setAccessKey(String accessKey) {
@@ -188,6 +220,18 @@ public class RhinoManager {
             return this;
         }
 
+        /**
+         * Keeps audio capture running after an inference and listens for the next command, instead
+         * of stopping after the first one.
+         *
+         * @param isContinuous Whether to keep listening after an inference.
+         * @return Builder instance.
+         */
+        public RhinoManager.Builder setContinuous(boolean isContinuous) {
+            this.isContinuous = isContinuous;
+            return this;
+        }
+
         public RhinoManager.Builder setErrorCallback(RhinoManagerErrorCallback errorCallback) {
             this.errorCallback = errorCallback;
             return this;
@@ -213,7 +257,7 @@ public class RhinoManager {
                     .setEndpointDurationSec(endpointDurationSec)
                     .setRequireEndpoint(requireEndpoint)
                     .build(context);
-            return new RhinoManager(rhino, callback, errorCallback);
+            return new RhinoManager(rhino, isContinuous, callback, errorCallback);
         }
     }
 }
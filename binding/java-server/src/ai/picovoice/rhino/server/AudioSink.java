@@ -0,0 +1,28 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino.server;
+
+/**
+ * Receiver of the audio bytes of one WebSocket connection. Both methods are called from the selector thread.
+ */
+interface AudioSink {
+
+    /**
+     * Copies masked payload bytes into the sink, unmasking them on the way. Returns the number of bytes
+     * accepted, which is less than `length` when the sink is full. A sink that returns less than `length`
+     * must later call {@link RhinoServer#requestResume(WebSocketConnection)} once it has room again.
+     */
+    int offer(byte[] data, int offset, int length, byte[] mask, int maskIndex);
+
+    void close();
+}
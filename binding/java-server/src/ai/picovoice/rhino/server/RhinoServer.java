@@ -0,0 +1,316 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino.server;
+
+import ai.picovoice.rhino.Rhino;
+import ai.picovoice.rhino.RhinoException;
+import ai.picovoice.rhino.RhinoPool;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streaming inference server for Rhino. Clients connect over WebSocket and send 16-bit little-endian,
+ * single-channel PCM at the engine sample rate in binary messages of any size. Each connection leases one
+ * Rhino instance from a bounded pool for its lifetime and receives a JSON text message whenever an
+ * inference is finalized. Socket I/O runs on a single selector thread; audio is processed on a fixed pool
+ * of worker threads.
+ */
+public class RhinoServer {
+
+    private final InetSocketAddress address;
+    private final RhinoPool pool;
+    private final int numWorkers;
+    private final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private ExecutorService workers;
+    private Thread selectorThread;
+    private int frameLength;
+    private volatile boolean isRunning;
+
+    /**
+     * Constructor.
+     *
+     * @param address    Address to listen on.
+     * @param pool       Pool of Rhino instances shared by all connections. Its capacity bounds the number of
+     *                   concurrent sessions.
+     * @param numWorkers Number of threads processing audio.
+     */
+    public RhinoServer(InetSocketAddress address, RhinoPool pool, int numWorkers) {
+        this.address = address;
+        this.pool = pool;
+        this.numWorkers = numWorkers;
+    }
+
+    /**
+     * Binds the listening socket and starts serving connections. One Rhino instance is created up front to
+     * validate the configuration.
+     *
+     * @throws IOException    if the socket cannot be bound.
+     * @throws RhinoException if the Rhino configuration is invalid.
+     */
+    public void start() throws IOException, RhinoException {
+        Rhino rhino = pool.tryAcquire();
+        if (rhino == null) {
+            throw new IllegalStateException("RhinoServer requires an idle engine at startup.");
+        }
+        frameLength = rhino.getFrameLength();
+        pool.release(rhino);
+        listen();
+    }
+
+    /**
+     * Binds the listening socket and starts the selector and worker threads.
+     */
+    void listen() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(address);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(numWorkers, r -> {
+            Thread thread = new Thread(r, "rhino-server-worker-" + workerIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        isRunning = true;
+        selectorThread = new Thread(this::runSelector, "rhino-server-selector");
+        selectorThread.start();
+    }
+
+    /**
+     * Closes all connections and stops the server. The pool is left intact and should be deleted by its
+     * owner.
+     *
+     * @throws InterruptedException if interrupted while waiting for the server threads to finish.
+     */
+    public void stop() throws InterruptedException {
+        isRunning = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        if (selectorThread != null) {
+            selectorThread.join();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Getter for the port the server is listening on.
+     *
+     * @return Bound port, which differs from the requested one when port `0` was requested.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    AudioSink openSession(WebSocketConnection connection) {
+        return new StreamSession(this, connection, pool, frameLength);
+    }
+
+    void execute(Runnable task) {
+        workers.execute(task);
+    }
+
+    void requestWrite(WebSocketConnection connection) {
+        runOnSelector(connection::enableWriting);
+    }
+
+    void requestResume(WebSocketConnection connection) {
+        runOnSelector(connection::resumeReading);
+    }
+
+    private void runOnSelector(SelectorTask task) {
+        selectorTasks.add(() -> {
+            try {
+                task.run();
+            } catch (IOException | CancelledKeyException ignored) {
+                // the connection is being torn down
+            }
+        });
+        selector.wakeup();
+    }
+
+    private interface SelectorTask {
+        void run() throws IOException;
+    }
+
+    private void runSelector() {
+        try {
+            while (isRunning) {
+                selector.select();
+
+                Runnable task;
+                while ((task = selectorTasks.poll()) != null) {
+                    task.run();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isAcceptable()) {
+                        accept();
+                    } else {
+                        handle(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("RhinoServer selector failed: " + e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof WebSocketConnection) {
+                    ((WebSocketConnection) key.attachment()).close();
+                }
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (IOException ignored) {
+                // shutting down
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new WebSocketConnection(this, channel, key));
+        }
+    }
+
+    private static void handle(SelectionKey key) {
+        WebSocketConnection connection = (WebSocketConnection) key.attachment();
+        try {
+            boolean isOpen = true;
+            if (key.isValid() && key.isReadable()) {
+                isOpen = connection.onReadable();
+            }
+            if (isOpen && key.isValid() && key.isWritable()) {
+                isOpen = connection.onWritable();
+            }
+            if (!isOpen) {
+                connection.close();
+            }
+        } catch (IOException | CancelledKeyException e) {
+            connection.close();
+        }
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseArgs(args);
+        if (options == null || options.containsKey("help")) {
+            printUsage();
+            return;
+        }
+
+        String accessKey = options.get("access_key");
+        String contextPath = options.get("context_path");
+        if (accessKey == null || contextPath == null) {
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
+        int numWorkers = Integer.parseInt(options.getOrDefault(
+                "num_workers",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int maxSessions = Integer.parseInt(options.getOrDefault("max_sessions", String.valueOf(numWorkers * 4)));
+        InetSocketAddress address = new InetSocketAddress(
+                options.getOrDefault("host", "127.0.0.1"),
+                Integer.parseInt(options.getOrDefault("port", "8080")));
+
+        Rhino.Builder builder = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setContextPath(contextPath)
+                .setLibraryPath(options.get("library_path"))
+                .setModelPath(options.get("model_path"))
+                .setDevice(options.get("device"))
+                .setSensitivity(Float.parseFloat(options.getOrDefault("sensitivity", "0.5")))
+                .setEndpointDuration(Float.parseFloat(options.getOrDefault("endpoint_duration", "1.0")))
+                .setRequireEndpoint(Boolean.parseBoolean(options.getOrDefault("require_endpoint", "true")));
+
+        RhinoPool pool = null;
+        try {
+            pool = new RhinoPool(builder, maxSessions);
+            RhinoServer server = new RhinoServer(address, pool, numWorkers);
+            server.start();
+            System.out.printf("Listening on ws://%s:%d/ (max sessions: %d, workers: %d)%n",
+                    address.getHostString(),
+                    server.getPort(),
+                    maxSessions,
+                    numWorkers);
+            System.out.println("Press enter to stop.");
+            System.in.read();
+            server.stop();
+        } catch (Exception e) {
+            System.err.println(e.toString());
+            System.exit(1);
+        } finally {
+            if (pool != null) {
+                pool.delete();
+            }
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                return null;
+            }
+            String name = args[i].substring(2);
+            if (name.equals("help")) {
+                options.put(name, "");
+            } else if (i + 1 < args.length) {
+                options.put(name, args[++i]);
+            } else {
+                return null;
+            }
+        }
+        return options;
+    }
+
+    private static void printUsage() {
+        System.out.println("usage: rhinoserver --access_key <key> --context_path <path> [--library_path <path>]\n" +
+                "       [--model_path <path>] [--device <device>] [--sensitivity <value>]\n" +
+                "       [--endpoint_duration <sec>] [--require_endpoint <true|false>] [--host <host>]\n" +
+                "       [--port <port>] [--max_sessions <count>] [--num_workers <count>]");
+    }
+}
@@ -0,0 +1,204 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino.server;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+/**
+ * Load generator for {@link RhinoServer}. It opens a number of concurrent WebSocket connections, streams a
+ * 16 kHz, 16-bit, single-channel WAV file over each one in fixed-size chunks, either paced in real time or
+ * as fast as possible, and reports session setup latency, end-of-audio to inference latency, and overall
+ * throughput.
+ */
+public class RhinoServerBenchmark {
+
+    private static final int CHUNK_SAMPLES = 320;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        if (!options.containsKey("input_audio_path")) {
+            System.out.println("usage: rhinoserverbenchmark --input_audio_path <wav> [--url <ws://host:port/>]\n" +
+                    "       [--num_connections <count>] [--realtime <true|false>]");
+            System.exit(1);
+            return;
+        }
+
+        URI uri = URI.create(options.getOrDefault("url", "ws://127.0.0.1:8080/"));
+        int numConnections = Integer.parseInt(options.getOrDefault("num_connections", "16"));
+        boolean isRealtime = Boolean.parseBoolean(options.getOrDefault("realtime", "true"));
+        byte[] audio = readAudio(new File(options.get("input_audio_path")));
+
+        HttpClient client = HttpClient.newHttpClient();
+        List<Stream> streams = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(numConnections);
+        long start = System.nanoTime();
+        for (int i = 0; i < numConnections; i++) {
+            Stream stream = new Stream(audio, isRealtime, done);
+            streams.add(stream);
+            client.newWebSocketBuilder().buildAsync(uri, stream).exceptionally(e -> {
+                stream.fail(e);
+                return null;
+            });
+        }
+
+        if (!done.await(10, TimeUnit.MINUTES)) {
+            System.err.println("Timed out waiting for inferences.");
+        }
+        double elapsedSec = (System.nanoTime() - start) * 1e-9;
+
+        long[] readyNanos = streams.stream().filter(s -> s.readyNanos > 0).mapToLong(s -> s.readyNanos).toArray();
+        long[] inferenceNanos = streams.stream()
+                .filter(s -> s.inferenceNanos > 0)
+                .mapToLong(s -> s.inferenceNanos)
+                .toArray();
+        long numFailed = streams.stream().filter(s -> s.error != null).count();
+        double audioSec = audio.length / 2.0 / 16000.0 * inferenceNanos.length;
+
+        System.out.printf("connections: %d (failed: %d, inferences: %d)%n",
+                numConnections,
+                numFailed,
+                inferenceNanos.length);
+        System.out.printf("time to ready p50 %.1f ms, p99 %.1f ms%n",
+                percentileMs(readyNanos, 0.5),
+                percentileMs(readyNanos, 0.99));
+        System.out.printf("end of audio to inference p50 %.1f ms, p99 %.1f ms%n",
+                percentileMs(inferenceNanos, 0.5),
+                percentileMs(inferenceNanos, 0.99));
+        System.out.printf("throughput %.1f audio seconds per second (%.2f s wall)%n", audioSec / elapsedSec, elapsedSec);
+    }
+
+    private static byte[] readAudio(File file) throws Exception {
+        try (AudioInputStream stream = AudioSystem.getAudioInputStream(file)) {
+            AudioFormat format = stream.getFormat();
+            if (format.getSampleRate() != 16000f || format.getSampleSizeInBits() != 16 || format.getChannels() != 1) {
+                throw new IllegalArgumentException("Input audio must be 16 kHz, 16-bit, single-channel.");
+            }
+            return stream.readAllBytes();
+        }
+    }
+
+    private static double percentileMs(long[] values, double percentile) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] * 1e-6;
+    }
+
+    private static final class Stream implements WebSocket.Listener {
+
+        private final byte[] audio;
+        private final boolean isRealtime;
+        private final CountDownLatch done;
+        private final long openedAt = System.nanoTime();
+        private final StringBuilder text = new StringBuilder();
+
+        private volatile long readyNanos;
+        private volatile long inferenceNanos;
+        private volatile long lastSentAt;
+        private volatile Throwable error;
+        private volatile boolean isDone;
+
+        Stream(byte[] audio, boolean isRealtime, CountDownLatch done) {
+            this.audio = audio;
+            this.isRealtime = isRealtime;
+            this.done = done;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            text.append(data);
+            if (last) {
+                String message = text.toString();
+                text.setLength(0);
+                if (message.contains("\"type\":\"ready\"")) {
+                    readyNanos = System.nanoTime() - openedAt;
+                    new Thread(() -> send(webSocket), "rhino-benchmark-sender").start();
+                } else if (message.contains("\"type\":\"inference\"")) {
+                    inferenceNanos = Math.max(1, System.nanoTime() - lastSentAt);
+                    webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "");
+                    finish();
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            if (statusCode != WebSocket.NORMAL_CLOSURE) {
+                fail(new IllegalStateException(statusCode + " " + reason));
+            }
+            finish();
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            fail(error);
+        }
+
+        void fail(Throwable e) {
+            error = e;
+            finish();
+        }
+
+        private synchronized void finish() {
+            if (!isDone) {
+                isDone = true;
+                done.countDown();
+            }
+        }
+
+        private void send(WebSocket webSocket) {
+            try {
+                long chunkNanos = TimeUnit.SECONDS.toNanos(CHUNK_SAMPLES) / 16000;
+                long next = System.nanoTime();
+                for (int offset = 0; offset < audio.length && !isDone; offset += CHUNK_SAMPLES * 2) {
+                    int length = Math.min(CHUNK_SAMPLES * 2, audio.length - offset);
+                    webSocket.sendBinary(ByteBuffer.wrap(audio, offset, length), true).join();
+                    lastSentAt = System.nanoTime();
+                    if (isRealtime) {
+                        next += chunkNanos;
+                        long sleepNanos = next - System.nanoTime();
+                        if (sleepNanos > 0) {
+                            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino.server;
+
+import ai.picovoice.rhino.Rhino;
+import ai.picovoice.rhino.RhinoException;
+import ai.picovoice.rhino.RhinoInference;
+import ai.picovoice.rhino.RhinoPool;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Audio stream of one WebSocket connection. The selector thread feeds raw PCM bytes into a bounded buffer
+ * and the session drains that buffer on a worker thread, one drain at a time, so the Rhino instance it
+ * leases from the pool is never used concurrently.
+ */
+final class StreamSession implements AudioSink {
+
+    private static final int BUFFERED_FRAMES = 16;
+
+    private final RhinoServer server;
+    private final WebSocketConnection connection;
+    private final RhinoPool pool;
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+
+    // guarded by this; written by the selector thread and read by the worker
+    private final byte[] inbound;
+    private int head;
+    private int size;
+    private boolean isStarved;
+
+    // owned by the worker currently draining the session
+    private final short[] frame;
+    private int frameIndex;
+    private Rhino rhino;
+
+    private volatile boolean isClosed;
+
+    StreamSession(RhinoServer server, WebSocketConnection connection, RhinoPool pool, int frameLength) {
+        this.server = server;
+        this.connection = connection;
+        this.pool = pool;
+        this.inbound = new byte[frameLength * 2 * BUFFERED_FRAMES];
+        this.frame = new short[frameLength];
+        schedule();
+    }
+
+    @Override
+    public int offer(byte[] data, int offset, int length, byte[] mask, int maskIndex) {
+        int accepted;
+        synchronized (this) {
+            accepted = Math.min(length, inbound.length - size);
+            int tail = (head + size) % inbound.length;
+            for (int i = 0; i < accepted; i++) {
+                inbound[tail] = (byte) (data[offset + i] ^ mask[(maskIndex + i) & 3]);
+                tail = (tail + 1) % inbound.length;
+            }
+            size += accepted;
+            if (accepted < length) {
+                isStarved = true;
+            }
+        }
+
+        if (accepted > 0) {
+            schedule();
+        }
+        return accepted;
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        schedule();
+    }
+
+    private void schedule() {
+        if (isScheduled.compareAndSet(false, true)) {
+            server.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            if (isClosed) {
+                releaseEngine();
+                return;
+            }
+
+            try {
+                if (rhino == null && !acquireEngine()) {
+                    return;
+                }
+                while (nextFrame()) {
+                    frameIndex = 0;
+                    if (rhino.process(frame)) {
+                        connection.sendText(toJson(rhino.getInference()));
+                    }
+                }
+            } catch (RhinoException | RuntimeException e) {
+                pool.discard(rhino);
+                rhino = null;
+                connection.sendClose(WebSocketConnection.CLOSE_INTERNAL_ERROR, "Processing failed");
+                return;
+            }
+
+            synchronized (this) {
+                if (isStarved) {
+                    isStarved = false;
+                    server.requestResume(connection);
+                }
+            }
+            isScheduled.set(false);
+        } while (hasPendingWork() && isScheduled.compareAndSet(false, true));
+    }
+
+    private boolean acquireEngine() throws RhinoException {
+        rhino = pool.tryAcquire();
+        if (rhino == null) {
+            connection.sendClose(WebSocketConnection.CLOSE_TRY_AGAIN_LATER, "No engine available");
+            return false;
+        }
+        connection.sendText(String.format(
+                "{\"type\":\"ready\",\"sampleRate\":%d,\"frameLength\":%d}",
+                rhino.getSampleRate(),
+                rhino.getFrameLength()));
+        return true;
+    }
+
+    private void releaseEngine() {
+        if (rhino == null) {
+            return;
+        }
+        try {
+            pool.release(rhino);
+        } catch (RhinoException e) {
+            // release already deleted the instance
+        }
+        rhino = null;
+    }
+
+    /**
+     * Moves buffered bytes into the frame as 16-bit little-endian samples. Returns `true` once the frame is
+     * full.
+     */
+    private synchronized boolean nextFrame() {
+        int numSamples = Math.min(frame.length - frameIndex, size / 2);
+        for (int i = 0; i < numSamples; i++) {
+            int lo = inbound[head] & 0xFF;
+            int hi = inbound[(head + 1) % inbound.length];
+            frame[frameIndex++] = (short) ((hi << 8) | lo);
+            head = (head + 2) % inbound.length;
+        }
+        size -= numSamples * 2;
+        return frameIndex == frame.length;
+    }
+
+    private synchronized boolean hasPendingWork() {
+        return isClosed || size >= 2;
+    }
+
+    static String toJson(RhinoInference inference) {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("{\"type\":\"inference\",\"isUnderstood\":").append(inference.getIsUnderstood());
+        if (inference.getIsUnderstood()) {
+            sb.append(",\"intent\":");
+            appendString(sb, inference.getIntent());
+            sb.append(",\"slots\":{");
+            boolean isFirst = true;
+            for (Map.Entry<String, String> slot : inference.getSlots().entrySet()) {
+                if (!isFirst) {
+                    sb.append(',');
+                }
+                appendString(sb, slot.getKey());
+                sb.append(':');
+                appendString(sb, slot.getValue());
+                isFirst = false;
+            }
+            sb.append('}');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,410 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Server side of a single WebSocket connection (RFC 6455). All methods except {@link #sendText(String)} and
+ * {@link #sendClose(int, String)} are called from the selector thread only.
+ */
+final class WebSocketConnection {
+
+    static final int CLOSE_NORMAL = 1000;
+    static final int CLOSE_PROTOCOL_ERROR = 1002;
+    static final int CLOSE_TOO_BIG = 1009;
+    static final int CLOSE_INTERNAL_ERROR = 1011;
+    static final int CLOSE_TRY_AGAIN_LATER = 1013;
+
+    private static final String HANDSHAKE_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int MAX_HANDSHAKE_BYTES = 8192;
+    private static final int MAX_FRAME_BYTES = 1 << 20;
+
+    private static final int OPCODE_CONTINUATION = 0x0;
+    private static final int OPCODE_TEXT = 0x1;
+    private static final int OPCODE_BINARY = 0x2;
+    private static final int OPCODE_CLOSE = 0x8;
+    private static final int OPCODE_PING = 0x9;
+    private static final int OPCODE_PONG = 0xA;
+
+    private final RhinoServer server;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(16 * 1024);
+    private final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<>();
+
+    private AudioSink session;
+    private boolean isHandshakeDone;
+    private boolean isReadPaused;
+    private volatile boolean isClosing;
+
+    // state of the frame currently being parsed
+    private boolean isInPayload;
+    private int frameOpcode;
+    private int messageOpcode;
+    private long payloadRemaining;
+    private final byte[] mask = new byte[4];
+    private int maskIndex;
+    private final byte[] controlPayload = new byte[125];
+    private int controlLength;
+
+    WebSocketConnection(RhinoServer server, SocketChannel channel, SelectionKey key) {
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+    }
+
+    /**
+     * Reads whatever is available on the socket and consumes it. Returns `false` once the peer has closed
+     * the connection.
+     */
+    boolean onReadable() throws IOException {
+        int numRead = channel.read(readBuffer);
+        if (numRead < 0) {
+            return false;
+        }
+        consume();
+        return true;
+    }
+
+    /**
+     * Flushes queued outgoing frames. Returns `false` once a close frame has been flushed and the connection
+     * should be torn down.
+     */
+    boolean onWritable() throws IOException {
+        ByteBuffer buffer;
+        while ((buffer = writeQueue.peek()) != null) {
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            writeQueue.poll();
+        }
+
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        return !isClosing;
+    }
+
+    void enableWriting() {
+        if (key.isValid()) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Called by the session, through the selector thread, once it has room for more audio.
+     */
+    void resumeReading() throws IOException {
+        if (!isReadPaused || !key.isValid()) {
+            return;
+        }
+        isReadPaused = false;
+        key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        consume();
+    }
+
+    void sendText(String text) {
+        byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+        enqueue(encodeFrame(OPCODE_TEXT, payload, payload.length));
+    }
+
+    void sendClose(int code, String reason) {
+        if (isClosing) {
+            return;
+        }
+        byte[] reasonBytes = reason.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(2 + reasonBytes.length, controlPayload.length);
+        byte[] payload = new byte[length];
+        payload[0] = (byte) (code >> 8);
+        payload[1] = (byte) code;
+        System.arraycopy(reasonBytes, 0, payload, 2, length - 2);
+        enqueue(encodeFrame(OPCODE_CLOSE, payload, length));
+        isClosing = true;
+    }
+
+    void close() {
+        if (session != null) {
+            session.close();
+        }
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // the channel is discarded either way
+        }
+    }
+
+    private void enqueue(ByteBuffer frame) {
+        if (isClosing) {
+            return;
+        }
+        writeQueue.add(frame);
+        server.requestWrite(this);
+    }
+
+    private void consume() throws IOException {
+        readBuffer.flip();
+        try {
+            if (!isHandshakeDone) {
+                if (!consumeHandshake()) {
+                    return;
+                }
+            }
+            consumeFrames();
+        } finally {
+            readBuffer.compact();
+        }
+    }
+
+    private boolean consumeHandshake() throws IOException {
+        int end = indexOfHeaderEnd(readBuffer);
+        if (end < 0) {
+            if (readBuffer.remaining() >= MAX_HANDSHAKE_BYTES) {
+                rejectHandshake("431 Request Header Fields Too Large");
+            }
+            return false;
+        }
+
+        String request = new String(
+                readBuffer.array(),
+                readBuffer.position(),
+                end - readBuffer.position(),
+                StandardCharsets.ISO_8859_1);
+        readBuffer.position(end + 4);
+
+        String webSocketKey = null;
+        boolean isUpgrade = false;
+        String[] lines = request.split("\r\n");
+        if (lines.length == 0 || !lines[0].startsWith("GET ")) {
+            rejectHandshake("405 Method Not Allowed");
+            return false;
+        }
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String name = lines[i].substring(0, colon).trim().toLowerCase(Locale.ENGLISH);
+            String value = lines[i].substring(colon + 1).trim();
+            if (name.equals("upgrade")) {
+                isUpgrade = value.equalsIgnoreCase("websocket");
+            } else if (name.equals("sec-websocket-key")) {
+                webSocketKey = value;
+            }
+        }
+        if (!isUpgrade || webSocketKey == null) {
+            rejectHandshake("400 Bad Request");
+            return false;
+        }
+
+        String response = "HTTP/1.1 101 Switching Protocols\r\n" +
+                "Upgrade: websocket\r\n" +
+                "Connection: Upgrade\r\n" +
+                "Sec-WebSocket-Accept: " + computeAcceptKey(webSocketKey) + "\r\n\r\n";
+        writeQueue.add(ByteBuffer.wrap(response.getBytes(StandardCharsets.ISO_8859_1)));
+        server.requestWrite(this);
+
+        isHandshakeDone = true;
+        session = server.openSession(this);
+        return true;
+    }
+
+    private void rejectHandshake(String status) {
+        String response = "HTTP/1.1 " + status + "\r\nConnection: close\r\nContent-Length: 0\r\n\r\n";
+        writeQueue.add(ByteBuffer.wrap(response.getBytes(StandardCharsets.ISO_8859_1)));
+        isClosing = true;
+        readBuffer.position(readBuffer.limit());
+        server.requestWrite(this);
+    }
+
+    private void consumeFrames() {
+        while (!isClosing) {
+            if (!isInPayload) {
+                if (!consumeFrameHeader()) {
+                    return;
+                }
+                continue;
+            }
+
+            int available = (int) Math.min(payloadRemaining, readBuffer.remaining());
+            if (available == 0 && payloadRemaining > 0) {
+                return;
+            }
+
+            if (frameOpcode >= OPCODE_CLOSE) {
+                unmask(readBuffer.array(), readBuffer.arrayOffset() + readBuffer.position(), available);
+                readBuffer.get(controlPayload, controlLength, available);
+                controlLength += available;
+            } else if (messageOpcode == OPCODE_BINARY) {
+                int accepted = session.offer(
+                        readBuffer.array(),
+                        readBuffer.arrayOffset() + readBuffer.position(),
+                        available,
+                        mask,
+                        maskIndex);
+                maskIndex = (maskIndex + accepted) & 3;
+                readBuffer.position(readBuffer.position() + accepted);
+                payloadRemaining -= accepted;
+                if (accepted < available) {
+                    pauseReading();
+                    return;
+                }
+                available = 0;
+            } else {
+                // text messages carry no audio and are ignored
+                readBuffer.position(readBuffer.position() + available);
+            }
+            payloadRemaining -= available;
+
+            if (payloadRemaining == 0) {
+                isInPayload = false;
+                if (frameOpcode >= OPCODE_CLOSE) {
+                    onControlFrame();
+                }
+            }
+        }
+    }
+
+    private boolean consumeFrameHeader() {
+        if (readBuffer.remaining() < 2) {
+            return false;
+        }
+
+        int start = readBuffer.position();
+        int b0 = readBuffer.get(start) & 0xFF;
+        int b1 = readBuffer.get(start + 1) & 0xFF;
+        boolean isMasked = (b1 & 0x80) != 0;
+        int length7 = b1 & 0x7F;
+        int headerLength = 2 + (length7 == 126 ? 2 : (length7 == 127 ? 8 : 0)) + (isMasked ? 4 : 0);
+        if (readBuffer.remaining() < headerLength) {
+            return false;
+        }
+
+        long length = length7;
+        if (length7 == 126) {
+            length = readBuffer.getShort(start + 2) & 0xFFFF;
+        } else if (length7 == 127) {
+            length = readBuffer.getLong(start + 2);
+        }
+
+        int opcode = b0 & 0x0F;
+        if (!isMasked || (b0 & 0x70) != 0) {
+            sendClose(CLOSE_PROTOCOL_ERROR, "Invalid frame");
+            return false;
+        }
+        if (opcode >= OPCODE_CLOSE) {
+            if ((b0 & 0x80) == 0 || length > controlPayload.length) {
+                sendClose(CLOSE_PROTOCOL_ERROR, "Invalid control frame");
+                return false;
+            }
+        } else if (length < 0 || length > MAX_FRAME_BYTES) {
+            sendClose(CLOSE_TOO_BIG, "Frame too large");
+            return false;
+        } else if (opcode == OPCODE_TEXT || opcode == OPCODE_BINARY) {
+            messageOpcode = opcode;
+        } else if (opcode != OPCODE_CONTINUATION) {
+            sendClose(CLOSE_PROTOCOL_ERROR, "Unknown opcode");
+            return false;
+        }
+
+        readBuffer.position(start + headerLength - 4);
+        readBuffer.get(mask);
+        maskIndex = 0;
+        frameOpcode = opcode;
+        payloadRemaining = length;
+        controlLength = 0;
+        isInPayload = true;
+
+        if (length == 0) {
+            isInPayload = false;
+            if (opcode >= OPCODE_CLOSE) {
+                onControlFrame();
+            }
+        }
+        return true;
+    }
+
+    private void onControlFrame() {
+        switch (frameOpcode) {
+            case OPCODE_PING:
+                enqueue(encodeFrame(OPCODE_PONG, controlPayload, controlLength));
+                break;
+            case OPCODE_CLOSE:
+                sendClose(CLOSE_NORMAL, "");
+                break;
+            case OPCODE_PONG:
+            default:
+                break;
+        }
+    }
+
+    private void pauseReading() {
+        isReadPaused = true;
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+    }
+
+    private void unmask(byte[] data, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            data[offset + i] ^= mask[maskIndex];
+            maskIndex = (maskIndex + 1) & 3;
+        }
+    }
+
+    private static ByteBuffer encodeFrame(int opcode, byte[] payload, int length) {
+        int headerLength = length < 126 ? 2 : (length <= 0xFFFF ? 4 : 10);
+        ByteBuffer frame = ByteBuffer.allocate(headerLength + length);
+        frame.put((byte) (0x80 | opcode));
+        if (length < 126) {
+            frame.put((byte) length);
+        } else if (length <= 0xFFFF) {
+            frame.put((byte) 126);
+            frame.putShort((short) length);
+        } else {
+            frame.put((byte) 127);
+            frame.putLong(length);
+        }
+        frame.put(payload, 0, length);
+        frame.flip();
+        return frame;
+    }
+
+    private static int indexOfHeaderEnd(ByteBuffer buffer) {
+        for (int i = buffer.position(); i + 3 < buffer.limit(); i++) {
+            if (buffer.get(i) == '\r' && buffer.get(i + 1) == '\n'
+                    && buffer.get(i + 2) == '\r' && buffer.get(i + 3) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String computeAcceptKey(String webSocketKey) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            byte[] digest = sha1.digest((webSocketKey + HANDSHAKE_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the WebSocket layer of the server against a local client. Sessions are replaced by a sink that collects
+ * the audio bytes, so no Rhino engine is needed.
+ */
+public class WebSocketConnectionTest {
+
+    private static final int OPCODE_CONTINUATION = 0x0;
+    private static final int OPCODE_TEXT = 0x1;
+    private static final int OPCODE_BINARY = 0x2;
+    private static final int OPCODE_CLOSE = 0x8;
+    private static final int OPCODE_PING = 0x9;
+    private static final int OPCODE_PONG = 0xA;
+
+    private final Random random = new Random(42);
+    private TestServer server;
+    private Socket socket;
+    private InputStream in;
+    private OutputStream out;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new TestServer();
+        server.listen();
+        socket = new Socket("127.0.0.1", server.getPort());
+        socket.setSoTimeout(5000);
+        in = socket.getInputStream();
+        out = socket.getOutputStream();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        socket.close();
+        server.stop();
+    }
+
+    @Test
+    void completesHandshake() throws IOException {
+        // sample nonce and accept key from RFC 6455, section 1.3
+        String response = handshake("dGhlIHNhbXBsZSBub25jZQ==");
+        assertTrue(response.startsWith("HTTP/1.1 101 "));
+        assertTrue(response.contains("Sec-WebSocket-Accept: s3pPLMBiTxaQ9kYGzzhZRbK+xOo=\r\n"));
+
+        sendFrame(true, 0, OPCODE_CLOSE, true, new byte[]{0x03, (byte) 0xE8});
+        Frame close = readFrame();
+        assertEquals(OPCODE_CLOSE, close.opcode);
+        assertEquals(WebSocketConnection.CLOSE_NORMAL, close.getCloseCode());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    void rejectsRequestsWithoutUpgrade() throws IOException {
+        out.write("GET / HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+        assertTrue(readHeaders().startsWith("HTTP/1.1 400 "));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    void rejectsUnmaskedFrames() throws IOException {
+        handshake("dGhlIHNhbXBsZSBub25jZQ==");
+        sendFrame(true, 0, OPCODE_BINARY, false, new byte[16]);
+        assertClosedWith(WebSocketConnection.CLOSE_PROTOCOL_ERROR);
+        assertEquals(0, server.sink.size());
+    }
+
+    @Test
+    void rejectsReservedBits() throws IOException {
+        handshake("dGhlIHNhbXBsZSBub25jZQ==");
+        sendFrame(true, 0x40, OPCODE_BINARY, true, new byte[16]);
+        assertClosedWith(WebSocketConnection.CLOSE_PROTOCOL_ERROR);
+    }
+
+    @Test
+    void rejectsOversizeFrames() throws IOException {
+        handshake("dGhlIHNhbXBsZSBub25jZQ==");
+        // header only: 64-bit length of 1 MiB + 1 and a mask
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write(0x80 | OPCODE_BINARY);
+        header.write(0x80 | 127);
+        long length = (1 << 20) + 1;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            header.write((int) (length >>> shift));
+        }
+        header.write(new byte[4]);
+        out.write(header.toByteArray());
+        assertClosedWith(WebSocketConnection.CLOSE_TOO_BIG);
+    }
+
+    @Test
+    void reassemblesFragmentedMessagesAroundPings() throws Exception {
+        handshake("dGhlIHNhbXBsZSBub25jZQ==");
+        byte[] first = randomBytes(300);
+        byte[] second = randomBytes(700);
+        byte[] ping = "ping".getBytes(StandardCharsets.UTF_8);
+
+        sendFrame(false, 0, OPCODE_BINARY, true, first);
+        sendFrame(true, 0, OPCODE_PING, true, ping);
+        sendFrame(true, 0, OPCODE_CONTINUATION, true, second);
+        // text messages carry no audio
+        sendFrame(true, 0, OPCODE_TEXT, true, "hello".getBytes(StandardCharsets.UTF_8));
+
+        Frame pong = readFrame();
+        assertEquals(OPCODE_PONG, pong.opcode);
+        assertArrayEquals(ping, pong.payload);
+
+        byte[] expected = new byte[first.length + second.length];
+        System.arraycopy(first, 0, expected, 0, first.length);
+        System.arraycopy(second, 0, expected, first.length, second.length);
+        waitFor(() -> server.sink.size() == expected.length);
+        assertArrayEquals(expected, server.sink.toByteArray());
+    }
+
+    @Test
+    void pausesReadingWhileSessionIsFull() throws Exception {
+        server.sinkCapacity = 1000;
+        handshake("dGhlIHNhbXBsZSBub25jZQ==");
+        // larger than the read buffer, so more data stays in the socket while reading is paused
+        byte[] audio = randomBytes(60000);
+        sendFrame(true, 0, OPCODE_BINARY, true, audio);
+
+        waitFor(() -> server.sink.size() == 1000);
+        Thread.sleep(200);
+        assertEquals(1000, server.sink.size());
+        assertEquals(1, server.sink.numShortOffers.get());
+
+        server.sink.grow(audio.length);
+        waitFor(() -> server.sink.size() == audio.length);
+        assertArrayEquals(audio, server.sink.toByteArray());
+    }
+
+    private String handshake(String webSocketKey) throws IOException {
+        out.write(("GET / HTTP/1.1\r\n" +
+                "Host: localhost\r\n" +
+                "Upgrade: websocket\r\n" +
+                "Connection: Upgrade\r\n" +
+                "Sec-WebSocket-Key: " + webSocketKey + "\r\n" +
+                "Sec-WebSocket-Version: 13\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        return readHeaders();
+    }
+
+    private String readHeaders() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        while (!sb.toString().endsWith("\r\n\r\n")) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Connection closed during handshake: " + sb);
+            }
+            sb.append((char) b);
+        }
+        return sb.toString();
+    }
+
+    private void sendFrame(boolean isFinal, int reserved, int opcode, boolean isMasked, byte[] payload)
+            throws IOException {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        frame.write((isFinal ? 0x80 : 0) | reserved | opcode);
+        int maskBit = isMasked ? 0x80 : 0;
+        if (payload.length < 126) {
+            frame.write(maskBit | payload.length);
+        } else {
+            frame.write(maskBit | 126);
+            frame.write(payload.length >> 8);
+            frame.write(payload.length);
+        }
+        byte[] data = payload.clone();
+        if (isMasked) {
+            byte[] mask = randomBytes(4);
+            frame.write(mask);
+            for (int i = 0; i < data.length; i++) {
+                data[i] ^= mask[i & 3];
+            }
+        }
+        frame.write(data);
+        out.write(frame.toByteArray());
+        out.flush();
+    }
+
+    private Frame readFrame() throws IOException {
+        DataInputStream input = new DataInputStream(in);
+        int b0 = input.readUnsignedByte();
+        int b1 = input.readUnsignedByte();
+        assertEquals(0, b1 & 0x80, "server frames must not be masked");
+        long length = b1 & 0x7F;
+        if (length == 126) {
+            length = input.readUnsignedShort();
+        } else if (length == 127) {
+            length = input.readLong();
+        }
+        byte[] payload = new byte[(int) length];
+        input.readFully(payload);
+        return new Frame(b0 & 0x0F, payload);
+    }
+
+    private void assertClosedWith(int code) throws IOException {
+        Frame close = readFrame();
+        assertEquals(OPCODE_CLOSE, close.opcode);
+        assertEquals(code, close.getCloseCode());
+        assertEquals(-1, in.read());
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class Frame {
+        final int opcode;
+        final byte[] payload;
+
+        Frame(int opcode, byte[] payload) {
+            this.opcode = opcode;
+            this.payload = payload;
+        }
+
+        int getCloseCode() {
+            return ((payload[0] & 0xFF) << 8) | (payload[1] & 0xFF);
+        }
+    }
+
+    private static final class TestServer extends RhinoServer {
+
+        volatile int sinkCapacity = Integer.MAX_VALUE;
+        volatile TestSink sink = new TestSink(this, null, 0);
+
+        TestServer() {
+            super(new InetSocketAddress("127.0.0.1", 0), null, 1);
+        }
+
+        @Override
+        AudioSink openSession(WebSocketConnection connection) {
+            sink = new TestSink(this, connection, sinkCapacity);
+            return sink;
+        }
+    }
+
+    /**
+     * Collects unmasked audio bytes up to a capacity, like a session whose buffer is not drained.
+     */
+    private static final class TestSink implements AudioSink {
+
+        private final RhinoServer server;
+        private final WebSocketConnection connection;
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private final AtomicInteger numShortOffers = new AtomicInteger();
+        private int capacity;
+
+        TestSink(RhinoServer server, WebSocketConnection connection, int capacity) {
+            this.server = server;
+            this.connection = connection;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized int offer(byte[] data, int offset, int length, byte[] mask, int maskIndex) {
+            int accepted = Math.min(length, capacity - received.size());
+            for (int i = 0; i < accepted; i++) {
+                received.write(data[offset + i] ^ mask[(maskIndex + i) & 3]);
+            }
+            if (accepted < length) {
+                numShortOffers.incrementAndGet();
+            }
+            return accepted;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+
+        synchronized int size() {
+            return received.size();
+        }
+
+        synchronized byte[] toByteArray() {
+            return Arrays.copyOf(received.toByteArray(), received.size());
+        }
+
+        void grow(int bytes) {
+            synchronized (this) {
+                capacity += bytes;
+            }
+            server.requestResume(connection);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+/**
+ * Compares the per-call overhead of the JNI ({@link RhinoNative}) and FFM ({@link RhinoForeign}) backends. The
+ * `frameLength` benchmarks measure the cost of crossing into native code alone. The `process` benchmarks feed the
+ * frames of a recorded command to one engine through either backend, resetting it whenever it finalizes, and need
+ * an AccessKey in the `pvTestingAccessKey` system property.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+public class NativeBackendBenchmark {
+
+    private static void loadLibrary() {
+        String libraryPath = Utils.getPackagedLibraryPath();
+        for (String dependency : Utils.getLibraryDependencyPaths(libraryPath)) {
+            System.load(dependency);
+        }
+        System.load(libraryPath);
+    }
+
+    @Benchmark
+    public int frameLengthJni(Library library) {
+        return RhinoNative.getFrameLength();
+    }
+
+    @Benchmark
+    public int frameLengthForeign(Library library) {
+        return RhinoForeign.getFrameLength();
+    }
+
+    @Benchmark
+    public boolean processJni(Engine engine) throws RhinoException {
+        boolean isFinalized = RhinoNative.process(engine.handle, engine.nextFrame());
+        if (isFinalized) {
+            RhinoNative.reset(engine.handle);
+        }
+        return isFinalized;
+    }
+
+    @Benchmark
+    public boolean processForeign(Engine engine) throws RhinoException {
+        boolean isFinalized = RhinoForeign.process(engine.handle, engine.nextFrame());
+        if (isFinalized) {
+            RhinoForeign.reset(engine.handle);
+        }
+        return isFinalized;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Library {
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            loadLibrary();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Engine {
+
+        long handle;
+        private short[][] frames;
+        private int frameIndex;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            loadLibrary();
+            String environmentName = Utils.getEnvironmentName();
+            String contextPath = Paths.get(System.getProperty("user.dir"))
+                    .resolve("../../resources/contexts")
+                    .resolve(environmentName)
+                    .resolve("coffee_maker_" + environmentName + ".rhn")
+                    .toString();
+            String device = System.getProperty("pvTestingDevice");
+            handle = RhinoNative.init(
+                    System.getProperty("pvTestingAccessKey"),
+                    Utils.getPackagedModelPath(),
+                    device == null || device.isEmpty() || device.equals("null") ? "best" : device,
+                    contextPath,
+                    0.5f,
+                    1.0f,
+                    true);
+            frames = readFrames(RhinoNative.getFrameLength());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            RhinoNative.delete(handle);
+        }
+
+        short[] nextFrame() {
+            short[] frame = frames[frameIndex];
+            frameIndex = (frameIndex + 1) % frames.length;
+            return frame;
+        }
+
+        private static short[][] readFrames(int frameLength) throws Exception {
+            File audioFile = Paths.get(System.getProperty("user.dir"))
+                    .resolve("../../resources/audio_samples/test_within_context.wav")
+                    .toFile();
+            byte[] pcm;
+            try (AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(audioFile)) {
+                pcm = new byte[(int) audioInputStream.getFrameLength() * 2];
+                int numRead = 0;
+                while (numRead < pcm.length) {
+                    int n = audioInputStream.read(pcm, numRead, pcm.length - numRead);
+                    if (n < 0) {
+                        break;
+                    }
+                    numRead += n;
+                }
+            }
+            short[][] frames = new short[pcm.length / 2 / frameLength][frameLength];
+            ByteBuffer buffer = ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN);
+            for (short[] frame : frames) {
+                buffer.asShortBuffer().get(frame);
+                buffer.position(buffer.position() + frameLength * 2);
+            }
+            return frames;
+        }
+    }
+}
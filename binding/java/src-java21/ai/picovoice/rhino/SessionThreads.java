@@ -0,0 +1,34 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Thread factory for Rhino sessions on Java 21+. Each session runs on its own virtual thread, so a
+ * session blocked on audio I/O does not hold on to an OS thread.
+ */
+class SessionThreads {
+
+    static boolean isVirtualThreadsSupported() {
+        return true;
+    }
+
+    static ExecutorService newSessionExecutor(String namePrefix, boolean useVirtualThreads) {
+        Thread.Builder builder = useVirtualThreads
+                ? Thread.ofVirtual().name(namePrefix, 0)
+                : Thread.ofPlatform().name(namePrefix, 0).daemon(true);
+        return Executors.newThreadPerTaskExecutor(builder.factory());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+/**
+ * Calls into the native Rhino library on Java 22+. Calls go through the Foreign Function and Memory API
+ * ({@link RhinoForeign}) when native access is enabled for the binding, e.g. with
+ * `--enable-native-access=ALL-UNNAMED`, and through JNI ({@link RhinoNative}) otherwise, so that the runtime does not
+ * warn about restricted methods. The `ai.picovoice.rhino.nativeBackend` system property (`ffm` or `jni`) overrides
+ * the choice. The backend is chosen once per process.
+ */
+class NativeBackend {
+
+    static final String PROPERTY = "ai.picovoice.rhino.nativeBackend";
+
+    private static final boolean IS_FOREIGN = isForeignSelected();
+
+    static String getName() {
+        return IS_FOREIGN ? "ffm" : "jni";
+    }
+
+    static String getVersion() {
+        return IS_FOREIGN ? RhinoForeign.getVersion() : RhinoNative.getVersion();
+    }
+
+    static int getFrameLength() {
+        return IS_FOREIGN ? RhinoForeign.getFrameLength() : RhinoNative.getFrameLength();
+    }
+
+    static int getSampleRate() {
+        return IS_FOREIGN ? RhinoForeign.getSampleRate() : RhinoNative.getSampleRate();
+    }
+
+    static void setSdk(String sdk) {
+        if (IS_FOREIGN) {
+            RhinoForeign.setSdk(sdk);
+        } else {
+            RhinoNative.setSdk(sdk);
+        }
+    }
+
+    static long init(
+            String accessKey,
+            String modelPath,
+            String device,
+            String contextPath,
+            float sensitivity,
+            float endpointDurationSec,
+            boolean requireEndpoint) throws RhinoException {
+        if (IS_FOREIGN) {
+            return RhinoForeign.init(
+                    accessKey,
+                    modelPath,
+                    device,
+                    contextPath,
+                    sensitivity,
+                    endpointDurationSec,
+                    requireEndpoint);
+        }
+        return RhinoNative.init(
+                accessKey,
+                modelPath,
+                device,
+                contextPath,
+                sensitivity,
+                endpointDurationSec,
+                requireEndpoint);
+    }
+
+    static void delete(long object) {
+        if (IS_FOREIGN) {
+            RhinoForeign.delete(object);
+        } else {
+            RhinoNative.delete(object);
+        }
+    }
+
+    static boolean process(long object, short[] pcm) throws RhinoException {
+        return IS_FOREIGN ? RhinoForeign.process(object, pcm) : RhinoNative.process(object, pcm);
+    }
+
+    static void reset(long object) throws RhinoException {
+        if (IS_FOREIGN) {
+            RhinoForeign.reset(object);
+        } else {
+            RhinoNative.reset(object);
+        }
+    }
+
+    static RhinoInference getInference(long object) throws RhinoException {
+        return IS_FOREIGN ? RhinoForeign.getInference(object) : RhinoNative.getInference(object);
+    }
+
+    static String getContextInfo(long object) throws RhinoException {
+        return IS_FOREIGN ? RhinoForeign.getContextInfo(object) : RhinoNative.getContextInfo(object);
+    }
+
+    static String[] listHardwareDevices() throws RhinoException {
+        return IS_FOREIGN ? RhinoForeign.listHardwareDevices() : RhinoNative.listHardwareDevices();
+    }
+
+    private static boolean isForeignSelected() {
+        String backend;
+        try {
+            backend = System.getProperty(PROPERTY);
+        } catch (SecurityException e) {
+            backend = null;
+        }
+        if ("ffm".equals(backend)) {
+            return true;
+        }
+        if ("jni".equals(backend)) {
+            return false;
+        }
+        return NativeBackend.class.getModule().isNativeAccessEnabled();
+    }
+}
@@ -0,0 +1,378 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_BOOLEAN;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+
+/**
+ * Calls the C API of the native Rhino library (`pv_rhino.h`) through the Foreign Function and Memory API of Java 22+.
+ * It mirrors {@link RhinoNative}, including the exceptions it throws, and works on the handles it returns.
+ *
+ * <p>The JNI library exports the C API as well, so this class looks functions up in whichever library
+ * {@link Rhino} has loaded. Frames are passed to `pv_rhino_process` as heap segments of the caller's array, with the
+ * call marked critical, so the samples are read in place instead of being copied into native memory.
+ */
+final class RhinoForeign {
+
+    private static final Linker LINKER = Linker.nativeLinker();
+
+    private static volatile Functions functions;
+
+    private RhinoForeign() { }
+
+    static String getVersion() {
+        try {
+            return toJavaString((MemorySegment) functions().version.invokeExact());
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static int getFrameLength() {
+        try {
+            return (int) functions().frameLength.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static int getSampleRate() {
+        try {
+            return (int) functions().sampleRate.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void setSdk(String sdk) {
+        try (Arena arena = Arena.ofConfined()) {
+            functions().setSdk.invokeExact(arena.allocateFrom(sdk));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static long init(
+            String accessKey,
+            String modelPath,
+            String device,
+            String contextPath,
+            float sensitivity,
+            float endpointDurationSec,
+            boolean requireEndpoint) throws RhinoException {
+        Functions f = functions();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment object = arena.allocate(ADDRESS);
+            int status = (int) f.init.invokeExact(
+                    toCString(arena, accessKey),
+                    toCString(arena, modelPath),
+                    toCString(arena, device),
+                    toCString(arena, contextPath),
+                    sensitivity,
+                    endpointDurationSec,
+                    requireEndpoint,
+                    object);
+            check(f, status, "Initialization failed");
+            return object.get(ADDRESS, 0).address();
+        } catch (RhinoException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void delete(long object) {
+        try {
+            functions().delete.invokeExact(MemorySegment.ofAddress(object));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean process(long object, short[] pcm) throws RhinoException {
+        Functions f = functions();
+        // both are heap segments; the critical downcall reads them without copying
+        MemorySegment isFinalized = MemorySegment.ofArray(new byte[1]);
+        int status;
+        try {
+            status = (int) f.process.invokeExact(
+                    MemorySegment.ofAddress(object),
+                    MemorySegment.ofArray(pcm),
+                    isFinalized);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        check(f, status, "Processing failed");
+        return isFinalized.get(JAVA_BYTE, 0) != 0;
+    }
+
+    static void reset(long object) throws RhinoException {
+        Functions f = functions();
+        int status;
+        try {
+            status = (int) f.reset.invokeExact(MemorySegment.ofAddress(object));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        check(f, status, "Rhino reset failed");
+    }
+
+    static RhinoInference getInference(long object) throws RhinoException {
+        Functions f = functions();
+        MemorySegment rhino = MemorySegment.ofAddress(object);
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment isUnderstood = arena.allocate(JAVA_BOOLEAN);
+            check(f, (int) f.isUnderstood.invokeExact(rhino, isUnderstood), "Failed to get is_understood");
+            if (!isUnderstood.get(JAVA_BOOLEAN, 0)) {
+                return new RhinoInference(false, null, new LinkedHashMap<>());
+            }
+
+            MemorySegment intent = arena.allocate(ADDRESS);
+            MemorySegment numSlots = arena.allocate(JAVA_INT);
+            MemorySegment slots = arena.allocate(ADDRESS);
+            MemorySegment values = arena.allocate(ADDRESS);
+            check(f, (int) f.getIntent.invokeExact(rhino, intent, numSlots, slots, values), "Failed to get intent");
+
+            int n = numSlots.get(JAVA_INT, 0);
+            MemorySegment slotArray = slots.get(ADDRESS, 0).reinterpret(n * ADDRESS.byteSize());
+            MemorySegment valueArray = values.get(ADDRESS, 0).reinterpret(n * ADDRESS.byteSize());
+            Map<String, String> slotMap = new LinkedHashMap<>();
+            for (int i = 0; i < n; i++) {
+                slotMap.put(
+                        toJavaString(slotArray.getAtIndex(ADDRESS, i)),
+                        toJavaString(valueArray.getAtIndex(ADDRESS, i)));
+            }
+            String intentString = toJavaString(intent.get(ADDRESS, 0));
+            check(f, (int) f.freeSlotsAndValues.invokeExact(rhino, slotArray, valueArray),
+                    "freeing slots/values memory failed");
+            return new RhinoInference(true, intentString, slotMap);
+        } catch (RhinoException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String getContextInfo(long object) throws RhinoException {
+        Functions f = functions();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment contextInfo = arena.allocate(ADDRESS);
+            int status = (int) f.contextInfo.invokeExact(MemorySegment.ofAddress(object), contextInfo);
+            check(f, status, "Failed to get context information");
+            return toJavaString(contextInfo.get(ADDRESS, 0));
+        } catch (RhinoException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static String[] listHardwareDevices() throws RhinoException {
+        Functions f = functions();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment devices = arena.allocate(ADDRESS);
+            MemorySegment numDevices = arena.allocate(JAVA_INT);
+            check(f, (int) f.listHardwareDevices.invokeExact(devices, numDevices), "listHardwareDevices failed");
+
+            int n = numDevices.get(JAVA_INT, 0);
+            MemorySegment deviceArray = devices.get(ADDRESS, 0).reinterpret(n * ADDRESS.byteSize());
+            String[] result = new String[n];
+            for (int i = 0; i < n; i++) {
+                result[i] = toJavaString(deviceArray.getAtIndex(ADDRESS, i));
+            }
+            f.freeHardwareDevices.invokeExact(deviceArray, n);
+            return result;
+        } catch (RhinoException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static Functions functions() {
+        Functions f = functions;
+        if (f == null) {
+            synchronized (RhinoForeign.class) {
+                f = functions;
+                if (f == null) {
+                    // not cached on failure, so that a later call succeeds once the library is loaded
+                    f = new Functions(SymbolLookup.loaderLookup());
+                    functions = f;
+                }
+            }
+        }
+        return f;
+    }
+
+    private static void check(Functions f, int status, String message) throws RhinoException {
+        if (status != 0) {
+            throw toException(status, message, getErrorStack(f));
+        }
+    }
+
+    private static String[] getErrorStack(Functions f) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment messageStack = arena.allocate(ADDRESS);
+            MemorySegment depth = arena.allocate(JAVA_INT);
+            if ((int) f.getErrorStack.invokeExact(messageStack, depth) != 0) {
+                return new String[0];
+            }
+            int n = depth.get(JAVA_INT, 0);
+            MemorySegment messages = messageStack.get(ADDRESS, 0).reinterpret(n * ADDRESS.byteSize());
+            String[] result = new String[n];
+            for (int i = 0; i < n; i++) {
+                result[i] = toJavaString(messages.getAtIndex(ADDRESS, i));
+            }
+            f.freeErrorStack.invokeExact(messages);
+            return result;
+        } catch (Throwable t) {
+            return new String[0];
+        }
+    }
+
+    private static RhinoException toException(int status, String message, String[] messageStack) {
+        // order of pv_status_t
+        switch (status) {
+            case 1:
+                return new RhinoMemoryException(message, messageStack);
+            case 2:
+                return new RhinoIOException(message, messageStack);
+            case 3:
+                return new RhinoInvalidArgumentException(message, messageStack);
+            case 4:
+                return new RhinoStopIterationException(message, messageStack);
+            case 5:
+                return new RhinoKeyException(message, messageStack);
+            case 6:
+                return new RhinoInvalidStateException(message, messageStack);
+            case 7:
+                return new RhinoRuntimeException(message, messageStack);
+            case 8:
+                return new RhinoActivationException(message, messageStack);
+            case 9:
+                return new RhinoActivationLimitException(message, messageStack);
+            case 10:
+                return new RhinoActivationThrottledException(message, messageStack);
+            case 11:
+                return new RhinoActivationRefusedException(message, messageStack);
+            default:
+                return new RhinoException(message, messageStack);
+        }
+    }
+
+    private static MemorySegment toCString(Arena arena, String s) {
+        return s != null ? arena.allocateFrom(s) : MemorySegment.NULL;
+    }
+
+    private static String toJavaString(MemorySegment cString) {
+        return cString.equals(MemorySegment.NULL) ? null : cString.reinterpret(Long.MAX_VALUE).getString(0);
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+
+    /**
+     * Downcall handles of the C API, bound once the native library is loaded.
+     */
+    private static final class Functions {
+
+        final MethodHandle version;
+        final MethodHandle frameLength;
+        final MethodHandle sampleRate;
+        final MethodHandle setSdk;
+        final MethodHandle init;
+        final MethodHandle delete;
+        final MethodHandle process;
+        final MethodHandle isUnderstood;
+        final MethodHandle getIntent;
+        final MethodHandle freeSlotsAndValues;
+        final MethodHandle reset;
+        final MethodHandle contextInfo;
+        final MethodHandle listHardwareDevices;
+        final MethodHandle freeHardwareDevices;
+        final MethodHandle getErrorStack;
+        final MethodHandle freeErrorStack;
+
+        Functions(SymbolLookup lookup) {
+            version = bind(lookup, "pv_rhino_version", FunctionDescriptor.of(ADDRESS));
+            frameLength = bind(lookup, "pv_rhino_frame_length", FunctionDescriptor.of(JAVA_INT));
+            sampleRate = bind(lookup, "pv_sample_rate", FunctionDescriptor.of(JAVA_INT));
+            setSdk = bind(lookup, "pv_set_sdk", FunctionDescriptor.ofVoid(ADDRESS));
+            init = bind(lookup, "pv_rhino_init", FunctionDescriptor.of(
+                    JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS, JAVA_FLOAT, JAVA_FLOAT, JAVA_BOOLEAN, ADDRESS));
+            delete = bind(lookup, "pv_rhino_delete", FunctionDescriptor.ofVoid(ADDRESS));
+            process = bind(
+                    lookup,
+                    "pv_rhino_process",
+                    FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS),
+                    Linker.Option.critical(true));
+            isUnderstood = bind(
+                    lookup,
+                    "pv_rhino_is_understood",
+                    FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+            getIntent = bind(
+                    lookup,
+                    "pv_rhino_get_intent",
+                    FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+            freeSlotsAndValues = bind(
+                    lookup,
+                    "pv_rhino_free_slots_and_values",
+                    FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS));
+            reset = bind(lookup, "pv_rhino_reset", FunctionDescriptor.of(JAVA_INT, ADDRESS));
+            contextInfo = bind(
+                    lookup,
+                    "pv_rhino_context_info",
+                    FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+            listHardwareDevices = bind(
+                    lookup,
+                    "pv_rhino_list_hardware_devices",
+                    FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+            freeHardwareDevices = bind(
+                    lookup,
+                    "pv_rhino_free_hardware_devices",
+                    FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT));
+            getErrorStack = bind(lookup, "pv_get_error_stack", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+            freeErrorStack = bind(lookup, "pv_free_error_stack", FunctionDescriptor.ofVoid(ADDRESS));
+        }
+
+        private static MethodHandle bind(
+                SymbolLookup lookup,
+                String name,
+                FunctionDescriptor descriptor,
+                Linker.Option... options) {
+            MemorySegment symbol = lookup.find(name).orElseThrow(() -> new UnsatisfiedLinkError(
+                    "Native Rhino library is not loaded or does not export '" + name + "'."));
+            return LINKER.downcallHandle(symbol, descriptor, options);
+        }
+    }
+}
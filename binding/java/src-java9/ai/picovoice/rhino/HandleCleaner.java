@@ -0,0 +1,36 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.lang.ref.Cleaner;
+
+/**
+ * Runs a cleanup action once its owner becomes unreachable, using the `java.lang.ref.Cleaner` of Java 9+.
+ */
+class HandleCleaner {
+
+    private static final Cleaner CLEANER = Cleaner.create(r -> {
+        Thread thread = new Thread(r, "rhino-cleaner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static Cleanable register(Object owner, Runnable action) {
+        return CLEANER.register(owner, action)::clean;
+    }
+
+    interface Cleanable {
+
+        void clean();
+    }
+}
@@ -0,0 +1,322 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link Flow.Processor} that consumes audio frames and publishes finalized inferences. Available on Java 9+.
+ *
+ * <p>Frames are requested from upstream only while the subscriber has outstanding demand, at most
+ * `bufferSize` at a time, so the processor never holds more than `bufferSize` frames and one inference.
+ * When demand runs out, frames already requested are still processed; if one of them finalizes an
+ * inference, the inference is held and no more frames are requested until the subscriber asks for it.
+ *
+ * <p>Frames are processed on the given executor, one at a time and in order. {@link Rhino#process(short[])}
+ * blocks, so the executor should have threads to spare for it. The processor has a single subscriber and
+ * does not take ownership of the Rhino instance.
+ *
+ * <p>Reactive Streams publishers and subscribers can be connected with
+ * `org.reactivestreams.FlowAdapters.toProcessor(new RhinoFlowProcessor(rhino))`.
+ *
+ * <p>The class is only in the Java 9 layer of the multi-release JAR, so code compiled for Java 8 cannot see it.
+ */
+public class RhinoFlowProcessor implements Flow.Processor<short[], RhinoInference> {
+
+    private final Rhino rhino;
+    private final Executor executor;
+    private final int bufferSize;
+    private final int frameLength;
+
+    private final Queue<short[]> frames = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscriber<? super RhinoInference>> downstream = new AtomicReference<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile boolean isUpstreamDone;
+    private volatile Throwable error;
+    private volatile boolean isCancelled;
+
+    // accessed only while draining
+    private long numRequested;
+    private long numConsumed;
+    private RhinoInference pending;
+    private boolean isTerminated;
+
+    /**
+     * Creates a processor that runs on {@link ForkJoinPool#commonPool()} and buffers up to
+     * {@link Flow#defaultBufferSize()} frames.
+     *
+     * @param rhino Rhino instance used to process frames.
+     * @throws RhinoInvalidArgumentException if `rhino` is `null`.
+     */
+    public RhinoFlowProcessor(Rhino rhino) throws RhinoInvalidArgumentException {
+        this(rhino, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rhino      Rhino instance used to process frames.
+     * @param executor   Executor that runs {@link Rhino#process(short[])} and signals the subscriber.
+     * @param bufferSize Maximum number of frames requested from upstream and not yet processed.
+     * @throws RhinoInvalidArgumentException if `rhino` or `executor` is `null` or `bufferSize` is not positive.
+     */
+    public RhinoFlowProcessor(
+            Rhino rhino,
+            Executor executor,
+            int bufferSize) throws RhinoInvalidArgumentException {
+        if (rhino == null) {
+            throw new RhinoInvalidArgumentException("RhinoFlowProcessor requires a Rhino instance.");
+        }
+        if (executor == null) {
+            throw new RhinoInvalidArgumentException("RhinoFlowProcessor requires an executor.");
+        }
+        if (bufferSize <= 0) {
+            throw new RhinoInvalidArgumentException("bufferSize should be a positive integer.");
+        }
+        this.rhino = rhino;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.frameLength = rhino.getFrameLength();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super RhinoInference> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null.");
+        }
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("RhinoFlowProcessor supports a single subscriber."));
+            return;
+        }
+        subscriber.onSubscribe(new InferenceSubscription());
+        schedule();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (subscription == null) {
+            throw new NullPointerException("subscription must not be null.");
+        }
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (isCancelled) {
+            subscription.cancel();
+            return;
+        }
+        schedule();
+    }
+
+    @Override
+    public void onNext(short[] frame) {
+        if (frame == null) {
+            throw new NullPointerException("frame must not be null.");
+        }
+        frames.offer(frame);
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (throwable == null) {
+            throw new NullPointerException("throwable must not be null.");
+        }
+        error = throwable;
+        isUpstreamDone = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        isUpstreamDone = true;
+        schedule();
+    }
+
+    private void schedule() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            cancelUpstream();
+            Flow.Subscriber<? super RhinoInference> subscriber = downstream.get();
+            if (subscriber != null && !isCancelled) {
+                isCancelled = true;
+                subscriber.onError(e);
+            }
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            try {
+                drainOnce();
+            } catch (Throwable t) {
+                // e.g. a RuntimeException from the engine or the subscriber, which would otherwise stall the processor
+                fail(t);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void fail(Throwable throwable) {
+        cancelUpstream();
+        Flow.Subscriber<? super RhinoInference> subscriber = downstream.get();
+        if (isTerminated || subscriber == null) {
+            return;
+        }
+        try {
+            terminate(subscriber, throwable);
+        } catch (Throwable ignored) {
+            // the subscriber failed again; it has been signalled and nothing more is sent to it
+        }
+    }
+
+    private void drainOnce() {
+        Flow.Subscriber<? super RhinoInference> subscriber = downstream.get();
+        if (isTerminated || subscriber == null) {
+            return;
+        }
+        if (isCancelled) {
+            frames.clear();
+            pending = null;
+            isTerminated = true;
+            return;
+        }
+
+        while (true) {
+            Throwable upstreamError = error;
+            if (upstreamError != null) {
+                terminate(subscriber, upstreamError);
+                return;
+            }
+            if (pending != null) {
+                if (demand.get() == 0) {
+                    break;
+                }
+                demand.decrementAndGet();
+                RhinoInference inference = pending;
+                pending = null;
+                subscriber.onNext(inference);
+                continue;
+            }
+
+            short[] frame = frames.poll();
+            if (frame == null) {
+                if (isUpstreamDone) {
+                    terminate(subscriber, null);
+                    return;
+                }
+                break;
+            }
+            numConsumed++;
+            try {
+                if (frame.length != frameLength) {
+                    throw new RhinoInvalidArgumentException(String.format(
+                            "Frame of length %d does not match the required frame length of %d.",
+                            frame.length,
+                            frameLength));
+                }
+                if (rhino.process(frame)) {
+                    pending = rhino.getInference();
+                }
+            } catch (RhinoException e) {
+                cancelUpstream();
+                terminate(subscriber, e);
+                return;
+            }
+            if (isCancelled) {
+                return;
+            }
+        }
+
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null && pending == null && demand.get() > 0 && !isUpstreamDone) {
+            long outstanding = numRequested - numConsumed;
+            long n = bufferSize - outstanding;
+            if (outstanding == 0 || n >= (bufferSize + 1) / 2) {
+                numRequested += n;
+                subscription.request(n);
+            }
+        }
+    }
+
+    private void terminate(Flow.Subscriber<? super RhinoInference> subscriber, Throwable throwable) {
+        isTerminated = true;
+        frames.clear();
+        pending = null;
+        if (throwable != null) {
+            subscriber.onError(throwable);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private final class InferenceSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelUpstream();
+                onError(new IllegalArgumentException("Requested number of inferences should be positive."));
+                return;
+            }
+            long current;
+            long next;
+            do {
+                current = demand.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!demand.compareAndSet(current, next));
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (!isCancelled) {
+                isCancelled = true;
+                cancelUpstream();
+                schedule();
+            }
+        }
+    }
+}
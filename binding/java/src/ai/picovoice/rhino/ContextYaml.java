@@ -0,0 +1,354 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reads and writes the subset of YAML used by context definitions: nested block mappings whose leaves are block
+ * sequences of strings or plain strings. Flow collections other than `[]` and `{}`, anchors and multi-line scalars
+ * are not supported. Unquoted scalars are kept verbatim, so expressions such as `[turn, switch] $state:state` are
+ * read as text rather than as flow sequences.
+ */
+final class ContextYaml {
+
+    private static final Pattern PLAIN_KEY = Pattern.compile("[A-Za-z0-9_.-]+");
+
+    private final List<String> lines = new ArrayList<>();
+    private int pos;
+
+    private ContextYaml(String yaml) {
+        for (String line : yaml.split("\r?\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("#") && !trimmed.equals("---")) {
+                lines.add(line);
+            }
+        }
+    }
+
+    /**
+     * Parses a document.
+     *
+     * @param yaml YAML text.
+     * @return Top-level mapping. Values are `String`, `List<String>` or nested mappings.
+     * @throws RhinoInvalidArgumentException if the text is not in the supported subset.
+     */
+    static Map<String, Object> parse(String yaml) throws RhinoInvalidArgumentException {
+        if (yaml == null) {
+            throw new RhinoInvalidArgumentException("YAML content must not be null.");
+        }
+        ContextYaml parser = new ContextYaml(yaml);
+        if (parser.lines.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        int indent = indentOf(parser.lines.get(0));
+        if (isSequenceItem(parser.lines.get(0), indent)) {
+            throw parser.error("Expected a mapping at the top level");
+        }
+        Map<String, Object> root = parser.parseMapping(indent);
+        if (parser.pos < parser.lines.size()) {
+            throw parser.error("Unexpected indentation");
+        }
+        return root;
+    }
+
+    private Map<String, Object> parseMapping(int indent) throws RhinoInvalidArgumentException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (pos < lines.size()) {
+            String line = lines.get(pos);
+            int lineIndent = indentOf(line);
+            if (lineIndent < indent) {
+                break;
+            }
+            if (lineIndent > indent || isSequenceItem(line, lineIndent)) {
+                throw error("Unexpected indentation");
+            }
+
+            String content = line.substring(lineIndent);
+            int colon = findKeyEnd(content);
+            if (colon < 0) {
+                throw error("Expected 'key:'");
+            }
+            String key = unquote(content.substring(0, colon).trim());
+            String rest = stripComment(content.substring(colon + 1)).trim();
+            if (map.containsKey(key)) {
+                throw error("Duplicate key '" + key + "'");
+            }
+            pos++;
+
+            Object value;
+            if (rest.isEmpty()) {
+                value = parseNested(indent);
+            } else if (rest.equals("[]")) {
+                value = new ArrayList<String>();
+            } else if (rest.equals("{}")) {
+                value = new LinkedHashMap<String, Object>();
+            } else {
+                value = unquote(rest);
+            }
+            map.put(key, value);
+        }
+        return map;
+    }
+
+    private Object parseNested(int parentIndent) throws RhinoInvalidArgumentException {
+        if (pos == lines.size()) {
+            return null;
+        }
+        String line = lines.get(pos);
+        int indent = indentOf(line);
+        // sequences may sit at the same indentation as their key
+        if (isSequenceItem(line, indent) && indent >= parentIndent) {
+            return parseSequence(indent);
+        }
+        if (indent > parentIndent) {
+            return parseMapping(indent);
+        }
+        return null;
+    }
+
+    private List<String> parseSequence(int indent) throws RhinoInvalidArgumentException {
+        List<String> list = new ArrayList<>();
+        while (pos < lines.size()) {
+            String line = lines.get(pos);
+            int lineIndent = indentOf(line);
+            if (lineIndent != indent || !isSequenceItem(line, lineIndent)) {
+                if (lineIndent > indent) {
+                    throw error("Nested sequences and mappings in sequences are not supported");
+                }
+                break;
+            }
+            String item = stripComment(line.substring(lineIndent + 1)).trim();
+            if (item.isEmpty()) {
+                throw error("Empty sequence item");
+            }
+            list.add(unquote(item));
+            pos++;
+        }
+        return list;
+    }
+
+    private RhinoInvalidArgumentException error(String message) {
+        return new RhinoInvalidArgumentException(String.format(
+                "%s in YAML line %d: '%s'.", message, pos + 1, pos < lines.size() ? lines.get(pos).trim() : ""));
+    }
+
+    private static boolean isSequenceItem(String line, int indent) {
+        return line.startsWith("-", indent) && (line.length() == indent + 1 || line.charAt(indent + 1) == ' ');
+    }
+
+    private static int indentOf(String line) {
+        int i = 0;
+        while (i < line.length() && line.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int findKeyEnd(String content) {
+        int start = 0;
+        if (content.startsWith("\"") || content.startsWith("'")) {
+            start = closingQuote(content);
+            if (start < 0) {
+                return -1;
+            }
+        }
+        for (int i = start; i < content.length(); i++) {
+            if (content.charAt(i) == ':' && (i + 1 == content.length() || content.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int closingQuote(String s) {
+        char quote = s.charAt(0);
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (quote == '"' && c == '\\') {
+                i++;
+            } else if (c == quote) {
+                if (quote == '\'' && i + 1 < s.length() && s.charAt(i + 1) == '\'') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static String stripComment(String s) {
+        String trimmed = s.trim();
+        if (trimmed.startsWith("\"") || trimmed.startsWith("'")) {
+            int end = closingQuote(trimmed);
+            return end < 0 ? trimmed : trimmed.substring(0, end + 1);
+        }
+        int comment = s.indexOf(" #");
+        return comment < 0 ? s : s.substring(0, comment);
+    }
+
+    private static String unquote(String s) throws RhinoInvalidArgumentException {
+        if (s.length() < 2 || (s.charAt(0) != '"' && s.charAt(0) != '\'')) {
+            return s;
+        }
+        if (closingQuote(s) != s.length() - 1) {
+            throw new RhinoInvalidArgumentException("Unterminated quoted string in YAML: " + s);
+        }
+        String body = s.substring(1, s.length() - 1);
+        if (s.charAt(0) == '\'') {
+            return body.replace("''", "'");
+        }
+
+        StringBuilder sb = new StringBuilder(body.length());
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c != '\\' || i + 1 == body.length()) {
+                sb.append(c);
+                continue;
+            }
+            char e = body.charAt(++i);
+            switch (e) {
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 >= body.length()) {
+                        throw new RhinoInvalidArgumentException("Invalid escape in YAML: " + s);
+                    }
+                    sb.append((char) Integer.parseInt(body.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default:
+                    sb.append(e);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes a document in the same subset. Keys are written plain when possible and every scalar is quoted.
+     *
+     * @param map Top-level mapping. Values must be `String`, `Collection<String>` or nested mappings.
+     * @return YAML text.
+     */
+    static String dump(Map<String, ?> map) {
+        StringBuilder sb = new StringBuilder();
+        dump(map, 0, sb);
+        return sb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void dump(Map<String, ?> map, int indent, StringBuilder sb) {
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            appendIndent(sb, indent);
+            sb.append(PLAIN_KEY.matcher(entry.getKey()).matches() ? entry.getKey() : quote(entry.getKey()));
+            sb.append(':');
+
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                Map<String, ?> child = (Map<String, ?>) value;
+                if (child.isEmpty()) {
+                    sb.append(" {}\n");
+                } else {
+                    sb.append('\n');
+                    dump(child, indent + 2, sb);
+                }
+            } else if (value instanceof Collection) {
+                Collection<?> items = (Collection<?>) value;
+                if (items.isEmpty()) {
+                    sb.append(" []\n");
+                } else {
+                    sb.append('\n');
+                    for (Object item : items) {
+                        appendIndent(sb, indent + 2);
+                        sb.append("- ").append(quote(String.valueOf(item))).append('\n');
+                    }
+                }
+            } else if (value != null) {
+                sb.append(' ').append(quote(value.toString())).append('\n');
+            } else {
+                sb.append('\n');
+            }
+        }
+    }
+
+    private static void appendIndent(StringBuilder sb, int indent) {
+        for (int i = 0; i < indent; i++) {
+            sb.append(' ');
+        }
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> getMapping(Map<String, Object> map, String key) throws RhinoInvalidArgumentException {
+        Object value = map.get(key);
+        if (value == null) {
+            return Collections.emptyMap();
+        }
+        if (!(value instanceof Map)) {
+            throw new RhinoInvalidArgumentException("Expected '" + key + "' to be a mapping.");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<String> getSequence(Map<String, Object> map, String key) throws RhinoInvalidArgumentException {
+        Object value = map.get(key);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (!(value instanceof List)) {
+            throw new RhinoInvalidArgumentException("Expected '" + key + "' to be a list.");
+        }
+        return (List<String>) value;
+    }
+}
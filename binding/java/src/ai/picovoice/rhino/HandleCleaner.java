@@ -0,0 +1,82 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs a cleanup action once its owner becomes unreachable. This is the Java 8 implementation, which tracks owners
+ * with phantom references polled by a daemon thread. The multi-release JAR replaces it with one based on
+ * `java.lang.ref.Cleaner` on Java 9+ (see `src-java9`).
+ */
+class HandleCleaner {
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+    // phantom references must stay reachable until they are enqueued
+    private static final Set<Ref> REFS = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    static {
+        Thread thread = new Thread(() -> {
+            while (true) {
+                try {
+                    ((Ref) QUEUE.remove()).clean();
+                } catch (InterruptedException e) {
+                    // keep cleaning; the thread lives as long as the process
+                } catch (Throwable t) {
+                    // an action failing must not stop the thread
+                }
+            }
+        }, "rhino-cleaner");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Registers an action to run when the owner becomes phantom reachable. The action must not refer to the owner.
+     */
+    static Cleanable register(Object owner, Runnable action) {
+        Ref ref = new Ref(owner, action);
+        REFS.add(ref);
+        return ref;
+    }
+
+    interface Cleanable {
+
+        /**
+         * Unregisters the owner and runs the action, unless it has already run.
+         */
+        void clean();
+    }
+
+    private static final class Ref extends PhantomReference<Object> implements Cleanable {
+
+        private final Runnable action;
+
+        Ref(Object owner, Runnable action) {
+            super(owner, QUEUE);
+            this.action = action;
+        }
+
+        @Override
+        public void clean() {
+            if (REFS.remove(this)) {
+                clear();
+                action.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+/**
+ * Calls into the native Rhino library. This is the Java 8 implementation, which always goes through JNI
+ * ({@link RhinoNative}). The multi-release JAR replaces it on Java 22+ (see `src-java22`) with one that can call the
+ * C API directly through the Foreign Function and Memory API.
+ */
+class NativeBackend {
+
+    /**
+     * System property selecting the backend, either `jni` or `ffm`.
+     */
+    static final String PROPERTY = "ai.picovoice.rhino.nativeBackend";
+
+    static String getName() {
+        return "jni";
+    }
+
+    static String getVersion() {
+        return RhinoNative.getVersion();
+    }
+
+    static int getFrameLength() {
+        return RhinoNative.getFrameLength();
+    }
+
+    static int getSampleRate() {
+        return RhinoNative.getSampleRate();
+    }
+
+    static void setSdk(String sdk) {
+        RhinoNative.setSdk(sdk);
+    }
+
+    static long init(
+            String accessKey,
+            String modelPath,
+            String device,
+            String contextPath,
+            float sensitivity,
+            float endpointDurationSec,
+            boolean requireEndpoint) throws RhinoException {
+        return RhinoNative.init(
+                accessKey,
+                modelPath,
+                device,
+                contextPath,
+                sensitivity,
+                endpointDurationSec,
+                requireEndpoint);
+    }
+
+    static void delete(long object) {
+        RhinoNative.delete(object);
+    }
+
+    static boolean process(long object, short[] pcm) throws RhinoException {
+        return RhinoNative.process(object, pcm);
+    }
+
+    static void reset(long object) throws RhinoException {
+        RhinoNative.reset(object);
+    }
+
+    static RhinoInference getInference(long object) throws RhinoException {
+        return RhinoNative.getInference(object);
+    }
+
+    static String getContextInfo(long object) throws RhinoException {
+        return RhinoNative.getContextInfo(object);
+    }
+
+    static String[] listHardwareDevices() throws RhinoException {
+        return RhinoNative.listHardwareDevices();
+    }
+}
@@ -1,5 +1,5 @@
 /*
-    Copyright 2018-2025 Picovoice Inc.
+    Copyright 2018-2026 Picovoice Inc.
 
     You may not use this file except in compliance with the license. A copy of the license is
     located in the "LICENSE" file accompanying this source.
@@ -14,6 +14,22 @@ package ai.picovoice.rhino;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 
 /**
@@ -24,9 +40,13 @@ import java.util.ArrayList;
  * frame can be attained by calling {@link #getFrameLength()} . The incoming audio needs to have a
  * sample rate equal to {@link #getSampleRate()}  and be 16-bit linearly-encoded. Rhino operates on
  * single-channel audio.
+ *
+ * <p>Instances should be released with {@link #delete()}, or by creating them in a try-with-resources statement.
+ * An instance that is garbage collected without being deleted is released by a cleaner and reported to
+ * {@link RhinoLeakDetector}.
  */
 
-public class Rhino {
+public class Rhino implements AutoCloseable {
 
     public static final String LIBRARY_PATH;
     public static final String MODEL_PATH;
@@ -38,13 +58,85 @@ public class Rhino {
         MODEL_PATH = Utils.getPackagedModelPath();
     }
 
-    private long handle;
+    private static final RhinoObserver[] NO_OBSERVERS = new RhinoObserver[0];
+    private static final Set<String> LOADED_LIBRARIES = ConcurrentHashMap.newKeySet();
+
+    private static final int DELETED = Integer.MIN_VALUE;
+    private static final long DELETE_WAIT_NANOS = 1_000_000L;
+    private static final AtomicIntegerFieldUpdater<Rhino> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Rhino.class, "state");
+
+    private final String modelPath;
+    private final String contextPath;
+    private final float endpointDurationSec;
+    private final RhinoMemoryStats.Configuration memoryConfiguration;
+    private final long nativeMemory;
+    private final NativeRelease release;
+    private final HandleCleaner.Cleanable cleanable;
+    private final long handle;
+    private final long initNanos;
+    // number of native calls in progress, with the sign bit set once delete() has been called
+    private volatile int state;
+    private volatile Thread deleter;
+    private long warmUpNanos;
     private boolean isFinalized;
+    private volatile RhinoObserver[] observers = NO_OBSERVERS;
+    private volatile RhinoContextInfo contextInfo;
 
     public static void setSdk(String sdk) {
         Rhino.sdk = sdk;
     }
 
+    /**
+     * Trains a context from an existing Rhino context (.rhn) file and new sets of slot values.
+     *
+     * @param accessKey   AccessKey obtained from Picovoice Console (https://console.picovoice.ai/).
+     * @param outputPath  Absolute path to file where the trained context will be saved.
+     * @param language    Two character language code for the context (e.g. "en", "fr").
+     *                    See https://picovoice.ai/docs/model-api/rhino/ for supported languages.
+     * @param contextPath Absolute path to the existing context (.rhn file).
+     * @param modelPath   Absolute path to the file containing model parameters. If `null`, the packaged model
+     *                    is used.
+     * @param slots       Map of existing slot names to the set of values that will replace the
+     *                    corresponding entries in the YAML's {@code context.slots} section.
+     *                    Each value must be a non-empty set of strings.
+     * @throws RhinoException if training fails.
+     */
+    public static void trainContextFromDynamicSlots(
+            String accessKey,
+            String outputPath,
+            String language,
+            String contextPath,
+            String modelPath,
+            Map<String, Set<String>> slots) throws RhinoException {
+        RhinoContextInfo contextInfo = RhinoContextInfo.load(accessKey, modelPath, contextPath);
+        new RhinoContextTrainer.Builder()
+                .setAccessKey(accessKey)
+                .build()
+                .trainFromDynamicSlots(language, contextInfo, slots, outputPath);
+    }
+
+    /**
+     * Trains a context using a YAML configuration string.
+     *
+     * @param accessKey   AccessKey obtained from Picovoice Console (https://console.picovoice.ai/).
+     * @param outputPath  Absolute path to file where the trained context will be saved.
+     * @param language    Two character language code for the context (e.g. "en", "fr").
+     *                    See https://picovoice.ai/docs/model-api/rhino/ for supported languages.
+     * @param yamlContent YAML configuration in string to be used for training.
+     * @throws RhinoException if training fails.
+     */
+    public static void trainContextFromYaml(
+            String accessKey,
+            String outputPath,
+            String language,
+            String yamlContent) throws RhinoException {
+        new RhinoContextTrainer.Builder()
+                .setAccessKey(accessKey)
+                .build()
+                .trainFromYaml(language, yamlContent, outputPath);
+    }
+
     /**
      * Constructor.
      *
@@ -86,37 +178,219 @@ public class Rhino {
             float endpointDurationSec,
             boolean requireEndpoint) throws RhinoException {
 
-        try {
-            ArrayList<String> libraryDependencies = Utils.getLibraryDependencyPaths(libraryPath);
-            for (String dependency : libraryDependencies) {
-                System.load(dependency);
+        long start = System.nanoTime();
+        if (!LOADED_LIBRARIES.contains(libraryPath)) {
+            try {
+                ArrayList<String> libraryDependencies = Utils.getLibraryDependencyPaths(libraryPath);
+                for (String dependency : libraryDependencies) {
+                    System.load(dependency);
+                }
+                System.load(libraryPath);
+            } catch (Exception exception) {
+                throw new RhinoException(exception);
             }
-            System.load(libraryPath);
-        } catch (Exception exception) {
-            throw new RhinoException(exception);
+            LOADED_LIBRARIES.add(libraryPath);
         }
-        RhinoNative.setSdk(Rhino.sdk);
+        NativeBackend.setSdk(Rhino.sdk);
+
+        this.modelPath = modelPath;
+        this.contextPath = contextPath;
+        this.endpointDurationSec = endpointDurationSec;
+        this.memoryConfiguration = new RhinoMemoryStats.Configuration(modelPath, contextPath, device);
 
-        handle = RhinoNative.init(
-                accessKey,
-                modelPath,
-                device,
+        RhinoMemoryStats.InitMeasurement measurement = RhinoMemoryStats.beginInit();
+        try {
+            this.handle = NativeBackend.init(
+                    accessKey,
+                    modelPath,
+                    device,
+                    contextPath,
+                    sensitivity,
+                    endpointDurationSec,
+                    requireEndpoint);
+        } catch (RhinoException | RuntimeException e) {
+            RhinoMemoryStats.abortInit();
+            throw e;
+        }
+        this.nativeMemory = RhinoMemoryStats.endInit(measurement, memoryConfiguration);
+        this.release = new NativeRelease(
+                handle,
                 contextPath,
-                sensitivity,
-                endpointDurationSec,
-                requireEndpoint);
+                memoryConfiguration,
+                nativeMemory,
+                RhinoLeakDetector.sampleCreationSite());
+        this.cleanable = HandleCleaner.register(this, release);
+        this.initNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Creates instances from several builders concurrently, with one thread per available processor. See
+     * {@link #buildAll(Collection, int)}.
+     *
+     * @param builders Builders of the instances.
+     * @return Instances, in the order of the builders.
+     * @throws RhinoException if a builder is invalid or an instance cannot be created.
+     */
+    public static List<Rhino> buildAll(Collection<Builder> builders) throws RhinoException {
+        return buildAll(builders, Runtime.getRuntime().availableProcessors());
     }
 
     /**
-     * Releases resources acquired by Rhino.
+     * Creates instances from several builders concurrently. Every builder is validated on the calling thread before
+     * any instance is created, and a builder that appears several times is validated once. If an instance cannot
+     * be created, instances that have not started are skipped, the ones already created are deleted, and the first
+     * error is thrown with the others attached as suppressed exceptions.
+     *
+     * @param builders   Builders of the instances.
+     * @param numThreads Maximum number of instances created at the same time.
+     * @return Instances, in the order of the builders. {@link #getInitNanos()} reports how long each took.
+     * @throws RhinoException if a builder is invalid or an instance cannot be created.
+     */
+    public static List<Rhino> buildAll(Collection<Builder> builders, int numThreads) throws RhinoException {
+        if (builders == null || builders.isEmpty()) {
+            throw new RhinoInvalidArgumentException("At least one Rhino builder is required.");
+        }
+        if (numThreads <= 0) {
+            throw new RhinoInvalidArgumentException("numThreads should be a positive integer.");
+        }
+
+        List<Builder> list = new ArrayList<>(builders);
+        Set<Builder> validated = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Builder builder : list) {
+            if (builder == null) {
+                throw new RhinoInvalidArgumentException("Rhino builders must not be null.");
+            }
+            if (validated.add(builder)) {
+                builder.validate();
+            }
+        }
+        return createAll(list, numThreads);
+    }
+
+    private static List<Rhino> createAll(List<Builder> builders, int numThreads) throws RhinoException {
+        Rhino[] rhinos = new Rhino[builders.size()];
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean isFailed = new AtomicBoolean();
+
+        AtomicInteger index = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(numThreads, rhinos.length), r -> {
+            Thread thread = new Thread(r, "rhino-init-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean isInterrupted = false;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < rhinos.length; i++) {
+                final int instance = i;
+                futures.add(executor.submit(() -> {
+                    if (isFailed.get()) {
+                        return;
+                    }
+                    try {
+                        rhinos[instance] = builders.get(instance).create();
+                    } catch (Throwable t) {
+                        isFailed.set(true);
+                        failures.add(t);
+                    }
+                }));
+            }
+            // waiting on every future also makes the instances written by the workers visible here
+            for (Future<?> future : futures) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        isInterrupted = true;
+                        isFailed.set(true);
+                    } catch (ExecutionException e) {
+                        failures.add(e.getCause());
+                        break;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (failures.isEmpty() && !isInterrupted) {
+            return Collections.unmodifiableList(Arrays.asList(rhinos));
+        }
+        for (Rhino rhino : rhinos) {
+            if (rhino != null) {
+                rhino.delete();
+            }
+        }
+        if (failures.isEmpty()) {
+            throw new RhinoRuntimeException("Interrupted while creating Rhino instances.");
+        }
+        Throwable first = failures.get(0);
+        RhinoException error = first instanceof RhinoException ?
+                (RhinoException) first :
+                new RhinoRuntimeException(first);
+        for (Throwable other : failures.subList(1, failures.size())) {
+            error.addSuppressed(other);
+        }
+        throw error;
+    }
+
+    /**
+     * Releases resources acquired by Rhino. It is safe to call while other threads are using the instance: calls
+     * that have already started are allowed to finish before the resources are released, and later calls fail with
+     * {@link RhinoInvalidStateException}.
      */
     public void delete() {
-        if (handle != 0) {
-            RhinoNative.delete(handle);
-            handle = 0;
+        int current;
+        do {
+            current = state;
+            if (current < 0) {
+                return;
+            }
+        } while (!STATE.compareAndSet(this, current, current | DELETED));
+
+        if (current != 0) {
+            // the last call may finish before the deleter is published, so waits are bounded
+            deleter = Thread.currentThread();
+            while (state != DELETED) {
+                LockSupport.parkNanos(this, DELETE_WAIT_NANOS);
+            }
+            deleter = null;
+        }
+        release.isDeleted = true;
+        cleanable.clean();
+    }
+
+    private boolean enter() {
+        if (STATE.incrementAndGet(this) < 0) {
+            exit();
+            return false;
+        }
+        return true;
+    }
+
+    // passing this to the updater keeps the instance reachable until the native call has returned, so the cleaner
+    // cannot release the handle while it is in use
+    private void exit() {
+        if (STATE.decrementAndGet(this) == DELETED) {
+            Thread waiting = deleter;
+            if (waiting != null) {
+                LockSupport.unpark(waiting);
+            }
         }
     }
 
+    /**
+     * Releases resources acquired by Rhino. Equivalent to {@link #delete()}.
+     */
+    @Override
+    public void close() {
+        delete();
+    }
+
     /**
      * Processes a frame of audio and emits a flag indicating if the inference is finalized. When
      * finalized, {@link #getInference()} should be called to retrieve the intent and slots, if the
@@ -130,9 +404,6 @@ public class Rhino {
      * @throws RhinoException if there is an error while processing the audio frame.
      */
     public boolean process(short[] pcm) throws RhinoException {
-        if (handle == 0) {
-            throw new RhinoInvalidStateException("Attempted to call Rhino process after delete.");
-        }
         if (pcm == null) {
             throw new RhinoInvalidArgumentException("Passed null frame to Rhino process.");
         }
@@ -143,7 +414,29 @@ public class Rhino {
                             "Received frame of size %d.", getFrameLength(), pcm.length));
         }
 
-        isFinalized = RhinoNative.process(handle, pcm);
+        if (!enter()) {
+            throw new RhinoInvalidStateException("Attempted to call Rhino process after delete.");
+        }
+        RhinoObserver[] observers = this.observers;
+        if (observers.length == 0) {
+            try {
+                isFinalized = NativeBackend.process(handle, pcm);
+            } finally {
+                exit();
+            }
+            return isFinalized;
+        }
+
+        long start = System.nanoTime();
+        try {
+            isFinalized = NativeBackend.process(handle, pcm);
+        } finally {
+            exit();
+        }
+        long processNanos = System.nanoTime() - start;
+        for (RhinoObserver observer : observers) {
+            observer.onProcess(pcm, isFinalized, processNanos);
+        }
         return isFinalized;
     }
 
@@ -154,11 +447,17 @@ public class Rhino {
      * @throws RhinoException if reset fails.
      */
     public void reset() throws RhinoException {
-        if (handle == 0) {
+        if (!enter()) {
             throw new RhinoInvalidStateException("Attempted to call Rhino reset after delete.");
         }
-        
-        RhinoNative.reset(handle);
+        try {
+            NativeBackend.reset(handle);
+        } finally {
+            exit();
+        }
+        for (RhinoObserver observer : observers) {
+            observer.onReset();
+        }
     }
 
     /**
@@ -171,15 +470,55 @@ public class Rhino {
      * @throws RhinoException if inference retrieval fails.
      */
     public RhinoInference getInference() throws RhinoException {
-        if (handle == 0) {
+        if (!enter()) {
             throw new RhinoInvalidStateException("Attempted to call Rhino getInference after delete.");
         }
+        RhinoObserver[] observers = this.observers;
+        long start = observers.length == 0 ? 0 : System.nanoTime();
+        RhinoInference inference;
+        try {
+            if (!isFinalized) {
+                throw new RhinoInvalidStateException("getInference called before Rhino had finalized. " +
+                        "Call getInference only after process has returned true");
+            }
+            inference = NativeBackend.getInference(handle);
+        } finally {
+            exit();
+        }
+        if (observers.length > 0) {
+            long inferenceNanos = System.nanoTime() - start;
+            for (RhinoObserver observer : observers) {
+                observer.onInference(inference, inferenceNanos);
+            }
+        }
+        return inference;
+    }
+
+    /**
+     * Registers an observer that is notified of every call to {@link #process(short[])}, {@link #reset()} and
+     * {@link #getInference()}. Calls are not timed when no observer is registered.
+     *
+     * @param observer Observer to add.
+     */
+    public synchronized void addObserver(RhinoObserver observer) {
+        if (observer == null) {
+            return;
+        }
+        RhinoObserver[] updated = Arrays.copyOf(observers, observers.length + 1);
+        updated[observers.length] = observer;
+        observers = updated;
+    }
 
-        if (!isFinalized) {
-            throw new RhinoInvalidStateException("getInference called before Rhino had finalized. " +
-                    "Call getInference only after process has returned true");
+    /**
+     * Removes an observer added with {@link #addObserver(RhinoObserver)}.
+     *
+     * @param observer Observer to remove.
+     */
+    public synchronized void removeObserver(RhinoObserver observer) {
+        List<RhinoObserver> updated = new ArrayList<>(Arrays.asList(observers));
+        if (updated.remove(observer)) {
+            observers = updated.toArray(NO_OBSERVERS);
         }
-        return RhinoNative.getInference(handle);
     }
 
     /**
@@ -188,10 +527,133 @@ public class Rhino {
      * @return Context information.
      */
     public String getContextInformation() throws RhinoException {
-        if (handle == 0) {
+        if (!enter()) {
             throw new RhinoInvalidStateException("Attempted to call Rhino getContextInformation after delete.");
         }
-        return RhinoNative.getContextInfo(handle);
+        try {
+            return NativeBackend.getContextInfo(handle);
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * Getter for parsed context information. The information is parsed on first use and shared with other
+     * instances loaded from the same context file.
+     *
+     * @return Context information.
+     * @throws RhinoException if the context information cannot be retrieved or parsed.
+     */
+    public RhinoContextInfo getContextInfo() throws RhinoException {
+        RhinoContextInfo info = contextInfo;
+        if (info == null) {
+            if (state < 0) {
+                throw new RhinoInvalidStateException("Attempted to call Rhino getContextInfo after delete.");
+            }
+            info = RhinoContextInfo.get(contextPath, this);
+            contextInfo = info;
+        }
+        return info;
+    }
+
+    /**
+     * Processes synthetic audio so that the first frames of real audio are not slowed down by page faults, native
+     * allocations and JIT compilation, then resets the engine. The audio is low-level noise rather than digital
+     * silence, so it goes through the same code paths as a quiet room. Observers are not notified.
+     *
+     * @param durationSec Duration of audio to process, in seconds.
+     * @return Time spent warming up, in nanoseconds.
+     * @throws RhinoException if the duration is negative or processing fails.
+     */
+    public long warmUp(float durationSec) throws RhinoException {
+        if (durationSec < 0) {
+            throw new RhinoInvalidArgumentException("Warm-up duration should be a non-negative number.");
+        }
+        short[] pcm = new short[Math.round(durationSec * getSampleRate())];
+        int seed = 0x5EED;
+        for (int i = 0; i < pcm.length; i++) {
+            seed = seed * 1103515245 + 12345;
+            pcm[i] = (short) ((seed >> 16) % 32);
+        }
+        return warmUp(pcm);
+    }
+
+    /**
+     * Processes the given audio so that the first frames of real audio are not slowed down by page faults, native
+     * allocations and JIT compilation, then resets the engine. Observers are not notified.
+     *
+     * @param pcm Audio samples, e.g. a representative recording. Samples past the last full frame are ignored.
+     * @return Time spent warming up, in nanoseconds.
+     * @throws RhinoException if processing fails.
+     */
+    public long warmUp(short[] pcm) throws RhinoException {
+        if (pcm == null) {
+            throw new RhinoInvalidArgumentException("Passed null audio to Rhino warmUp.");
+        }
+        if (!enter()) {
+            throw new RhinoInvalidStateException("Attempted to call Rhino warmUp after delete.");
+        }
+        long start = System.nanoTime();
+        try {
+            int frameLength = getFrameLength();
+            short[] frame = new short[frameLength];
+            for (int offset = 0; offset + frameLength <= pcm.length; offset += frameLength) {
+                System.arraycopy(pcm, offset, frame, 0, frameLength);
+                NativeBackend.process(handle, frame);
+            }
+            NativeBackend.reset(handle);
+            isFinalized = false;
+        } finally {
+            exit();
+        }
+        long elapsed = System.nanoTime() - start;
+        warmUpNanos += elapsed;
+        return elapsed;
+    }
+
+    /**
+     * Getter for the time it took to create this instance, including loading the native library the first time.
+     *
+     * @return Initialization time in nanoseconds. Warm-up is not included.
+     */
+    public long getInitNanos() {
+        return initNanos;
+    }
+
+    /**
+     * Getter for the time spent in {@link #warmUp(short[])}, including the warm-up requested with
+     * {@link Builder#setWarmUpDuration(float)}.
+     *
+     * @return Total warm-up time in nanoseconds, or 0 if the instance was not warmed up.
+     */
+    public long getWarmUpNanos() {
+        return warmUpNanos;
+    }
+
+    /**
+     * Getter for the native memory held by this instance, as measured by {@link RhinoMemoryStats}.
+     *
+     * @return Estimated memory in bytes, or -1 if it could not be measured.
+     */
+    public long getNativeMemoryUsage() {
+        return nativeMemory;
+    }
+
+    /**
+     * Getter for the endpoint duration the instance was created with.
+     *
+     * @return Endpoint duration in seconds.
+     */
+    public float getEndpointDurationSec() {
+        return endpointDurationSec;
+    }
+
+    String getModelPath() {
+        return modelPath;
+    }
+
+    String getContextPath() {
+        return contextPath;
     }
 
     /**
@@ -200,7 +662,7 @@ public class Rhino {
      * @return Number of audio samples per frame.
      */
     public int getFrameLength() {
-        return RhinoNative.getFrameLength();
+        return NativeBackend.getFrameLength();
     }
 
     /**
@@ -209,7 +671,7 @@ public class Rhino {
      * @return Audio sample rate accepted by Picovoice.
      */
     public int getSampleRate() {
-        return RhinoNative.getSampleRate();
+        return NativeBackend.getSampleRate();
     }
 
     /**
@@ -226,7 +688,7 @@ public class Rhino {
         } catch (Exception exception) {
             throw new RhinoException(exception);
         }
-        return RhinoNative.listHardwareDevices();
+        return NativeBackend.listHardwareDevices();
     }
 
     /**
@@ -250,7 +712,44 @@ public class Rhino {
      * @return Version.
      */
     public String getVersion() {
-        return RhinoNative.getVersion();
+        return NativeBackend.getVersion();
+    }
+
+    /**
+     * Releases the native handle of an instance, either from {@link #delete()} or once the instance has been garbage
+     * collected. It must not refer to the instance, or the instance would never become unreachable.
+     */
+    private static final class NativeRelease implements Runnable {
+
+        private final long handle;
+        private final String contextPath;
+        private final RhinoMemoryStats.Configuration memoryConfiguration;
+        private final long nativeMemory;
+        private final Throwable creationSite;
+        private volatile boolean isDeleted;
+
+        NativeRelease(
+                long handle,
+                String contextPath,
+                RhinoMemoryStats.Configuration memoryConfiguration,
+                long nativeMemory,
+                Throwable creationSite) {
+            this.handle = handle;
+            this.contextPath = contextPath;
+            this.memoryConfiguration = memoryConfiguration;
+            this.nativeMemory = nativeMemory;
+            this.creationSite = creationSite;
+        }
+
+        @Override
+        public void run() {
+            if (!isDeleted) {
+                RhinoLeakDetector.reportLeak(contextPath, creationSite);
+            }
+            long residentBytes = RhinoMemoryStats.getResidentMemory();
+            NativeBackend.delete(handle);
+            RhinoMemoryStats.recordDelete(memoryConfiguration, nativeMemory, residentBytes);
+        }
     }
 
     /**
@@ -266,6 +765,7 @@ public class Rhino {
         private float sensitivity = 0.5f;
         private float endpointDuration = 1.0f;
         private boolean requireEndpoint = false;
+        private float warmUpDuration = 0f;
 
         public Builder setAccessKey(String accessKey) {
             this.accessKey = accessKey;
@@ -307,6 +807,36 @@ public class Rhino {
             return this;
         }
 
+        /**
+         * Setter for the duration of synthetic audio processed by {@link Rhino#warmUp(float)} before the instance
+         * is returned, so that the instance is already warm when it receives its first audio.
+         *
+         * @param warmUpDuration Duration in seconds. Defaults to 0, which skips warm-up.
+         * @return Builder instance.
+         */
+        public Builder setWarmUpDuration(float warmUpDuration) {
+            this.warmUpDuration = warmUpDuration;
+            return this;
+        }
+
+        Builder copy() {
+            Builder copy = new Builder();
+            copy.accessKey = accessKey;
+            copy.libraryPath = libraryPath;
+            copy.modelPath = modelPath;
+            copy.device = device;
+            copy.contextPath = contextPath;
+            copy.sensitivity = sensitivity;
+            copy.endpointDuration = endpointDuration;
+            copy.requireEndpoint = requireEndpoint;
+            copy.warmUpDuration = warmUpDuration;
+            return copy;
+        }
+
+        float getEndpointDuration() {
+            return endpointDuration;
+        }
+
         /**
          * Validates properties and creates an instance of the Rhino Speech-to-Intent engine.
          *
@@ -314,7 +844,39 @@ public class Rhino {
          * @throws RhinoException if there is an error while initializing Rhino.
          */
         public Rhino build() throws RhinoException {
+            validate();
+            return create();
+        }
+
+        /**
+         * Validates properties once and creates several identical instances concurrently, with one thread per
+         * available processor. See {@link Rhino#buildAll(Collection, int)}.
+         *
+         * @param count Number of instances.
+         * @return Instances of the Rhino Speech-to-Intent engine.
+         * @throws RhinoException if there is an error while initializing Rhino.
+         */
+        public List<Rhino> buildAll(int count) throws RhinoException {
+            return buildAll(count, Runtime.getRuntime().availableProcessors());
+        }
 
+        /**
+         * Validates properties once and creates several identical instances concurrently. See
+         * {@link Rhino#buildAll(Collection, int)}.
+         *
+         * @param count      Number of instances.
+         * @param numThreads Maximum number of instances created at the same time.
+         * @return Instances of the Rhino Speech-to-Intent engine.
+         * @throws RhinoException if there is an error while initializing Rhino.
+         */
+        public List<Rhino> buildAll(int count, int numThreads) throws RhinoException {
+            if (count <= 0) {
+                throw new RhinoInvalidArgumentException("count should be a positive integer.");
+            }
+            return Rhino.buildAll(Collections.nCopies(count, this), numThreads);
+        }
+
+        private void validate() throws RhinoException {
             if (!Utils.isEnvironmentSupported()) {
                 throw new RhinoRuntimeException("Could not initialize Rhino. " +
                         "Execution environment not currently supported by Rhino Java.");
@@ -371,7 +933,13 @@ public class Rhino {
                 throw new RhinoInvalidArgumentException("Endpoint duration value should be within [0.5, 5.0].");
             }
 
-            return new Rhino(
+            if (warmUpDuration < 0) {
+                throw new RhinoInvalidArgumentException("Warm-up duration should be a non-negative number.");
+            }
+        }
+
+        private Rhino create() throws RhinoException {
+            Rhino rhino = new Rhino(
                     accessKey,
                     libraryPath,
                     modelPath,
@@ -380,6 +948,15 @@ public class Rhino {
                     sensitivity,
                     endpointDuration,
                     requireEndpoint);
+            if (warmUpDuration > 0) {
+                try {
+                    rhino.warmUp(warmUpDuration);
+                } catch (RhinoException | RuntimeException e) {
+                    rhino.delete();
+                    throw e;
+                }
+            }
+            return rhino;
         }
     }
 }
@@ -0,0 +1,417 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapts the endpoint duration to each speaker. The endpoint duration of a Rhino instance is fixed when it is
+ * created, so this class keeps one {@link RhinoPool} per endpoint duration from a small set, and moves each session
+ * between them.
+ *
+ * <p>A session learns the pauses its speaker makes between words from the energy of the audio, using a
+ * {@link RhinoEnergyGate}. A pause is a stretch of silence between two runs of speech that is no longer than the
+ * longest endpoint duration plus a second; longer gaps are taken to separate commands. The silence that ends a
+ * command is not a pause: once Rhino finalizes, the gap is measured only if the speaker resumes within a short
+ * window, which means Rhino cut a pause short. A speaker who gets truncated therefore moves to a longer endpoint,
+ * while commands spoken one after another do not. A reset without finalization also starts a new command.
+ *
+ * <p>Once a session has seen enough pauses, {@link Session#reset()} moves it to the shortest endpoint duration that
+ * exceeds the 95th percentile of its recent pauses by a safety margin. Until then, and whenever the pool it should
+ * move to is exhausted, it stays on its current instance.
+ */
+public class RhinoAdaptiveEndpoint {
+
+    /**
+     * Number of recent pauses a session keeps.
+     */
+    public static final int NUM_RECENT_PAUSES = 32;
+
+    /**
+     * Number of pauses a session needs before its endpoint duration is adapted.
+     */
+    public static final int MIN_PAUSES = 8;
+
+    private static final double PAUSE_PERCENTILE = 95;
+    private static final double SAFETY_MARGIN = 1.25;
+    private static final int MAX_PAUSE_EXTRA_MS = 1000;
+    private static final int RESUME_WINDOW_MS = 300;
+
+    private final float[] endpointDurations;
+    private final RhinoPool[] pools;
+    private final int initialIndex;
+    private final float frameMs;
+    private final int maxPauseFrames;
+    private final int resumeWindowFrames;
+    private final AtomicLong numSwitches = new AtomicLong();
+
+    /**
+     * Constructor. One pool is created for every endpoint duration, from copies of the builder with the endpoint
+     * duration replaced, and one instance of each is created right away so that the first session on every
+     * configuration does not wait for initialization. Set a warm-up duration on the builder to warm them up as well.
+     *
+     * @param builder           Builder of the instances. Its endpoint duration is the one new sessions start with,
+     *                          or the closest one in the set.
+     * @param endpointDurations Endpoint durations to choose from, in seconds, each within [0.5, 5.0].
+     * @param capacity          Maximum number of instances per endpoint duration.
+     * @throws RhinoException if an argument is invalid or an instance cannot be created.
+     */
+    public RhinoAdaptiveEndpoint(
+            Rhino.Builder builder,
+            float[] endpointDurations,
+            int capacity) throws RhinoException {
+        if (builder == null) {
+            throw new RhinoInvalidArgumentException("RhinoAdaptiveEndpoint requires a Rhino builder.");
+        }
+        if (endpointDurations == null || endpointDurations.length == 0) {
+            throw new RhinoInvalidArgumentException("At least one endpoint duration is required.");
+        }
+        float[] sorted = endpointDurations.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            if (!(sorted[i] >= 0.5 && sorted[i] <= 5.0)) {
+                throw new RhinoInvalidArgumentException("Endpoint duration value should be within [0.5, 5.0].");
+            }
+            if (i > 0 && sorted[i] == sorted[i - 1]) {
+                throw new RhinoInvalidArgumentException("Endpoint durations should be distinct.");
+            }
+        }
+
+        this.endpointDurations = sorted;
+        this.pools = new RhinoPool[sorted.length];
+        this.initialIndex = closestIndex(sorted, builder.getEndpointDuration());
+        int frameLength = 0;
+        int sampleRate = 0;
+        try {
+            for (int i = 0; i < sorted.length; i++) {
+                pools[i] = new RhinoPool(builder.copy().setEndpointDuration(sorted[i]), capacity);
+                Rhino rhino = pools[i].tryAcquire();
+                frameLength = rhino.getFrameLength();
+                sampleRate = rhino.getSampleRate();
+                pools[i].release(rhino);
+            }
+        } catch (RhinoException | RuntimeException e) {
+            delete();
+            throw e;
+        }
+        this.frameMs = frameLength * 1000f / sampleRate;
+        this.maxPauseFrames = (int) ((sorted[sorted.length - 1] * 1000 + MAX_PAUSE_EXTRA_MS) / frameMs);
+        this.resumeWindowFrames = (int) Math.ceil(RESUME_WINDOW_MS / frameMs);
+    }
+
+    /**
+     * Opens a session on an instance with the initial endpoint duration, or the closest one available.
+     *
+     * @return A new session.
+     * @throws RhinoException if every pool is exhausted or creating an instance fails.
+     */
+    public Session open() throws RhinoException {
+        for (int distance = 0; distance < pools.length; distance++) {
+            for (int index : new int[]{initialIndex - distance, initialIndex + distance}) {
+                if (index >= 0 && index < pools.length) {
+                    Rhino rhino = pools[index].tryAcquire();
+                    if (rhino != null) {
+                        return new Session(rhino, index);
+                    }
+                }
+                if (distance == 0) {
+                    break;
+                }
+            }
+        }
+        throw new RhinoInvalidStateException("No Rhino instance is available for a new session.");
+    }
+
+    /**
+     * Releases the idle instances of every pool. Instances held by sessions are deleted when the sessions are
+     * closed.
+     */
+    public void delete() {
+        for (RhinoPool pool : pools) {
+            if (pool != null) {
+                pool.delete();
+            }
+        }
+    }
+
+    /**
+     * Getter for the endpoint durations sessions choose from.
+     *
+     * @return Endpoint durations in seconds, in increasing order.
+     */
+    public float[] getEndpointDurations() {
+        return endpointDurations.clone();
+    }
+
+    /**
+     * Getter for the pool of one endpoint duration, e.g. to monitor how many instances it holds.
+     *
+     * @param endpointDurationSec One of the endpoint durations.
+     * @return The pool, or `null` if the endpoint duration is not in the set.
+     */
+    public RhinoPool getPool(float endpointDurationSec) {
+        int index = Arrays.binarySearch(endpointDurations, endpointDurationSec);
+        return index >= 0 ? pools[index] : null;
+    }
+
+    /**
+     * Getter for the number of times a session moved to another endpoint duration.
+     *
+     * @return Number of switches since creation.
+     */
+    public long getNumSwitches() {
+        return numSwitches.get();
+    }
+
+    private static int closestIndex(float[] values, float value) {
+        int closest = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (Math.abs(values[i] - value) < Math.abs(values[closest] - value)) {
+                closest = i;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Speech-to-intent session of one speaker. It is used like a Rhino instance and must be used from one thread at a
+     * time.
+     */
+    public final class Session implements AutoCloseable {
+
+        private final PauseTracker pauses = new PauseTracker(maxPauseFrames, resumeWindowFrames);
+
+        private Rhino rhino;
+        private int index;
+
+        private Session(Rhino rhino, int index) {
+            this.rhino = rhino;
+            this.index = index;
+        }
+
+        /**
+         * Processes a frame of audio. See {@link Rhino#process(short[])}.
+         *
+         * @param pcm A frame of audio samples.
+         * @return Flag indicating whether the engine has finalized intent extraction.
+         * @throws RhinoException if the session is closed or processing fails.
+         */
+        public boolean process(short[] pcm) throws RhinoException {
+            checkOpen();
+            boolean isFinalized = rhino.process(pcm);
+            pauses.process(pcm);
+            if (isFinalized) {
+                pauses.finalized();
+            }
+            return isFinalized;
+        }
+
+        /**
+         * Gets the inference after {@link #process(short[])} returned `true`. See {@link Rhino#getInference()}.
+         *
+         * @return The result of inference.
+         * @throws RhinoException if the session is closed or inference retrieval fails.
+         */
+        public RhinoInference getInference() throws RhinoException {
+            checkOpen();
+            return rhino.getInference();
+        }
+
+        /**
+         * Resets the session for a new command, moving it to the endpoint duration that suits the speaker if that
+         * differs from the current one and an instance is available.
+         *
+         * @throws RhinoException if the session is closed or resetting fails.
+         */
+        public void reset() throws RhinoException {
+            checkOpen();
+            pauses.reset();
+            int target = getTargetIndex();
+            if (target != index) {
+                Rhino next = pools[target].tryAcquire();
+                if (next != null) {
+                    Rhino previous = rhino;
+                    int previousIndex = index;
+                    rhino = next;
+                    index = target;
+                    numSwitches.incrementAndGet();
+                    // instances come out of the pool reset, and the pool resets the previous one
+                    pools[previousIndex].release(previous);
+                    return;
+                }
+            }
+            rhino.reset();
+        }
+
+        /**
+         * Getter for the endpoint duration of the instance the session is on.
+         *
+         * @return Endpoint duration in seconds.
+         */
+        public float getEndpointDurationSec() {
+            return endpointDurations[index];
+        }
+
+        /**
+         * Getter for the endpoint duration the session would move to at the next {@link #reset()}.
+         *
+         * @return Endpoint duration in seconds.
+         */
+        public float getTargetEndpointDurationSec() {
+            return endpointDurations[getTargetIndex()];
+        }
+
+        /**
+         * Getter for the number of pauses measured.
+         *
+         * @return Number of pauses since the session was opened.
+         */
+        public int getNumPauses() {
+            return pauses.getNumPauses();
+        }
+
+        /**
+         * Getter for the pause length below which 95% of the recent pauses fall.
+         *
+         * @return Pause length in milliseconds, or -1 before {@link #MIN_PAUSES} pauses have been measured.
+         */
+        public long getPauseMs() {
+            return pauses.getNumPauses() < MIN_PAUSES ? -1 : Math.round(pauses.getPercentileFrames() * frameMs);
+        }
+
+        /**
+         * Closes the session and returns its instance to its pool.
+         *
+         * @throws RhinoException if returning the instance fails.
+         */
+        @Override
+        public void close() throws RhinoException {
+            if (rhino == null) {
+                return;
+            }
+            Rhino closed = rhino;
+            rhino = null;
+            pools[index].release(closed);
+        }
+
+        private int getTargetIndex() {
+            if (pauses.getNumPauses() < MIN_PAUSES) {
+                return index;
+            }
+            double requiredMs = pauses.getPercentileFrames() * frameMs * SAFETY_MARGIN;
+            for (int i = 0; i < endpointDurations.length; i++) {
+                if (endpointDurations[i] * 1000 >= requiredMs) {
+                    return i;
+                }
+            }
+            return endpointDurations.length - 1;
+        }
+
+        private void checkOpen() throws RhinoInvalidStateException {
+            if (rhino == null) {
+                throw new RhinoInvalidStateException("Attempted to use a RhinoAdaptiveEndpoint session after close.");
+            }
+        }
+    }
+
+    /**
+     * Measures the pauses between runs of speech within commands, in frames, and keeps the most recent ones.
+     */
+    static final class PauseTracker {
+
+        private final RhinoEnergyGate gate = new RhinoEnergyGate();
+        private final int maxPauseFrames;
+        private final int resumeWindowFrames;
+        private final int[] pauseFrames = new int[NUM_RECENT_PAUSES];
+        private final int[] sortedPauseFrames = new int[NUM_RECENT_PAUSES];
+
+        private int numPauses;
+        private int speechRun;
+        private int silenceRun;
+        private boolean hasSpoken;
+        private int resumeLimit = -1;
+
+        PauseTracker(int maxPauseFrames, int resumeWindowFrames) {
+            this.maxPauseFrames = maxPauseFrames;
+            this.resumeWindowFrames = resumeWindowFrames;
+        }
+
+        void process(short[] pcm) {
+            if (gate.process(pcm)) {
+                speechRun++;
+                // a run of two frames confirms speech, so a click does not split a pause in two
+                if (speechRun == 2) {
+                    int limit = resumeLimit >= 0 ? resumeLimit : maxPauseFrames;
+                    if (hasSpoken && silenceRun > 0 && silenceRun <= limit) {
+                        pauseFrames[numPauses % NUM_RECENT_PAUSES] = silenceRun;
+                        numPauses++;
+                    }
+                    hasSpoken = true;
+                    silenceRun = 0;
+                    resumeLimit = -1;
+                }
+            } else {
+                if (hasSpoken) {
+                    // an unconfirmed speech frame belongs to the pause
+                    silenceRun += speechRun == 1 ? 2 : 1;
+                    if (resumeLimit >= 0 && silenceRun > resumeLimit) {
+                        endCommand();
+                    }
+                }
+                speechRun = 0;
+            }
+        }
+
+        /**
+         * Called when Rhino finalizes. The silence so far only counts as a pause if speech resumes within the resume
+         * window, i.e. if Rhino cut the command short.
+         */
+        void finalized() {
+            if (hasSpoken) {
+                resumeLimit = silenceRun + resumeWindowFrames;
+            }
+        }
+
+        /**
+         * Called when the session is reset. A reset right after finalization keeps the resume window open; any other
+         * reset starts a new command.
+         */
+        void reset() {
+            if (resumeLimit < 0) {
+                endCommand();
+            }
+        }
+
+        private void endCommand() {
+            hasSpoken = false;
+            silenceRun = 0;
+            resumeLimit = -1;
+        }
+
+        int getNumPauses() {
+            return numPauses;
+        }
+
+        int getPercentileFrames() {
+            int n = Math.min(numPauses, NUM_RECENT_PAUSES);
+            if (n == 0) {
+                return 0;
+            }
+            System.arraycopy(pauseFrames, 0, sortedPauseFrames, 0, n);
+            Arrays.sort(sortedPauseFrames, 0, n);
+            int rank = (int) Math.ceil(PAUSE_PERCENTILE / 100 * n);
+            return sortedPauseFrames[Math.max(0, rank - 1)];
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.IOException;
+
+/**
+ * Blocking source of audio frames for a Rhino session.
+ */
+public interface RhinoAudioSource {
+
+    /**
+     * Reads the next frame of audio, blocking until it is available.
+     *
+     * @param frame Buffer to fill. Its length is equal to {@link Rhino#getFrameLength()}.
+     * @return `true` if the frame was filled, `false` if the stream has ended.
+     * @throws IOException if reading from the underlying stream fails.
+     */
+    boolean read(short[] frame) throws IOException;
+}
@@ -0,0 +1,489 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Trains large numbers of contexts with dynamic slots, e.g. one per user, through a shared
+ * {@link RhinoContextTrainer}.
+ *
+ * <ul>
+ *     <li>At most a fixed number of requests are in flight. Jobs are pulled from the input only as requests
+ *     complete, so the input can be a lazily generated stream.</li>
+ *     <li>A job whose context is identical to one already in flight waits for that request and copies its result
+ *     instead of sending another.</li>
+ *     <li>Throttled requests are retried with exponential backoff and full jitter.</li>
+ * </ul>
+ */
+public class RhinoBulkTrainer {
+
+    private final RhinoContextTrainer trainer;
+    private final int maxConcurrency;
+    private final int maxRetries;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private RhinoBulkTrainer(
+            RhinoContextTrainer trainer,
+            int maxConcurrency,
+            int maxRetries,
+            long initialBackoffMs,
+            long maxBackoffMs) {
+        this.trainer = trainer;
+        this.maxConcurrency = maxConcurrency;
+        this.maxRetries = maxRetries;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    /**
+     * Trains every job in a stream and waits for all of them to finish.
+     *
+     * @param jobs     Jobs to train.
+     * @param listener Listener notified as each job finishes, from the training threads.
+     * @return Statistics of the run.
+     * @throws InterruptedException if interrupted while waiting. Requests already in flight are abandoned.
+     */
+    public Stats trainAll(Stream<Job> jobs, Listener listener) throws InterruptedException {
+        return trainAll(jobs.iterator(), listener);
+    }
+
+    /**
+     * Trains every job from an iterator and waits for all of them to finish.
+     *
+     * @param jobs     Jobs to train. The iterator is only advanced from the calling thread.
+     * @param listener Listener notified as each job finishes, from the training threads.
+     * @return Statistics of the run.
+     * @throws InterruptedException if interrupted while waiting. Requests already in flight are abandoned.
+     */
+    public Stats trainAll(Iterator<Job> jobs, Listener listener) throws InterruptedException {
+        Stats stats = new Stats();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency, r -> {
+            Thread thread = new Thread(r, "rhino-bulk-trainer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        try {
+            while (jobs.hasNext()) {
+                Job job = jobs.next();
+                stats.numJobs.incrementAndGet();
+                stats.pending.incrementAndGet();
+
+                String yaml;
+                Path outputPath;
+                try {
+                    yaml = RhinoContextTrainer.mergeSlots(job.contextInfo, job.slots);
+                    outputPath = toOutputPath(job);
+                } catch (RhinoException e) {
+                    finish(job, e, stats, listener);
+                    continue;
+                }
+
+                String key = job.language + '\0' + yaml;
+                CompletableFuture<Path> leader = inFlight.get(key);
+                if (leader != null) {
+                    stats.numCoalesced.incrementAndGet();
+                    leader.whenComplete((path, error) -> finish(
+                            job,
+                            copyResult(path, error, outputPath),
+                            stats,
+                            listener));
+                    continue;
+                }
+
+                permits.acquire();
+                CompletableFuture<Path> result = new CompletableFuture<>();
+                inFlight.put(key, result);
+                executor.execute(() -> {
+                    RhinoException error = null;
+                    try {
+                        error = train(job, yaml, stats);
+                    } catch (Throwable t) {
+                        // an Error still fails the job, so trainAll and coalesced jobs do not wait forever
+                        error = new RhinoRuntimeException(t);
+                        throw t;
+                    } finally {
+                        // remove before completing, so no follower attaches after the result is delivered
+                        inFlight.remove(key);
+                        permits.release();
+                        if (error == null) {
+                            result.complete(outputPath);
+                        } else {
+                            result.completeExceptionally(error);
+                        }
+                        finish(job, error, stats, listener);
+                    }
+                });
+            }
+            stats.awaitCompletion();
+        } finally {
+            executor.shutdownNow();
+            stats.elapsedNanos = System.nanoTime() - start;
+        }
+        return stats;
+    }
+
+    private RhinoException train(Job job, String yaml, Stats stats) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                trainer.trainFromYaml(job.language, yaml, job.outputPath);
+                return null;
+            } catch (RhinoActivationThrottledException e) {
+                if (attempt >= maxRetries) {
+                    return e;
+                }
+                stats.numRetries.incrementAndGet();
+                long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt, 30));
+                try {
+                    TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return e;
+                }
+            } catch (RhinoException e) {
+                return e;
+            } catch (RuntimeException e) {
+                // e.g. from a custom transport
+                return new RhinoRuntimeException(e);
+            }
+        }
+    }
+
+    private static Path toOutputPath(Job job) throws RhinoInvalidArgumentException {
+        if (job.outputPath == null) {
+            throw new RhinoInvalidArgumentException("Job '" + job.id + "' has no output path.");
+        }
+        try {
+            return Paths.get(job.outputPath);
+        } catch (InvalidPathException e) {
+            throw new RhinoInvalidArgumentException(
+                    "Job '" + job.id + "' has an invalid output path: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs in a completion callback, where an exception would be swallowed and leave the job unfinished, so every
+     * failure is returned.
+     */
+    private static RhinoException copyResult(Path source, Throwable error, Path outputPath) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            return cause instanceof RhinoException ? (RhinoException) cause : new RhinoRuntimeException(cause);
+        }
+        try {
+            Path target = outputPath.toAbsolutePath().normalize();
+            if (target.equals(source.toAbsolutePath().normalize())) {
+                return null;
+            }
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            return null;
+        } catch (IOException e) {
+            return new RhinoIOException(e);
+        } catch (RuntimeException e) {
+            return new RhinoRuntimeException(e);
+        }
+    }
+
+    private static void finish(Job job, RhinoException error, Stats stats, Listener listener) {
+        try {
+            if (error == null) {
+                stats.numSucceeded.incrementAndGet();
+                if (listener != null) {
+                    listener.onSuccess(job);
+                }
+            } else {
+                stats.numFailed.incrementAndGet();
+                if (listener != null) {
+                    listener.onFailure(job, error);
+                }
+            }
+        } finally {
+            stats.complete();
+        }
+    }
+
+    /**
+     * A context to train: an existing context with new values for some of its slots.
+     */
+    public static class Job {
+
+        private final String id;
+        private final String language;
+        private final RhinoContextInfo contextInfo;
+        private final Map<String, ? extends Collection<String>> slots;
+        private final String outputPath;
+
+        /**
+         * Constructor.
+         *
+         * @param id          Identifier of the job, e.g. a user ID. Not sent to the API.
+         * @param language    Two character language code for the context (e.g. "en", "fr").
+         * @param contextInfo Information of the existing context.
+         * @param slots       Map of existing slot names to the values that replace theirs.
+         * @param outputPath  Path of the file where the trained context is saved.
+         */
+        public Job(
+                String id,
+                String language,
+                RhinoContextInfo contextInfo,
+                Map<String, ? extends Collection<String>> slots,
+                String outputPath) {
+            this.id = id;
+            this.language = language;
+            this.contextInfo = contextInfo;
+            this.slots = slots;
+            this.outputPath = outputPath;
+        }
+
+        /**
+         * Getter for the identifier of the job.
+         *
+         * @return Identifier.
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Getter for the path of the trained context.
+         *
+         * @return Output path.
+         */
+        public String getOutputPath() {
+            return outputPath;
+        }
+    }
+
+    /**
+     * Receives the outcome of each job.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked when a job's context has been saved.
+         *
+         * @param job The job.
+         */
+        default void onSuccess(Job job) {
+        }
+
+        /**
+         * Invoked when a job has failed.
+         *
+         * @param job   The job.
+         * @param error Cause of the failure.
+         */
+        default void onFailure(Job job, RhinoException error) {
+        }
+    }
+
+    /**
+     * Statistics of a run.
+     */
+    public static class Stats {
+
+        private final AtomicInteger numJobs = new AtomicInteger();
+        private final AtomicInteger numSucceeded = new AtomicInteger();
+        private final AtomicInteger numFailed = new AtomicInteger();
+        private final AtomicInteger numCoalesced = new AtomicInteger();
+        private final AtomicInteger numRetries = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile long elapsedNanos;
+
+        Stats() {
+        }
+
+        private void complete() {
+            if (pending.decrementAndGet() == 0) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        private synchronized void awaitCompletion() throws InterruptedException {
+            while (pending.get() > 0) {
+                wait();
+            }
+        }
+
+        /**
+         * Getter for the number of jobs read from the input.
+         *
+         * @return Number of jobs.
+         */
+        public int getNumJobs() {
+            return numJobs.get();
+        }
+
+        /**
+         * Getter for the number of jobs whose context was saved.
+         *
+         * @return Number of successful jobs.
+         */
+        public int getNumSucceeded() {
+            return numSucceeded.get();
+        }
+
+        /**
+         * Getter for the number of failed jobs.
+         *
+         * @return Number of failed jobs.
+         */
+        public int getNumFailed() {
+            return numFailed.get();
+        }
+
+        /**
+         * Getter for the number of jobs served by another job's identical in-flight request.
+         *
+         * @return Number of coalesced jobs.
+         */
+        public int getNumCoalesced() {
+            return numCoalesced.get();
+        }
+
+        /**
+         * Getter for the number of retried requests.
+         *
+         * @return Number of retries.
+         */
+        public int getNumRetries() {
+            return numRetries.get();
+        }
+
+        /**
+         * Getter for the duration of the run.
+         *
+         * @return Elapsed time in nanoseconds.
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Getter for the throughput of the run.
+         *
+         * @return Finished jobs per second.
+         */
+        public double getJobsPerSecond() {
+            long nanos = elapsedNanos;
+            return nanos == 0 ? 0 : (numSucceeded.get() + numFailed.get()) * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%d jobs: %d succeeded, %d failed, %d coalesced, %d retries, %.1f jobs/s",
+                    getNumJobs(),
+                    getNumSucceeded(),
+                    getNumFailed(),
+                    getNumCoalesced(),
+                    getNumRetries(),
+                    getJobsPerSecond());
+        }
+    }
+
+    /**
+     * Builder for creating an instance of RhinoBulkTrainer with a mixture of default arguments.
+     */
+    public static class Builder {
+
+        private RhinoContextTrainer trainer = null;
+        private int maxConcurrency = 8;
+        private int maxRetries = 5;
+        private long initialBackoffMs = 500;
+        private long maxBackoffMs = 30000;
+
+        /**
+         * Setter for the trainer that sends requests.
+         *
+         * @param trainer Trainer shared by all requests.
+         * @return Builder instance.
+         */
+        public Builder setTrainer(RhinoContextTrainer trainer) {
+            this.trainer = trainer;
+            return this;
+        }
+
+        /**
+         * Setter for the maximum number of requests in flight.
+         *
+         * @param maxConcurrency Maximum number of concurrent requests. Defaults to 8.
+         * @return Builder instance.
+         */
+        public Builder setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Setter for the retry policy of throttled requests. The delay before retry `n` (from 0) is drawn uniformly
+         * from `[0, min(maxBackoffMs, initialBackoffMs * 2^n)]`.
+         *
+         * @param maxRetries       Maximum number of retries per job. Defaults to 5.
+         * @param initialBackoffMs Upper bound of the first delay in milliseconds. Defaults to 500.
+         * @param maxBackoffMs     Upper bound of any delay in milliseconds. Defaults to 30000.
+         * @return Builder instance.
+         */
+        public Builder setRetryPolicy(int maxRetries, long initialBackoffMs, long maxBackoffMs) {
+            this.maxRetries = maxRetries;
+            this.initialBackoffMs = initialBackoffMs;
+            this.maxBackoffMs = maxBackoffMs;
+            return this;
+        }
+
+        /**
+         * Creates a bulk trainer.
+         *
+         * @return RhinoBulkTrainer instance.
+         * @throws RhinoInvalidArgumentException if an argument is invalid.
+         */
+        public RhinoBulkTrainer build() throws RhinoInvalidArgumentException {
+            if (trainer == null) {
+                throw new RhinoInvalidArgumentException("A RhinoContextTrainer is required.");
+            }
+            if (maxConcurrency <= 0) {
+                throw new RhinoInvalidArgumentException("maxConcurrency should be a positive integer.");
+            }
+            if (maxRetries < 0 || initialBackoffMs < 0 || maxBackoffMs < initialBackoffMs) {
+                throw new RhinoInvalidArgumentException("Invalid retry policy.");
+            }
+            return new RhinoBulkTrainer(trainer, maxConcurrency, maxRetries, initialBackoffMs, maxBackoffMs);
+        }
+    }
+}
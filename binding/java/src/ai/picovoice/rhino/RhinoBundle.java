@@ -0,0 +1,391 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only view of a bundle of contexts written by {@link RhinoBundleWriter}. A bundle replaces a directory of
+ * context files with a single file. Opening it maps the file into memory and reads its index without reading the
+ * entries.
+ *
+ * <p>The native engine only loads contexts and models from files, so a bundle does not reduce the file I/O of creating
+ * Rhino instances. {@link #getContextPath(String)} writes an entry to a cache directory the first time it is requested
+ * and returns the path of that file. Each instance then opens the cached context and model files as it would any
+ * other. Cached files are named after the checksum and size of their entry and written atomically, so they are reused
+ * across restarts and by other processes sharing the cache directory. In the default cache, a file with the expected
+ * name and size is used without being read. In a cache directory given by the caller, a cached file is checked against
+ * the checksum of its entry before it is first used by a process, and rewritten if it does not match.
+ *
+ * <p>The default cache directory is created under the system temporary directory, readable only by the current user,
+ * and refused if it exists with other permissions or another owner.
+ *
+ * <p>File format (little-endian): a header with the magic number, format version, index offset and index size,
+ * followed by the entries back to back and the index. The index holds the number of entries and, for each entry,
+ * its type, name, offset, length and CRC-32.
+ */
+public class RhinoBundle implements Closeable {
+
+    static final int MAGIC = 0x424E4852; // "RHNB"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 20;
+
+    static final byte CONTEXT = 1;
+    static final byte MODEL = 2;
+    static final String MODEL_NAME = "model";
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private final FileChannel channel;
+    private final MappedByteBuffer data;
+    private final Path cacheDirectory;
+    private final boolean isPrivateCache;
+    private final Map<String, Entry> contexts = new LinkedHashMap<>();
+    private final Entry model;
+    private final Map<Entry, String> materialized = new ConcurrentHashMap<>();
+
+    /**
+     * Opens a bundle, caching entries in a directory of the current user under the system temporary directory.
+     *
+     * @param path Path of the bundle file.
+     * @throws IOException if the bundle cannot be read or is corrupt.
+     */
+    public RhinoBundle(String path) throws IOException {
+        this(path, null);
+    }
+
+    /**
+     * Opens a bundle.
+     *
+     * @param path           Path of the bundle file.
+     * @param cacheDirectory Directory where entries are written when their path is requested. If `null`, a
+     *                       directory under the system temporary directory that only the current user can access
+     *                       is used.
+     * @throws IOException if the bundle cannot be read or is corrupt.
+     */
+    public RhinoBundle(String path, String cacheDirectory) throws IOException {
+        this.channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Bundles larger than 2 GiB are not supported.");
+            }
+            this.data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            data.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (size < HEADER_SIZE || data.getInt(0) != MAGIC) {
+                throw new IOException("'" + path + "' is not a Rhino bundle.");
+            }
+            if (data.getInt(4) != VERSION) {
+                throw new IOException("Unsupported Rhino bundle version " + data.getInt(4) + ".");
+            }
+            long indexOffset = data.getLong(8);
+            int indexSize = data.getInt(16);
+            if (indexOffset < HEADER_SIZE || indexSize < 4 || indexOffset + indexSize != size) {
+                throw new IOException("Rhino bundle '" + path + "' is truncated or corrupt.");
+            }
+
+            Entry bundleModel = null;
+            ByteBuffer index = slice((int) indexOffset, indexSize);
+            int numEntries = index.getInt();
+            for (int i = 0; i < numEntries; i++) {
+                byte type = index.get();
+                byte[] name = new byte[index.getShort() & 0xFFFF];
+                index.get(name);
+                Entry entry = new Entry(
+                        type,
+                        new String(name, StandardCharsets.UTF_8),
+                        index.getLong(),
+                        index.getLong(),
+                        index.getInt());
+                if (entry.offset < HEADER_SIZE || entry.length < 0 || entry.offset + entry.length > indexOffset) {
+                    throw new IOException("Rhino bundle entry '" + entry.name + "' is out of bounds.");
+                }
+                if (type == MODEL) {
+                    bundleModel = entry;
+                } else if (type == CONTEXT) {
+                    contexts.put(entry.name, entry);
+                }
+            }
+            this.model = bundleModel;
+
+            this.isPrivateCache = cacheDirectory == null;
+            if (isPrivateCache) {
+                File bundleFile = new File(path).getCanonicalFile();
+                String id = Integer.toHexString((bundleFile.getPath() + size + bundleFile.lastModified()).hashCode());
+                String user = System.getProperty("user.name", "").replaceAll("[^A-Za-z0-9_.-]", "_");
+                cacheDirectory = Paths.get(
+                        System.getProperty("java.io.tmpdir"),
+                        "rhino-bundle-" + user + "-" + id).toString();
+            }
+            this.cacheDirectory = Paths.get(cacheDirectory);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+    /**
+     * Getter for the names of the contexts in the bundle.
+     *
+     * @return Context names, in the order they were added.
+     */
+    public List<String> getContextNames() {
+        return Collections.unmodifiableList(new ArrayList<>(contexts.keySet()));
+    }
+
+    /**
+     * Checks whether the bundle has a context.
+     *
+     * @param name Context name.
+     * @return `true` if the bundle has a context with that name.
+     */
+    public boolean hasContext(String name) {
+        return contexts.containsKey(name);
+    }
+
+    /**
+     * Checks whether the bundle has a model.
+     *
+     * @return `true` if a model was packed into the bundle.
+     */
+    public boolean hasModel() {
+        return model != null;
+    }
+
+    /**
+     * Getter for the contents of a context, without copying it out of the bundle.
+     *
+     * @param name Context name.
+     * @return Read-only buffer holding the context file.
+     * @throws RhinoInvalidArgumentException if the bundle has no such context.
+     */
+    public ByteBuffer getContextData(String name) throws RhinoInvalidArgumentException {
+        Entry entry = getContext(name);
+        return slice((int) entry.offset, (int) entry.length);
+    }
+
+    /**
+     * Getter for a file holding a context of the bundle. The file is written to the cache directory on first use.
+     *
+     * @param name Context name.
+     * @return Absolute path of the context file.
+     * @throws RhinoException if the bundle has no such context or the file cannot be written.
+     */
+    public String getContextPath(String name) throws RhinoException {
+        return materialize(getContext(name));
+    }
+
+    /**
+     * Getter for a file holding the model of the bundle. The file is written to the cache directory on first use.
+     *
+     * @return Absolute path of the model file, or `null` if the bundle has no model.
+     * @throws RhinoException if the file cannot be written.
+     */
+    public String getModelPath() throws RhinoException {
+        return model == null ? null : materialize(model);
+    }
+
+    /**
+     * Creates a Rhino builder for a context of the bundle, using the model of the bundle if it has one.
+     *
+     * @param name Context name.
+     * @return Builder with the context and model paths set.
+     * @throws RhinoException if the bundle has no such context or the files cannot be written.
+     */
+    public Rhino.Builder newBuilder(String name) throws RhinoException {
+        Rhino.Builder builder = new Rhino.Builder().setContextPath(getContextPath(name));
+        if (model != null) {
+            builder.setModelPath(getModelPath());
+        }
+        return builder;
+    }
+
+    /**
+     * Checks every entry of the bundle against its checksum.
+     *
+     * @throws RhinoIOException if an entry is corrupt.
+     */
+    public void verify() throws RhinoIOException {
+        if (model != null) {
+            verify(model);
+        }
+        for (Entry entry : contexts.values()) {
+            verify(entry);
+        }
+    }
+
+    /**
+     * Closes the bundle. Paths returned by {@link #getContextPath(String)} and {@link #getModelPath()} remain valid.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private Entry getContext(String name) throws RhinoInvalidArgumentException {
+        Entry entry = contexts.get(name);
+        if (entry == null) {
+            throw new RhinoInvalidArgumentException("Bundle has no context named '" + name + "'.");
+        }
+        return entry;
+    }
+
+    private ByteBuffer slice(int offset, int length) {
+        ByteBuffer view = data.duplicate();
+        view.position(offset).limit(offset + length);
+        return view.slice().asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private void verify(Entry entry) throws RhinoIOException {
+        CRC32 crc = new CRC32();
+        crc.update(slice((int) entry.offset, (int) entry.length));
+        if ((int) crc.getValue() != entry.crc) {
+            throw new RhinoIOException("Bundle entry '" + entry.name + "' is corrupt.");
+        }
+    }
+
+    private boolean isCached(Path target, Entry entry) throws IOException {
+        if (!Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS) || Files.size(target) != entry.length) {
+            return false;
+        }
+        if (isPrivateCache) {
+            // only this user can write to the directory, and files are moved into it once complete
+            return true;
+        }
+        try (FileChannel in = FileChannel.open(target, StandardOpenOption.READ)) {
+            CRC32 crc = new CRC32();
+            crc.update(in.map(FileChannel.MapMode.READ_ONLY, 0, entry.length));
+            return (int) crc.getValue() == entry.crc;
+        }
+    }
+
+    private void createCacheDirectory() throws IOException {
+        if (!isPrivateCache) {
+            Files.createDirectories(cacheDirectory);
+            return;
+        }
+
+        boolean isPosix = cacheDirectory.getFileSystem().supportedFileAttributeViews().contains("posix");
+        try {
+            if (isPosix) {
+                Files.createDirectory(cacheDirectory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+            } else {
+                Files.createDirectory(cacheDirectory);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // created earlier or by another process, checked below
+        }
+        if (!Files.isDirectory(cacheDirectory, LinkOption.NOFOLLOW_LINKS)) {
+            throw new IOException("Bundle cache '" + cacheDirectory + "' is not a directory.");
+        }
+        if (isPosix) {
+            PosixFileAttributes attributes = Files.readAttributes(
+                    cacheDirectory,
+                    PosixFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+            if (!attributes.owner().getName().equals(System.getProperty("user.name"))
+                    || !attributes.permissions().equals(OWNER_ONLY)) {
+                throw new IOException("Bundle cache directory '" + cacheDirectory + "' is accessible to other users.");
+            }
+        }
+    }
+
+    private String materialize(Entry entry) throws RhinoException {
+        String cached = materialized.get(entry);
+        if (cached != null) {
+            return cached;
+        }
+
+        String extension = entry.type == MODEL ? ".pv" : ".rhn";
+        Path target = cacheDirectory.resolve(String.format(
+                "%s-%08x-%d%s",
+                entry.name.replaceAll("[^A-Za-z0-9_.-]", "_"),
+                entry.crc,
+                entry.length,
+                extension));
+        try {
+            createCacheDirectory();
+            if (!isCached(target, entry)) {
+                // verified here rather than at open, so only entries that are used are read
+                verify(entry);
+                Path temp = Files.createTempFile(cacheDirectory, ".entry", ".tmp");
+                try {
+                    try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                        ByteBuffer contents = slice((int) entry.offset, (int) entry.length);
+                        while (contents.hasRemaining()) {
+                            out.write(contents);
+                        }
+                    }
+                    try {
+                        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException e) {
+            throw new RhinoIOException("Failed to write bundle entry '" + entry.name + "': " + e.getMessage());
+        }
+
+        String path = target.toAbsolutePath().toString();
+        materialized.put(entry, path);
+        return path;
+    }
+
+    static final class Entry {
+        final byte type;
+        final String name;
+        final long offset;
+        final long length;
+        final int crc;
+
+        Entry(byte type, String name, long offset, long length, int crc) {
+            this.type = type;
+            this.name = name;
+            this.offset = offset;
+            this.length = length;
+            this.crc = crc;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Packs context files, and optionally a model file, into a single bundle that can be opened with
+ * {@link RhinoBundle}. Entries are stored back to back in the order they are added, followed by an index.
+ */
+public class RhinoBundleWriter implements Closeable {
+
+    private static final int COPY_BUFFER_SIZE = 1024 * 1024;
+
+    private final FileChannel channel;
+    private final List<RhinoBundle.Entry> entries = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+    private final ByteBuffer copyBuffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+    private long position = RhinoBundle.HEADER_SIZE;
+    private boolean isClosed;
+
+    /**
+     * Creates a bundle file, replacing any existing file at the path.
+     *
+     * @param path Path of the bundle file.
+     * @throws IOException if the file cannot be created.
+     */
+    public RhinoBundleWriter(String path) throws IOException {
+        this.channel = FileChannel.open(
+                Paths.get(path),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Adds a context.
+     *
+     * @param name        Name under which the context is looked up in the bundle.
+     * @param contextPath Path of the context (.rhn) file.
+     * @throws IOException                   if the file cannot be read or written to the bundle.
+     * @throws RhinoInvalidArgumentException if the name is empty or already used.
+     */
+    public void addContext(String name, String contextPath) throws IOException, RhinoInvalidArgumentException {
+        if (name == null || name.isEmpty()) {
+            throw new RhinoInvalidArgumentException("Context name must not be empty.");
+        }
+        add(RhinoBundle.CONTEXT, name, Paths.get(contextPath));
+    }
+
+    /**
+     * Adds the model shared by the contexts of the bundle.
+     *
+     * @param modelPath Path of the model (.pv) file.
+     * @throws IOException                   if the file cannot be read or written to the bundle.
+     * @throws RhinoInvalidArgumentException if the bundle already has a model.
+     */
+    public void addModel(String modelPath) throws IOException, RhinoInvalidArgumentException {
+        add(RhinoBundle.MODEL, RhinoBundle.MODEL_NAME, Paths.get(modelPath));
+    }
+
+    private void add(byte type, String name, Path path) throws IOException, RhinoInvalidArgumentException {
+        if (isClosed) {
+            throw new IOException("Bundle is closed.");
+        }
+        if (!names.add(type + name)) {
+            throw new RhinoInvalidArgumentException(type == RhinoBundle.MODEL ?
+                    "Bundle already has a model." :
+                    "Bundle already has a context named '" + name + "'.");
+        }
+
+        CRC32 crc = new CRC32();
+        long start = position;
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+            copyBuffer.clear();
+            while (source.read(copyBuffer) >= 0 || copyBuffer.position() > 0) {
+                copyBuffer.flip();
+                ByteBuffer view = copyBuffer.duplicate();
+                crc.update(view);
+                while (copyBuffer.hasRemaining()) {
+                    position += channel.write(copyBuffer, position);
+                }
+                copyBuffer.clear();
+            }
+        }
+        entries.add(new RhinoBundle.Entry(type, name, start, position - start, (int) crc.getValue()));
+    }
+
+    /**
+     * Writes the index and closes the bundle.
+     *
+     * @throws IOException if the index cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            int indexSize = 4;
+            List<byte[]> encodedNames = new ArrayList<>();
+            for (RhinoBundle.Entry entry : entries) {
+                byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+                encodedNames.add(name);
+                indexSize += 1 + 2 + name.length + 8 + 8 + 4;
+            }
+
+            ByteBuffer index = ByteBuffer.allocate(indexSize).order(ByteOrder.LITTLE_ENDIAN);
+            index.putInt(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                RhinoBundle.Entry entry = entries.get(i);
+                index.put(entry.type);
+                index.putShort((short) encodedNames.get(i).length);
+                index.put(encodedNames.get(i));
+                index.putLong(entry.offset);
+                index.putLong(entry.length);
+                index.putInt(entry.crc);
+            }
+            index.flip();
+            writeFully(index, position);
+
+            ByteBuffer header = ByteBuffer.allocate(RhinoBundle.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(RhinoBundle.MAGIC);
+            header.putInt(RhinoBundle.VERSION);
+            header.putLong(position);
+            header.putInt(indexSize);
+            header.flip();
+            writeFully(header, 0);
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    /**
+     * Packs every context (.rhn) file of a directory into a bundle, named after the file without its extension.
+     *
+     * @param bundlePath       Path of the bundle file.
+     * @param contextDirectory Directory holding the contexts.
+     * @param modelPath        Path of the model file to include, or `null` for none.
+     * @return Number of packed contexts.
+     * @throws IOException                   if a file cannot be read or the bundle cannot be written.
+     * @throws RhinoInvalidArgumentException if two files map to the same name.
+     */
+    public static int packDirectory(
+            String bundlePath,
+            String contextDirectory,
+            String modelPath) throws IOException, RhinoInvalidArgumentException {
+        List<Path> contexts = new ArrayList<>();
+        try (Stream<Path> files = Files.list(Paths.get(contextDirectory))) {
+            files.filter(p -> p.getFileName().toString().endsWith(".rhn")).sorted().forEach(contexts::add);
+        }
+        try (RhinoBundleWriter writer = new RhinoBundleWriter(bundlePath)) {
+            if (modelPath != null) {
+                writer.addModel(modelPath);
+            }
+            for (Path context : contexts) {
+                String fileName = context.getFileName().toString();
+                writer.addContext(fileName.substring(0, fileName.length() - ".rhn".length()), context.toString());
+            }
+        }
+        return contexts.size();
+    }
+}
@@ -0,0 +1,269 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed form of the context information returned by {@link Rhino#getContextInformation()}: the intents with their
+ * expressions, the slots with their values, and the macros of a context. Instances are immutable.
+ *
+ * <p>{@link Rhino#getContextInfo()} parses the information once per context file and shares the result between
+ * all instances loaded from that file.
+ */
+public final class RhinoContextInfo {
+
+    private static final Pattern SLOT_REFERENCE = Pattern.compile("\\$([A-Za-z0-9_.]+):([A-Za-z0-9_]+)");
+    private static final int MAX_CACHED_CONTEXTS = 256;
+
+    private static final Map<String, RhinoContextInfo> CACHE =
+            new LinkedHashMap<String, RhinoContextInfo>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, RhinoContextInfo> eldest) {
+                    return size() > MAX_CACHED_CONTEXTS;
+                }
+            };
+
+    private final String yaml;
+    private final List<String> intents;
+    private final Map<String, Integer> intentIndices;
+    private final Map<String, List<String>> expressions;
+    private final Map<String, Map<String, String>> intentSlots;
+    private final Map<String, List<String>> slots;
+    private final Map<String, List<String>> macros;
+
+    private RhinoContextInfo(
+            String yaml,
+            Map<String, List<String>> expressions,
+            Map<String, List<String>> slots,
+            Map<String, List<String>> macros) {
+        this.yaml = yaml;
+        this.expressions = expressions;
+        this.slots = slots;
+        this.macros = macros;
+        this.intents = Collections.unmodifiableList(new ArrayList<>(expressions.keySet()));
+
+        Map<String, Integer> indices = new HashMap<>();
+        Map<String, Map<String, String>> references = new LinkedHashMap<>();
+        for (int i = 0; i < intents.size(); i++) {
+            String intent = intents.get(i);
+            indices.put(intent, i);
+
+            Map<String, String> intentReferences = new LinkedHashMap<>();
+            for (String expression : expressions.get(intent)) {
+                Matcher matcher = SLOT_REFERENCE.matcher(expression);
+                while (matcher.find()) {
+                    intentReferences.putIfAbsent(matcher.group(2), matcher.group(1));
+                }
+            }
+            references.put(intent, Collections.unmodifiableMap(intentReferences));
+        }
+        this.intentIndices = indices;
+        this.intentSlots = Collections.unmodifiableMap(references);
+    }
+
+    /**
+     * Parses context information.
+     *
+     * @param yaml Context information in YAML, as returned by {@link Rhino#getContextInformation()}.
+     * @return Parsed context information.
+     * @throws RhinoInvalidArgumentException if the text is not valid context information.
+     */
+    public static RhinoContextInfo parse(String yaml) throws RhinoInvalidArgumentException {
+        Map<String, Object> root = ContextYaml.parse(yaml);
+        Map<String, Object> context = ContextYaml.getMapping(root, "context");
+        if (context.isEmpty()) {
+            throw new RhinoInvalidArgumentException("Context information has no 'context' section.");
+        }
+        return new RhinoContextInfo(
+                yaml,
+                toLists(ContextYaml.getMapping(context, "expressions")),
+                toLists(ContextYaml.getMapping(context, "slots")),
+                toLists(ContextYaml.getMapping(context, "macros")));
+    }
+
+    static RhinoContextInfo get(String contextPath, Rhino rhino) throws RhinoException {
+        String key = cacheKey(contextPath);
+        if (key != null) {
+            synchronized (CACHE) {
+                RhinoContextInfo cached = CACHE.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
+        RhinoContextInfo info = parse(rhino.getContextInformation());
+        if (key != null) {
+            synchronized (CACHE) {
+                RhinoContextInfo raced = CACHE.putIfAbsent(key, info);
+                if (raced != null) {
+                    return raced;
+                }
+            }
+        }
+        return info;
+    }
+
+    static RhinoContextInfo load(String accessKey, String modelPath, String contextPath) throws RhinoException {
+        String key = cacheKey(contextPath);
+        if (key != null) {
+            synchronized (CACHE) {
+                RhinoContextInfo cached = CACHE.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
+        Rhino rhino = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setModelPath(modelPath)
+                .setContextPath(contextPath)
+                .setDevice("cpu:1")
+                .build();
+        try {
+            return rhino.getContextInfo();
+        } finally {
+            rhino.delete();
+        }
+    }
+
+    private static String cacheKey(String contextPath) {
+        if (contextPath == null) {
+            return null;
+        }
+        try {
+            File file = new File(contextPath);
+            // a file replaced in place gets a new entry
+            return file.getCanonicalPath() + '\0' + file.length() + '\0' + file.lastModified();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, List<String>> toLists(Map<String, Object> section)
+            throws RhinoInvalidArgumentException {
+        Map<String, List<String>> lists = new LinkedHashMap<>();
+        for (String name : section.keySet()) {
+            lists.put(name, Collections.unmodifiableList(new ArrayList<>(ContextYaml.getSequence(section, name))));
+        }
+        return Collections.unmodifiableMap(lists);
+    }
+
+    /**
+     * Getter for the intents of the context.
+     *
+     * @return Intent names, in the order they are defined.
+     */
+    public List<String> getIntents() {
+        return intents;
+    }
+
+    /**
+     * Getter for the position of an intent in {@link #getIntents()}, e.g. to dispatch on an inference with an array
+     * lookup instead of string comparisons.
+     *
+     * @param intent Intent name.
+     * @return Index of the intent, or -1 if the context has no such intent.
+     */
+    public int getIntentIndex(String intent) {
+        Integer index = intentIndices.get(intent);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Getter for the expressions of every intent.
+     *
+     * @return Map from intent name to its expressions.
+     */
+    public Map<String, List<String>> getExpressions() {
+        return expressions;
+    }
+
+    /**
+     * Getter for the expressions of an intent.
+     *
+     * @param intent Intent name.
+     * @return Expressions of the intent, or an empty list if the context has no such intent.
+     */
+    public List<String> getExpressions(String intent) {
+        List<String> intentExpressions = expressions.get(intent);
+        return intentExpressions == null ? Collections.emptyList() : intentExpressions;
+    }
+
+    /**
+     * Getter for the slots an intent can return, as found in its expressions (`$slot:name`).
+     *
+     * @param intent Intent name.
+     * @return Map from the name under which a value is returned in {@link RhinoInference#getSlots()} to the slot
+     *         type, e.g. a slot defined by the context or a built-in slot such as `pv.TwoDigitInteger`. Empty if the
+     *         context has no such intent.
+     */
+    public Map<String, String> getIntentSlots(String intent) {
+        Map<String, String> references = intentSlots.get(intent);
+        return references == null ? Collections.emptyMap() : references;
+    }
+
+    /**
+     * Getter for the values of every slot defined by the context.
+     *
+     * @return Map from slot name to its values.
+     */
+    public Map<String, List<String>> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Getter for the values of a slot.
+     *
+     * @param slot Slot name.
+     * @return Values of the slot, or an empty list if the context defines no such slot.
+     */
+    public List<String> getSlotValues(String slot) {
+        List<String> values = slots.get(slot);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    /**
+     * Getter for the macros of the context.
+     *
+     * @return Map from macro name to its phrases.
+     */
+    public Map<String, List<String>> getMacros() {
+        return macros;
+    }
+
+    /**
+     * Getter for the context information this object was parsed from.
+     *
+     * @return Context information in YAML.
+     */
+    public String getYaml() {
+        return yaml;
+    }
+
+    @Override
+    public String toString() {
+        return yaml;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Registry of Rhino instances keyed by context path, for services that serve many more contexts than they can keep
+ * loaded at once. An instance is created the first time its context is acquired and stays loaded while it fits in
+ * the memory budget. When the estimated native memory of the loaded instances exceeds the budget, the least
+ * recently used instances that are not leased are deleted.
+ *
+ * <p>All leases of a context share one instance, and concurrent first use of a context creates it only once.
+ * Callers that process audio for the same context from several threads must serialize access to the instance. The
+ * budget is a soft limit: leased instances are never evicted, so the registry exceeds the budget when more
+ * instances are in use than fit in it.
+ */
+public class RhinoContextRegistry {
+
+    private final BuilderFactory builderFactory;
+    private final CostEstimator costEstimator;
+    private final long memoryBudget;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long memoryUsage;
+    private boolean isDeleted;
+
+    /**
+     * Creates a registry that estimates the memory of an instance with {@link Rhino#getNativeMemoryUsage()}, but never
+     * as less than the size of its model and context files, which the engine holds once loaded.
+     *
+     * @param builderFactory Creates the builder for a context.
+     * @param memoryBudget   Estimated native memory, in bytes, that idle instances are evicted to stay within.
+     * @throws RhinoException if the arguments are invalid.
+     */
+    public RhinoContextRegistry(BuilderFactory builderFactory, long memoryBudget) throws RhinoException {
+        this(builderFactory, memoryBudget, RhinoContextRegistry::estimateNativeMemory);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param builderFactory Creates the builder for a context.
+     * @param memoryBudget   Estimated native memory, in bytes, that idle instances are evicted to stay within.
+     * @param costEstimator  Estimates the native memory held by an instance once it is created.
+     * @throws RhinoException if the arguments are invalid.
+     */
+    public RhinoContextRegistry(
+            BuilderFactory builderFactory,
+            long memoryBudget,
+            CostEstimator costEstimator) throws RhinoException {
+        if (builderFactory == null) {
+            throw new RhinoInvalidArgumentException("RhinoContextRegistry requires a builder factory.");
+        }
+        if (memoryBudget <= 0) {
+            throw new RhinoInvalidArgumentException("Memory budget should be a positive number of bytes.");
+        }
+        if (costEstimator == null) {
+            throw new RhinoInvalidArgumentException("RhinoContextRegistry requires a cost estimator.");
+        }
+
+        this.builderFactory = builderFactory;
+        this.memoryBudget = memoryBudget;
+        this.costEstimator = costEstimator;
+    }
+
+    /**
+     * Leases the instance of a context, creating it if it is not loaded. The instance is not evicted until the
+     * lease is closed.
+     *
+     * @param contextPath Absolute path to the context (.rhn) file.
+     * @return Lease on the instance.
+     * @throws RhinoException if the instance cannot be created or the registry has been deleted.
+     */
+    public Lease acquire(String contextPath) throws RhinoException {
+        if (contextPath == null) {
+            throw new RhinoInvalidArgumentException("Context path must not be null.");
+        }
+
+        Entry entry;
+        boolean isCreator = false;
+        synchronized (this) {
+            if (isDeleted) {
+                throw new RhinoInvalidStateException("Attempted to acquire from RhinoContextRegistry after delete.");
+            }
+            entry = entries.get(contextPath);
+            if (entry == null) {
+                entry = new Entry(contextPath);
+                entries.put(contextPath, entry);
+                isCreator = true;
+            }
+            entry.numLeases++;
+        }
+
+        if (isCreator) {
+            create(entry);
+        }
+
+        Rhino rhino;
+        try {
+            rhino = entry.rhino.join();
+        } catch (CompletionException e) {
+            synchronized (this) {
+                entry.numLeases--;
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RhinoException) {
+                throw (RhinoException) cause;
+            }
+            throw new RhinoRuntimeException(cause);
+        }
+        return new Lease(entry, rhino);
+    }
+
+    private void create(Entry entry) {
+        Rhino rhino;
+        long cost;
+        try {
+            rhino = builderFactory.newBuilder(entry.contextPath).build();
+        } catch (RhinoException | RuntimeException e) {
+            synchronized (this) {
+                entries.remove(entry.contextPath, entry);
+            }
+            entry.rhino.completeExceptionally(e);
+            return;
+        }
+        try {
+            cost = Math.max(0, costEstimator.estimate(entry.contextPath, rhino));
+        } catch (RuntimeException e) {
+            cost = 0;
+        }
+
+        boolean isOrphaned;
+        synchronized (this) {
+            isOrphaned = isDeleted;
+            if (!isOrphaned) {
+                entry.cost = cost;
+                memoryUsage += cost;
+            }
+        }
+        // complete before evicting so the creator's own lease keeps the new instance loaded
+        entry.rhino.complete(rhino);
+        if (isOrphaned) {
+            synchronized (this) {
+                entries.remove(entry.contextPath, entry);
+            }
+        } else {
+            evict();
+        }
+    }
+
+    private void release(Entry entry) {
+        boolean isOrphaned;
+        synchronized (this) {
+            entry.numLeases--;
+            isOrphaned = isDeleted && entry.numLeases == 0;
+        }
+        if (isOrphaned) {
+            entry.rhino.join().delete();
+        } else {
+            evict();
+        }
+    }
+
+    private void evict() {
+        List<Rhino> evicted = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (memoryUsage > memoryBudget && it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.numLeases == 0 && entry.rhino.isDone() && !entry.rhino.isCompletedExceptionally()) {
+                    it.remove();
+                    memoryUsage -= entry.cost;
+                    evicted.add(entry.rhino.join());
+                }
+            }
+        }
+        // deleting an instance can take a while, so it is done outside the lock
+        for (Rhino rhino : evicted) {
+            rhino.delete();
+        }
+    }
+
+    /**
+     * Checks whether a context is loaded.
+     *
+     * @param contextPath Absolute path to the context (.rhn) file.
+     * @return `true` if an instance of the context is loaded or being created.
+     */
+    public synchronized boolean contains(String contextPath) {
+        return entries.containsKey(contextPath);
+    }
+
+    /**
+     * Getter for the number of loaded instances.
+     *
+     * @return Number of instances loaded or being created.
+     */
+    public synchronized int getNumInstances() {
+        return entries.size();
+    }
+
+    /**
+     * Getter for the estimated native memory of the loaded instances.
+     *
+     * @return Sum of the estimated costs of the loaded instances, in bytes.
+     */
+    public synchronized long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    /**
+     * Getter for the memory budget.
+     *
+     * @return Memory budget in bytes.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Deletes idle instances. Leased instances are deleted when their last lease is closed.
+     */
+    public void delete() {
+        List<Rhino> idle = new ArrayList<>();
+        synchronized (this) {
+            isDeleted = true;
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.numLeases == 0 && entry.rhino.isDone() && !entry.rhino.isCompletedExceptionally()) {
+                    idle.add(entry.rhino.join());
+                }
+                if (entry.rhino.isDone()) {
+                    it.remove();
+                }
+            }
+            memoryUsage = 0;
+        }
+        for (Rhino rhino : idle) {
+            rhino.delete();
+        }
+    }
+
+    private static long estimateNativeMemory(String contextPath, Rhino rhino) {
+        // a measurement can be far below the real cost, e.g. when the allocator reuses memory of evicted instances
+        long floor = new File(contextPath).length();
+        if (rhino.getModelPath() != null) {
+            floor += new File(rhino.getModelPath()).length();
+        }
+        return Math.max(floor, rhino.getNativeMemoryUsage());
+    }
+
+    /**
+     * Creates the builder for a context. Each call should return a new builder.
+     */
+    public interface BuilderFactory {
+
+        /**
+         * Creates a builder.
+         *
+         * @param contextPath Absolute path to the context (.rhn) file.
+         * @return Builder with the context path and any other settings applied.
+         * @throws RhinoException if the builder cannot be created.
+         */
+        Rhino.Builder newBuilder(String contextPath) throws RhinoException;
+    }
+
+    /**
+     * Estimates the native memory held by an instance.
+     */
+    public interface CostEstimator {
+
+        /**
+         * Estimates the native memory held by an instance.
+         *
+         * @param contextPath Absolute path to the context (.rhn) file.
+         * @param rhino       Instance that was just created.
+         * @return Estimated native memory, in bytes.
+         */
+        long estimate(String contextPath, Rhino rhino);
+    }
+
+    /**
+     * Lease on the instance of a context. Closing the lease makes the instance eligible for eviction; the instance
+     * must not be used after that.
+     */
+    public final class Lease implements Closeable {
+
+        private final Entry entry;
+        private final Rhino rhino;
+        private boolean isClosed;
+
+        private Lease(Entry entry, Rhino rhino) {
+            this.entry = entry;
+            this.rhino = rhino;
+        }
+
+        /**
+         * Getter for the leased instance.
+         *
+         * @return Rhino instance.
+         */
+        public Rhino getRhino() {
+            return rhino;
+        }
+
+        /**
+         * Getter for the context of the lease.
+         *
+         * @return Absolute path to the context (.rhn) file.
+         */
+        public String getContextPath() {
+            return entry.contextPath;
+        }
+
+        /**
+         * Returns the lease to the registry. Closing a lease more than once has no effect.
+         */
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (isClosed) {
+                    return;
+                }
+                isClosed = true;
+            }
+            release(entry);
+        }
+    }
+
+    private static final class Entry {
+        final String contextPath;
+        final CompletableFuture<Rhino> rhino = new CompletableFuture<>();
+        int numLeases;
+        long cost;
+
+        Entry(String contextPath) {
+            this.contextPath = contextPath;
+        }
+    }
+}
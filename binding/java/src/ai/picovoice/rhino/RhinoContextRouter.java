@@ -0,0 +1,191 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Routes a single audio stream to several contexts at once. Each context has its own Rhino instance, which can
+ * use a different model (e.g. a different language), and every frame is processed by all of them in parallel.
+ * The frame is shared between the instances and not copied.
+ *
+ * <p>{@link #process(short[])} returns the first understood inference. If several contexts understand the
+ * command in the same frame, the one added first wins. The other contexts are reset right away so that all of
+ * them start the next command together. If contexts only finalize without understanding, the verdict is
+ * reported once all contexts have finalized or the verdict window has elapsed, whichever comes first.
+ */
+public class RhinoContextRouter {
+
+    private static final float DEFAULT_VERDICT_WINDOW_SEC = 0.5f;
+
+    private final Rhino[] rhinos;
+    private final RhinoFanOut fanOut;
+    private final short[][] sharedFrames;
+    private final int frameLength;
+
+    /**
+     * Creates a router with a verdict window of 0.5 seconds and up to one worker thread per context beyond the
+     * first, bounded by the number of processors.
+     *
+     * @param builders One builder per context, in order of priority.
+     * @throws RhinoException if the arguments are invalid or a Rhino instance cannot be created.
+     */
+    public RhinoContextRouter(List<Rhino.Builder> builders) throws RhinoException {
+        this(builders,
+                builders == null ? 0 : Math.min(builders.size() - 1, Runtime.getRuntime().availableProcessors() - 1),
+                DEFAULT_VERDICT_WINDOW_SEC);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param builders         One builder per context, in order of priority.
+     * @param numThreads       Number of worker threads. The calling thread processes one context, so
+     *                         `builders.size() - 1` workers process all contexts at once. With 0, contexts are
+     *                         processed sequentially on the calling thread.
+     * @param verdictWindowSec Time to wait for another context to understand the command after the first context
+     *                         finalizes without understanding it.
+     * @throws RhinoException if the arguments are invalid or a Rhino instance cannot be created.
+     */
+    public RhinoContextRouter(
+            List<Rhino.Builder> builders,
+            int numThreads,
+            float verdictWindowSec) throws RhinoException {
+        if (builders == null || builders.isEmpty()) {
+            throw new RhinoInvalidArgumentException("At least one Rhino builder is required.");
+        }
+        if (numThreads < 0) {
+            throw new RhinoInvalidArgumentException("numThreads should be a non-negative integer.");
+        }
+        if (verdictWindowSec < 0) {
+            throw new RhinoInvalidArgumentException("verdictWindowSec should be a non-negative number.");
+        }
+
+        this.rhinos = new Rhino[builders.size()];
+        try {
+            for (int i = 0; i < rhinos.length; i++) {
+                rhinos[i] = builders.get(i).build();
+            }
+            this.frameLength = rhinos[0].getFrameLength();
+            this.sharedFrames = new short[rhinos.length][];
+            int verdictWindowFrames = (int) Math.ceil(verdictWindowSec * rhinos[0].getSampleRate() / frameLength);
+            this.fanOut = new RhinoFanOut(rhinos, numThreads, verdictWindowFrames, false, "rhino-context-");
+        } catch (RhinoException | RuntimeException e) {
+            deleteRhinos();
+            throw e;
+        }
+    }
+
+    /**
+     * Processes a frame of audio with every context. The frame is read concurrently by all contexts and must not be
+     * modified until the call returns.
+     *
+     * @param pcm A frame of audio samples.
+     * @return The inference once a verdict is reached, otherwise `null`.
+     * @throws RhinoException if the frame has the wrong length or processing fails.
+     */
+    public RhinoInference process(short[] pcm) throws RhinoException {
+        if (pcm == null || pcm.length != frameLength) {
+            throw new RhinoInvalidArgumentException(String.format(
+                    "Frame must contain %d samples.",
+                    frameLength));
+        }
+        Arrays.fill(sharedFrames, pcm);
+        return fanOut.process(sharedFrames);
+    }
+
+    /**
+     * Getter for the context that produced the last understood inference.
+     *
+     * @return Index of the context in the list of builders, or -1 if the last call to {@link #process(short[])}
+     *         did not return an understood inference.
+     */
+    public int getWinningContext() {
+        return fanOut.getWinnerIndex();
+    }
+
+    /**
+     * Getter for the source of a context.
+     *
+     * @param index Index of the context in the list of builders.
+     * @return Context information.
+     * @throws RhinoException if the context information cannot be retrieved.
+     */
+    public String getContextInformation(int index) throws RhinoException {
+        return rhinos[index].getContextInformation();
+    }
+
+    /**
+     * Getter for the parsed information of a context.
+     *
+     * @param index Index of the context in the list of builders.
+     * @return Context information.
+     * @throws RhinoException if the context information cannot be retrieved or parsed.
+     */
+    public RhinoContextInfo getContextInfo(int index) throws RhinoException {
+        return rhinos[index].getContextInfo();
+    }
+
+    /**
+     * Resets all contexts, discarding any partial command.
+     *
+     * @throws RhinoException if a reset fails.
+     */
+    public void reset() throws RhinoException {
+        fanOut.reset();
+    }
+
+    /**
+     * Getter for the number of contexts.
+     *
+     * @return Number of contexts.
+     */
+    public int getNumContexts() {
+        return rhinos.length;
+    }
+
+    /**
+     * Getter for the number of samples in a frame.
+     *
+     * @return Frame length.
+     */
+    public int getFrameLength() {
+        return frameLength;
+    }
+
+    /**
+     * Getter for the audio sample rate.
+     *
+     * @return Sample rate.
+     */
+    public int getSampleRate() {
+        return rhinos[0].getSampleRate();
+    }
+
+    /**
+     * Stops the worker threads and releases the resources of all contexts.
+     */
+    public void delete() {
+        fanOut.shutdown();
+        deleteRhinos();
+    }
+
+    private void deleteRhinos() {
+        for (Rhino rhino : rhinos) {
+            if (rhino != null) {
+                rhino.delete();
+            }
+        }
+    }
+}
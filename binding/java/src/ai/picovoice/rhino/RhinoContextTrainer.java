@@ -0,0 +1,350 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trains context (.rhn) files through the Picovoice REST API, either from a full YAML definition or from an existing
+ * context with new slot values. A trainer can be shared between threads; its transport reuses connections across
+ * requests. Trained contexts are streamed to a temporary file next to the output path and moved into place once
+ * complete, so readers never see a partial file.
+ */
+public class RhinoContextTrainer {
+
+    /**
+     * Default base URL of the REST API.
+     */
+    public static final String DEFAULT_BASE_URL = "https://rest.picovoice.ai/";
+
+    static final Set<String> VALID_LANGUAGES =
+            new HashSet<>(Arrays.asList("de", "en", "es", "fr", "it", "ja", "ko", "pt"));
+
+    private static final int MAX_ERROR_BODY_BYTES = 4096;
+
+    private final String accessKey;
+    private final String baseUrl;
+    private final String platform;
+    private final RhinoHttpTransport transport;
+
+    private RhinoContextTrainer(String accessKey, String baseUrl, String platform, RhinoHttpTransport transport) {
+        this.accessKey = accessKey;
+        this.baseUrl = baseUrl;
+        this.platform = platform;
+        this.transport = transport;
+    }
+
+    /**
+     * Trains a context from a YAML definition.
+     *
+     * @param language    Two character language code for the context (e.g. "en", "fr").
+     *                    See https://picovoice.ai/docs/model-api/rhino/ for supported languages.
+     * @param yamlContent YAML definition of the context.
+     * @param outputPath  Path of the file where the trained context is saved. An existing file is replaced.
+     * @throws RhinoActivationThrottledException if the API is rate limiting requests.
+     * @throws RhinoException                    if training fails.
+     */
+    public void trainFromYaml(String language, String yamlContent, String outputPath) throws RhinoException {
+        if (!VALID_LANGUAGES.contains(language)) {
+            throw new RhinoInvalidArgumentException("Invalid language ('" + language + "')");
+        }
+        if (yamlContent == null || yamlContent.isEmpty()) {
+            throw new RhinoInvalidArgumentException("YAML content must not be empty.");
+        }
+        if (outputPath == null) {
+            throw new RhinoInvalidArgumentException("Output path must not be null.");
+        }
+
+        String payload = "{\"platform\":" + jsonString(platform) +
+                ",\"yaml_content\":" + jsonString(yamlContent) + "}";
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("x-api-key", accessKey);
+
+        try (RhinoHttpTransport.Response response = transport.post(
+                baseUrl + language + "/api/rhn",
+                headers,
+                payload.getBytes(StandardCharsets.UTF_8))) {
+            int status = response.getStatusCode();
+            if (status < 200 || status >= 300) {
+                throw errorFor(status, readErrorBody(response.getBody()));
+            }
+            save(response.getBody(), Paths.get(outputPath).toAbsolutePath());
+        } catch (IOException e) {
+            throw new RhinoIOException("Request failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Trains a context that is a copy of an existing one with new values for some of its slots.
+     *
+     * @param language    Two character language code for the context (e.g. "en", "fr").
+     * @param contextInfo Information of the existing context, e.g. from {@link Rhino#getContextInfo()}.
+     * @param slots       Map of existing slot names to the values that replace theirs. Each value must be a
+     *                    non-empty collection of strings.
+     * @param outputPath  Path of the file where the trained context is saved. An existing file is replaced.
+     * @throws RhinoActivationThrottledException if the API is rate limiting requests.
+     * @throws RhinoException                    if the slots are invalid or training fails.
+     */
+    public void trainFromDynamicSlots(
+            String language,
+            RhinoContextInfo contextInfo,
+            Map<String, ? extends Collection<String>> slots,
+            String outputPath) throws RhinoException {
+        trainFromYaml(language, mergeSlots(contextInfo, slots), outputPath);
+    }
+
+    /**
+     * Replaces slot values in a context definition, applying the same validation as the REST API.
+     *
+     * @param contextInfo Information of the existing context.
+     * @param slots       Map of existing slot names to their new values.
+     * @return YAML definition of the new context.
+     * @throws RhinoInvalidArgumentException if a slot does not exist, has no values or has duplicate values.
+     */
+    static String mergeSlots(
+            RhinoContextInfo contextInfo,
+            Map<String, ? extends Collection<String>> slots) throws RhinoInvalidArgumentException {
+        if (contextInfo == null) {
+            throw new RhinoInvalidArgumentException("Context information must not be null.");
+        }
+        if (slots == null || slots.isEmpty()) {
+            throw new RhinoInvalidArgumentException("Slots cannot be empty");
+        }
+
+        Map<String, List<String>> merged = new LinkedHashMap<>(contextInfo.getSlots());
+        for (Map.Entry<String, ? extends Collection<String>> e : slots.entrySet()) {
+            String key = e.getKey();
+            Collection<String> values = e.getValue();
+            if (values == null || values.isEmpty()) {
+                throw new RhinoInvalidArgumentException(
+                        "Slot '" + key + "' must be a non-empty set of string values");
+            }
+            if (!merged.containsKey(key)) {
+                throw new RhinoInvalidArgumentException("Slot '" + key + "' does not exist");
+            }
+            merged.put(key, new ArrayList<>(values));
+        }
+
+        for (Map.Entry<String, List<String>> e : merged.entrySet()) {
+            Set<String> seen = new HashSet<>();
+            for (String value : e.getValue()) {
+                if (value == null || !seen.add(value.toLowerCase())) {
+                    throw new RhinoInvalidArgumentException(
+                            "Duplicate slot value '" + value + "' in '" + e.getKey() + "'");
+                }
+            }
+        }
+
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("expressions", contextInfo.getExpressions());
+        context.put("slots", merged);
+        context.put("macros", contextInfo.getMacros());
+        return ContextYaml.dump(Collections.singletonMap("context", context));
+    }
+
+    private static void save(InputStream body, Path output) throws IOException, RhinoException {
+        Path directory = output.getParent();
+        Path temp = Files.createTempFile(directory, "." + output.getFileName(), ".tmp");
+        try {
+            if (Files.copy(body, temp, StandardCopyOption.REPLACE_EXISTING) == 0) {
+                throw new RhinoRuntimeException("Empty response body");
+            }
+            try {
+                Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String readErrorBody(InputStream body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int n;
+        while (out.size() < MAX_ERROR_BODY_BYTES && (n = body.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static RhinoException errorFor(int status, String body) {
+        String message = "Failed to train model (HTTP " + status + "): " + body;
+        switch (status) {
+            case 400:
+                return new RhinoInvalidArgumentException(message);
+            case 401:
+            case 403:
+                return new RhinoActivationRefusedException(message);
+            case 429:
+                return new RhinoActivationThrottledException(message);
+            default:
+                return new RhinoRuntimeException(message);
+        }
+    }
+
+    private static String jsonString(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 16).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Builder for creating an instance of RhinoContextTrainer with a mixture of default arguments.
+     */
+    public static class Builder {
+
+        private String accessKey = null;
+        private String baseUrl = DEFAULT_BASE_URL;
+        private String platform = null;
+        private RhinoHttpTransport transport = null;
+        private int connectTimeoutMs = 10000;
+        private int readTimeoutMs = 120000;
+
+        /**
+         * Setter for the AccessKey.
+         *
+         * @param accessKey AccessKey obtained from Picovoice Console (https://console.picovoice.ai/).
+         * @return Builder instance.
+         */
+        public Builder setAccessKey(String accessKey) {
+            this.accessKey = accessKey;
+            return this;
+        }
+
+        /**
+         * Setter for the base URL of the REST API, e.g. to point the trainer at a local stub.
+         *
+         * @param baseUrl Base URL. Defaults to {@link RhinoContextTrainer#DEFAULT_BASE_URL}.
+         * @return Builder instance.
+         */
+        public Builder setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        /**
+         * Setter for the platform the contexts are trained for.
+         *
+         * @param platform Platform name (e.g. "linux", "mac", "windows", "raspberry-pi"). Defaults to the current
+         *                 platform.
+         * @return Builder instance.
+         */
+        public Builder setPlatform(String platform) {
+            this.platform = platform;
+            return this;
+        }
+
+        /**
+         * Setter for the HTTP transport.
+         *
+         * @param transport Transport used for requests. Defaults to one based on {@code HttpURLConnection}.
+         * @return Builder instance.
+         */
+        public Builder setTransport(RhinoHttpTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * Setter for the timeouts of the default transport.
+         *
+         * @param connectTimeoutMs Connection timeout in milliseconds.
+         * @param readTimeoutMs    Read timeout in milliseconds. Training a large context can take a while.
+         * @return Builder instance.
+         */
+        public Builder setTimeouts(int connectTimeoutMs, int readTimeoutMs) {
+            this.connectTimeoutMs = connectTimeoutMs;
+            this.readTimeoutMs = readTimeoutMs;
+            return this;
+        }
+
+        /**
+         * Creates a trainer.
+         *
+         * @return RhinoContextTrainer instance.
+         * @throws RhinoException if an argument is invalid or the current platform is not supported.
+         */
+        public RhinoContextTrainer build() throws RhinoException {
+            if (accessKey == null || accessKey.isEmpty()) {
+                throw new RhinoInvalidArgumentException("AccessKey must not be empty.");
+            }
+            if (baseUrl == null || baseUrl.isEmpty()) {
+                throw new RhinoInvalidArgumentException("Base URL must not be empty.");
+            }
+            if (connectTimeoutMs < 0 || readTimeoutMs < 0) {
+                throw new RhinoInvalidArgumentException("Timeouts must not be negative.");
+            }
+
+            String trainerPlatform = platform;
+            if (trainerPlatform == null) {
+                try {
+                    trainerPlatform = Utils.getEnvironmentName();
+                } catch (RuntimeException e) {
+                    throw new RhinoRuntimeException(e);
+                }
+            }
+
+            return new RhinoContextTrainer(
+                    accessKey,
+                    baseUrl.endsWith("/") ? baseUrl : baseUrl + "/",
+                    trainerPlatform,
+                    transport != null ? transport : new UrlConnectionTransport(connectTimeoutMs, readTimeoutMs));
+        }
+    }
+}
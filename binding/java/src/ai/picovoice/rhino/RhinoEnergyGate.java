@@ -0,0 +1,138 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+/**
+ * Cheap per-frame speech detector based on frame energy. It tracks the noise floor of the stream and classifies a
+ * frame as speech when its energy is a margin above the floor and above an absolute minimum. The floor follows
+ * quieter frames immediately and louder ones slowly, and more slowly still during speech, so that a steady rise in
+ * background noise is eventually absorbed while speech is not.
+ *
+ * <p>It costs one pass over the samples per frame and does not allocate. It is meant to decide when to bother
+ * running Rhino, not as a replacement for a proper voice activity detector. An instance keeps per-stream state and
+ * must not be shared between streams or threads.
+ */
+public class RhinoEnergyGate {
+
+    /**
+     * Default margin above the noise floor, in dB.
+     */
+    public static final float DEFAULT_MARGIN_DB = 9f;
+
+    /**
+     * Default minimum energy of a speech frame, in dB relative to full scale.
+     */
+    public static final float DEFAULT_MIN_ENERGY_DB = -55f;
+
+    private static final double FULL_SCALE_SQUARED = 32768.0 * 32768.0;
+    private static final double SILENCE_DB = -100;
+    private static final double FLOOR_RISE = 0.05;
+    private static final double FLOOR_RISE_DURING_SPEECH = 0.002;
+
+    private final float marginDb;
+    private final float minEnergyDb;
+
+    private double energyDb = SILENCE_DB;
+    private double noiseFloorDb = Double.NaN;
+    private boolean isSpeech;
+
+    /**
+     * Creates a gate with the default margin and minimum energy.
+     */
+    public RhinoEnergyGate() {
+        this.marginDb = DEFAULT_MARGIN_DB;
+        this.minEnergyDb = DEFAULT_MIN_ENERGY_DB;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param marginDb    How far above the noise floor a frame must be to count as speech, in dB. Should be
+     *                    positive.
+     * @param minEnergyDb Minimum energy of a speech frame, in dB relative to full scale. Should be negative.
+     * @throws RhinoInvalidArgumentException if an argument is out of range.
+     */
+    public RhinoEnergyGate(float marginDb, float minEnergyDb) throws RhinoInvalidArgumentException {
+        if (!(marginDb > 0)) {
+            throw new RhinoInvalidArgumentException("marginDb should be a positive number.");
+        }
+        if (!(minEnergyDb < 0)) {
+            throw new RhinoInvalidArgumentException("minEnergyDb should be a negative number.");
+        }
+        this.marginDb = marginDb;
+        this.minEnergyDb = minEnergyDb;
+    }
+
+    /**
+     * Classifies a frame and updates the noise floor.
+     *
+     * @param frame A frame of audio samples.
+     * @return `true` if the frame is speech.
+     */
+    public boolean process(short[] frame) {
+        long sumOfSquares = 0;
+        for (short sample : frame) {
+            sumOfSquares += sample * sample;
+        }
+        energyDb = sumOfSquares == 0 ?
+                SILENCE_DB :
+                Math.max(SILENCE_DB, 10 * Math.log10(sumOfSquares / (frame.length * FULL_SCALE_SQUARED)));
+
+        if (Double.isNaN(noiseFloorDb)) {
+            noiseFloorDb = energyDb;
+        }
+        isSpeech = energyDb >= minEnergyDb && energyDb >= noiseFloorDb + marginDb;
+        if (energyDb < noiseFloorDb) {
+            noiseFloorDb = energyDb;
+        } else {
+            noiseFloorDb += (energyDb - noiseFloorDb) * (isSpeech ? FLOOR_RISE_DURING_SPEECH : FLOOR_RISE);
+        }
+        return isSpeech;
+    }
+
+    /**
+     * Forgets the noise floor, e.g. when the gate is reused for another stream.
+     */
+    public void reset() {
+        energyDb = SILENCE_DB;
+        noiseFloorDb = Double.NaN;
+        isSpeech = false;
+    }
+
+    /**
+     * Whether the last frame was speech.
+     *
+     * @return `true` if the last frame passed to {@link #process(short[])} was speech.
+     */
+    public boolean isSpeech() {
+        return isSpeech;
+    }
+
+    /**
+     * Getter for the energy of the last frame.
+     *
+     * @return Energy in dB relative to full scale, at least -100.
+     */
+    public float getEnergyDb() {
+        return (float) energyDb;
+    }
+
+    /**
+     * Getter for the current noise floor estimate.
+     *
+     * @return Noise floor in dB relative to full scale, or `NaN` before the first frame.
+     */
+    public float getNoiseFloorDb() {
+        return (float) noiseFloorDb;
+    }
+}
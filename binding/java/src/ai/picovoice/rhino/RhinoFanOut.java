@@ -0,0 +1,241 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes one frame per Rhino instance in parallel and combines the results into a single verdict. Used by
+ * {@link RhinoMultiChannel} and {@link RhinoContextRouter}.
+ *
+ * <p>The calling thread processes the first instance and a worker pool processes the rest. Once any instance
+ * finalizes an understood inference, the call returns it and the other instances are reset so that all of them
+ * start the next command together. If several instances understand the command in the same frame, the
+ * inference reported by the most instances wins when voting, and the instance with the lowest index wins
+ * otherwise. Instances that finalize without understanding keep listening
+ * until every instance has finalized or the verdict window has elapsed, and then the call reports that the
+ * command was not understood.
+ */
+final class RhinoFanOut {
+
+    private final Rhino[] rhinos;
+    private final int verdictWindowFrames;
+    private final boolean isVoting;
+    private final ExecutorService executor;
+    private final List<Callable<Void>> tasks = new ArrayList<>();
+    private final List<Future<Void>> futures = new ArrayList<>();
+    private final RhinoInference[] results;
+    private final boolean[] isFinalized;
+
+    private short[][] frames;
+    private RhinoInference notUnderstood;
+    private int numFinalized;
+    private int numFramesSinceFinalized;
+    private int winnerIndex = -1;
+
+    RhinoFanOut(
+            Rhino[] rhinos,
+            int numThreads,
+            int verdictWindowFrames,
+            boolean isVoting,
+            String threadNamePrefix) {
+        this.rhinos = rhinos;
+        this.verdictWindowFrames = verdictWindowFrames;
+        this.isVoting = isVoting;
+        this.results = new RhinoInference[rhinos.length];
+        this.isFinalized = new boolean[rhinos.length];
+
+        int numWorkers = Math.min(numThreads, rhinos.length - 1);
+        if (numWorkers > 0) {
+            final AtomicInteger index = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(numWorkers, r -> {
+                Thread thread = new Thread(r, threadNamePrefix + index.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+        for (int i = 0; i < rhinos.length; i++) {
+            final int rhinoIndex = i;
+            tasks.add(() -> {
+                processOne(rhinoIndex);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Processes `frames[i]` with the i-th Rhino instance. Frames are only read, so the same array can be passed
+     * for several instances.
+     *
+     * @return The verdict, or `null` if there is none yet.
+     */
+    RhinoInference process(short[][] frames) throws RhinoException {
+        this.frames = frames;
+        winnerIndex = -1;
+        runAll();
+
+        int bestIndex = -1;
+        int bestVotes = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null || !results[i].getIsUnderstood()) {
+                continue;
+            }
+            if (!isVoting) {
+                bestIndex = i;
+                break;
+            }
+            int votes = 0;
+            for (int j = i; j < results.length; j++) {
+                if (results[j] != null && isSameInference(results[i], results[j])) {
+                    votes++;
+                }
+            }
+            if (votes > bestVotes) {
+                bestIndex = i;
+                bestVotes = votes;
+            }
+        }
+        if (bestIndex >= 0) {
+            RhinoInference winner = results[bestIndex];
+            finishCommand();
+            winnerIndex = bestIndex;
+            return winner;
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null && !isFinalized[i]) {
+                isFinalized[i] = true;
+                numFinalized++;
+                if (notUnderstood == null) {
+                    notUnderstood = results[i];
+                }
+            }
+        }
+        if (notUnderstood != null) {
+            if (numFinalized == rhinos.length || numFramesSinceFinalized++ >= verdictWindowFrames) {
+                RhinoInference verdict = notUnderstood;
+                finishCommand();
+                return verdict;
+            }
+        }
+        return null;
+    }
+
+    int getWinnerIndex() {
+        return winnerIndex;
+    }
+
+    void reset() throws RhinoException {
+        for (Rhino rhino : rhinos) {
+            rhino.reset();
+        }
+        clearCommand();
+    }
+
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runAll() throws RhinoException {
+        futures.clear();
+        if (executor != null) {
+            for (int i = 1; i < tasks.size(); i++) {
+                futures.add(executor.submit(tasks.get(i)));
+            }
+        } else {
+            for (int i = 1; i < rhinos.length; i++) {
+                processOne(i);
+            }
+        }
+
+        RhinoException error = null;
+        try {
+            processOne(0);
+        } catch (RhinoException e) {
+            error = e;
+        } catch (RuntimeException e) {
+            // still wait for the workers, which are using the other instances
+            error = new RhinoRuntimeException(e);
+        }
+        boolean isInterrupted = false;
+        for (Future<Void> future : futures) {
+            try {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        isInterrupted = true;
+                    }
+                }
+            } catch (ExecutionException e) {
+                RhinoException cause = e.getCause() instanceof RhinoException
+                        ? (RhinoException) e.getCause()
+                        : new RhinoRuntimeException(e.getCause());
+                if (error == null) {
+                    error = cause;
+                } else {
+                    error.addSuppressed(cause);
+                }
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void processOne(int index) throws RhinoException {
+        results[index] = rhinos[index].process(frames[index]) ? rhinos[index].getInference() : null;
+    }
+
+    private void finishCommand() throws RhinoException {
+        // instances that just finalized are already waiting for the next command
+        for (int i = 0; i < rhinos.length; i++) {
+            if (results[i] == null) {
+                rhinos[i].reset();
+            }
+        }
+        clearCommand();
+    }
+
+    private void clearCommand() {
+        for (int i = 0; i < rhinos.length; i++) {
+            isFinalized[i] = false;
+            results[i] = null;
+        }
+        notUnderstood = null;
+        numFinalized = 0;
+        numFramesSinceFinalized = 0;
+    }
+
+    private static boolean isSameInference(RhinoInference a, RhinoInference b) {
+        return a.getIsUnderstood() == b.getIsUnderstood()
+                && Objects.equals(a.getIntent(), b.getIntent())
+                && Objects.equals(a.getSlots(), b.getSlots());
+    }
+}
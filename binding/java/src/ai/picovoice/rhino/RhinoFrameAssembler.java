@@ -0,0 +1,170 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Re-chunks audio of arbitrary size into frames of {@link Rhino#getFrameLength()} samples and processes them.
+ * Chunks are copied into a preallocated frame buffer, which is passed to {@link Rhino#process(short[])} as soon
+ * as it is full. Samples that do not fill a frame are kept for the next call, and so is the odd byte of a
+ * byte chunk, so chunk boundaries can fall anywhere. Writing does not allocate.
+ *
+ * <p>An assembler is not thread-safe and should be the only caller of `process` on its Rhino instance.
+ */
+public class RhinoFrameAssembler {
+
+    private final Rhino rhino;
+    private final RhinoInferenceCallback callback;
+    private final short[] frame;
+
+    private int numBuffered;
+    private int carryByte = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param rhino    Rhino instance that processes the assembled frames.
+     * @param callback Invoked on the writing thread for every finalized inference.
+     * @throws RhinoInvalidArgumentException if an argument is `null`.
+     */
+    public RhinoFrameAssembler(Rhino rhino, RhinoInferenceCallback callback) throws RhinoInvalidArgumentException {
+        if (rhino == null || callback == null) {
+            throw new RhinoInvalidArgumentException("Rhino instance and callback must not be null.");
+        }
+        this.rhino = rhino;
+        this.callback = callback;
+        this.frame = new short[rhino.getFrameLength()];
+    }
+
+    /**
+     * Writes a chunk of 16-bit samples.
+     *
+     * @param pcm Audio samples.
+     * @throws RhinoException if processing a frame fails.
+     */
+    public void write(short[] pcm) throws RhinoException {
+        write(pcm, 0, pcm.length);
+    }
+
+    /**
+     * Writes part of an array of 16-bit samples.
+     *
+     * @param pcm    Audio samples.
+     * @param offset Index of the first sample to write.
+     * @param length Number of samples to write.
+     * @throws RhinoException if the range is out of bounds or processing a frame fails.
+     */
+    public void write(short[] pcm, int offset, int length) throws RhinoException {
+        Utils.checkRange(pcm.length, offset, length);
+        if (carryByte >= 0) {
+            throw new RhinoInvalidStateException(
+                    "Cannot write samples while an odd byte from a previous byte chunk is pending.");
+        }
+        while (length > 0) {
+            int n = Math.min(length, frame.length - numBuffered);
+            System.arraycopy(pcm, offset, frame, numBuffered, n);
+            numBuffered += n;
+            offset += n;
+            length -= n;
+            processIfFull();
+        }
+    }
+
+    /**
+     * Writes a chunk of 16-bit little-endian PCM bytes. A chunk can end in the middle of a sample; the
+     * remaining byte is combined with the first byte of the next chunk.
+     *
+     * @param pcm    Audio bytes.
+     * @param offset Index of the first byte to write.
+     * @param length Number of bytes to write.
+     * @throws RhinoException if the range is out of bounds or processing a frame fails.
+     */
+    public void write(byte[] pcm, int offset, int length) throws RhinoException {
+        Utils.checkRange(pcm.length, offset, length);
+        int end = offset + length;
+        if (carryByte >= 0 && offset < end) {
+            frame[numBuffered++] = (short) ((pcm[offset++] << 8) | carryByte);
+            carryByte = -1;
+            processIfFull();
+        }
+        while (end - offset >= 2) {
+            int n = Math.min((end - offset) / 2, frame.length - numBuffered);
+            for (int i = 0; i < n; i++) {
+                frame[numBuffered++] = (short) ((pcm[offset + 1] << 8) | (pcm[offset] & 0xFF));
+                offset += 2;
+            }
+            processIfFull();
+        }
+        if (offset < end) {
+            carryByte = pcm[offset] & 0xFF;
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer as 16-bit PCM in the buffer's byte order, and advances its
+     * position to its limit. As with byte arrays, a trailing odd byte is kept for the next chunk.
+     *
+     * @param pcm Audio bytes.
+     * @throws RhinoException if processing a frame fails.
+     */
+    public void write(ByteBuffer pcm) throws RhinoException {
+        boolean isLittleEndian = pcm.order() == ByteOrder.LITTLE_ENDIAN;
+        if (carryByte >= 0 && pcm.hasRemaining()) {
+            int next = pcm.get() & 0xFF;
+            frame[numBuffered++] = isLittleEndian
+                    ? (short) ((next << 8) | carryByte)
+                    : (short) ((carryByte << 8) | next);
+            carryByte = -1;
+            processIfFull();
+        }
+        while (pcm.remaining() >= 2) {
+            int n = Math.min(pcm.remaining() / 2, frame.length - numBuffered);
+            for (int i = 0; i < n; i++) {
+                frame[numBuffered++] = pcm.getShort();
+            }
+            processIfFull();
+        }
+        if (pcm.hasRemaining()) {
+            carryByte = pcm.get() & 0xFF;
+        }
+    }
+
+    /**
+     * Getter for the number of samples written but not yet processed.
+     *
+     * @return Number of buffered samples, less than {@link Rhino#getFrameLength()}.
+     */
+    public int getNumBufferedSamples() {
+        return numBuffered;
+    }
+
+    /**
+     * Discards buffered samples and any pending odd byte, e.g. when the audio source restarts.
+     */
+    public void clear() {
+        numBuffered = 0;
+        carryByte = -1;
+    }
+
+    private void processIfFull() throws RhinoException {
+        if (numBuffered < frame.length) {
+            return;
+        }
+        numBuffered = 0;
+        if (rhino.process(frame)) {
+            callback.invoke(rhino.getInference());
+        }
+    }
+}
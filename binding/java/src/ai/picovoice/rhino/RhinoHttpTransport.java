@@ -0,0 +1,58 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * HTTP client used by {@link RhinoContextTrainer}. The default implementation uses {@code HttpURLConnection}
+ * and reuses connections through the JDK keep-alive cache. Implementations must be safe to call from several
+ * threads at once.
+ */
+public interface RhinoHttpTransport {
+
+    /**
+     * Sends a POST request.
+     *
+     * @param url     Request URL.
+     * @param headers Request headers.
+     * @param body    Request body.
+     * @return Response. The caller closes it after reading the body.
+     * @throws IOException if the request cannot be sent or no response is received.
+     */
+    Response post(String url, Map<String, String> headers, byte[] body) throws IOException;
+
+    /**
+     * Response to a request. Closing it releases the connection for reuse.
+     */
+    interface Response extends Closeable {
+
+        /**
+         * Getter for the HTTP status code.
+         *
+         * @return Status code.
+         */
+        int getStatusCode();
+
+        /**
+         * Getter for the response body, which is streamed from the connection.
+         *
+         * @return Body of the response, empty if there is none.
+         * @throws IOException if the body cannot be read.
+         */
+        InputStream getBody() throws IOException;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative values with a relative error of about 3%. Values below 64 are counted exactly; larger
+ * values fall into 32 buckets per power of two. Recording is lock-free and does not allocate, so a histogram can be
+ * shared by many threads on the audio path.
+ */
+public final class RhinoLatencyHistogram {
+
+    private static final int LINEAR_LIMIT = 64;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_EXPONENT = 6;
+    private static final int NUM_BUCKETS = LINEAR_LIMIT + (63 - LINEAR_EXPONENT) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value. Negative values are ignored.
+     *
+     * @param value Value to record.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // retry until the maximum is at least the value
+        }
+    }
+
+    /**
+     * Getter for the number of recorded values.
+     *
+     * @return Number of values.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Getter for the mean of the recorded values.
+     *
+     * @return Mean, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Getter for the largest recorded value.
+     *
+     * @return Maximum, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Getter for the value below which a percentage of the recorded values fall. The result is the midpoint of the
+     * bucket holding the percentile, capped at the maximum.
+     *
+     * @param percentile Percentile within [0, 100].
+     * @return Value at the percentile, or 0 if nothing was recorded.
+     * @throws RhinoInvalidArgumentException if the percentile is out of range.
+     */
+    public long getValueAtPercentile(double percentile) throws RhinoInvalidArgumentException {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new RhinoInvalidArgumentException("Percentile should be within [0, 100].");
+        }
+        long total = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(midpointOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Forgets all recorded values. Values recorded concurrently with the reset may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long midpointOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_EXPONENT;
+        int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (1L << exponent) + subBucket * width;
+        return lower + width / 2;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregates the utterances measured by {@link RhinoLatencyTracker}s into histograms, grouped by the endpoint
+ * duration of the instance that processed them. A single instance is meant to be shared by all trackers of a
+ * process, so that each endpoint setting can be compared on production traffic.
+ */
+public class RhinoLatencyStats {
+
+    private final ConcurrentHashMap<Float, Setting> settings = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an utterance to the histograms of its endpoint duration.
+     *
+     * @param utterance Utterance measured by a tracker.
+     */
+    public void record(RhinoLatencyTracker.Utterance utterance) {
+        settings.computeIfAbsent(utterance.getEndpointDurationSec(), Setting::new).record(utterance);
+    }
+
+    /**
+     * Getter for the statistics of one endpoint duration.
+     *
+     * @param endpointDurationSec Endpoint duration in seconds.
+     * @return Statistics, or `null` if no utterance was recorded with that endpoint duration.
+     */
+    public Setting getSetting(float endpointDurationSec) {
+        return settings.get(endpointDurationSec);
+    }
+
+    /**
+     * Getter for the statistics of all endpoint durations seen so far.
+     *
+     * @return Unmodifiable map from endpoint duration, in seconds, to statistics, in increasing order.
+     */
+    public Map<Float, Setting> getSettings() {
+        return Collections.unmodifiableMap(new TreeMap<>(settings));
+    }
+
+    /**
+     * Statistics of the utterances processed with one endpoint duration.
+     */
+    public static final class Setting {
+
+        private final float endpointDurationSec;
+        private final RhinoLatencyHistogram endpointLatency = new RhinoLatencyHistogram();
+        private final RhinoLatencyHistogram inferenceLatency = new RhinoLatencyHistogram();
+        private final RhinoLatencyHistogram speechDuration = new RhinoLatencyHistogram();
+        private final AtomicLong numUtterances = new AtomicLong();
+        private final AtomicLong numWithoutSpeech = new AtomicLong();
+        private final AtomicLong numUnderstood = new AtomicLong();
+
+        Setting(float endpointDurationSec) {
+            this.endpointDurationSec = endpointDurationSec;
+        }
+
+        void record(RhinoLatencyTracker.Utterance utterance) {
+            numUtterances.incrementAndGet();
+            if (utterance.getInference() != null && utterance.getInference().getIsUnderstood()) {
+                numUnderstood.incrementAndGet();
+            }
+            if (utterance.getInferenceNanos() >= 0) {
+                inferenceLatency.record(utterance.getInferenceNanos() / 1000);
+            }
+            if (utterance.getEndOfSpeechFrame() < 0) {
+                numWithoutSpeech.incrementAndGet();
+            } else {
+                endpointLatency.record(utterance.getEndpointLatencyMs());
+                speechDuration.record(utterance.getSpeechEndMs() - utterance.getSpeechStartMs());
+            }
+        }
+
+        /**
+         * Getter for the endpoint duration.
+         *
+         * @return Endpoint duration in seconds.
+         */
+        public float getEndpointDurationSec() {
+            return endpointDurationSec;
+        }
+
+        /**
+         * Histogram of the time from the estimated end of speech to the frame at which Rhino finalized, in
+         * milliseconds of audio. This is the delay the endpoint duration adds to every command.
+         *
+         * @return Histogram in milliseconds.
+         */
+        public RhinoLatencyHistogram getEndpointLatency() {
+            return endpointLatency;
+        }
+
+        /**
+         * Histogram of the time spent in {@link Rhino#getInference()}, in microseconds.
+         *
+         * @return Histogram in microseconds.
+         */
+        public RhinoLatencyHistogram getInferenceLatency() {
+            return inferenceLatency;
+        }
+
+        /**
+         * Histogram of the duration of speech within utterances, in milliseconds of audio.
+         *
+         * @return Histogram in milliseconds.
+         */
+        public RhinoLatencyHistogram getSpeechDuration() {
+            return speechDuration;
+        }
+
+        /**
+         * Getter for the number of utterances.
+         *
+         * @return Number of finalized utterances recorded.
+         */
+        public long getNumUtterances() {
+            return numUtterances.get();
+        }
+
+        /**
+         * Getter for the number of utterances in which no speech was detected. These finalized on noise or on
+         * speech too quiet for the energy tracker, and are left out of the endpoint latency.
+         *
+         * @return Number of utterances without detected speech.
+         */
+        public long getNumWithoutSpeech() {
+            return numWithoutSpeech.get();
+        }
+
+        /**
+         * Getter for the number of utterances whose inference was understood.
+         *
+         * @return Number of understood utterances.
+         */
+        public long getNumUnderstood() {
+            return numUnderstood.get();
+        }
+    }
+}
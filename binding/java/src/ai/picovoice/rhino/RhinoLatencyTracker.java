@@ -0,0 +1,276 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.Closeable;
+
+/**
+ * Measures how long a Rhino instance takes to finalize after the speaker stops talking. For every utterance, i.e.
+ * the frames between a reset or finalization and the next finalization, it records the first frame of speech and the
+ * estimated end of speech according to a {@link RhinoEnergyGate}, the frame at which {@link Rhino#process(short[])}
+ * returned `true`, and the time spent in {@link Rhino#getInference()}. Frame positions measure audio time, so the
+ * results do not depend on how fast frames are delivered.
+ *
+ * <p>Speech is counted from runs of at least two speech frames, so that isolated clicks do not move the estimated
+ * end of speech. Utterances are added to a shared {@link RhinoLatencyStats} and passed to an optional listener. An
+ * utterance is complete once its inference is retrieved, or at the next call on the instance if it never is.
+ *
+ * <p>The tracker registers itself as an observer of the Rhino instance when created and unregisters when closed.
+ */
+public class RhinoLatencyTracker implements RhinoObserver, Closeable {
+
+    private final Rhino rhino;
+    private final RhinoLatencyStats stats;
+    private final Listener listener;
+    private final RhinoEnergyGate gate = new RhinoEnergyGate();
+    private final float frameMs;
+
+    private int frameIndex;
+    private int firstSpeechFrame = -1;
+    private int endOfSpeechFrame = -1;
+    private boolean isPreviousSpeech;
+    private Utterance pending;
+
+    /**
+     * Creates a tracker that adds utterances to the given statistics.
+     *
+     * @param rhino Rhino instance to measure.
+     * @param stats Statistics the utterances are added to.
+     * @throws RhinoInvalidArgumentException if an argument is `null`.
+     */
+    public RhinoLatencyTracker(Rhino rhino, RhinoLatencyStats stats) throws RhinoInvalidArgumentException {
+        this(rhino, stats, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rhino    Rhino instance to measure.
+     * @param stats    Statistics the utterances are added to.
+     * @param listener Invoked on the calling thread for every completed utterance. Can be `null`.
+     * @throws RhinoInvalidArgumentException if the instance or statistics are `null`.
+     */
+    public RhinoLatencyTracker(
+            Rhino rhino,
+            RhinoLatencyStats stats,
+            Listener listener) throws RhinoInvalidArgumentException {
+        if (rhino == null || stats == null) {
+            throw new RhinoInvalidArgumentException("Rhino instance and latency stats must not be null.");
+        }
+        this.rhino = rhino;
+        this.stats = stats;
+        this.listener = listener;
+        this.frameMs = rhino.getFrameLength() * 1000f / rhino.getSampleRate();
+        rhino.addObserver(this);
+    }
+
+    @Override
+    public synchronized void onProcess(short[] pcm, boolean isFinalized, long processNanos) {
+        completePending();
+
+        boolean isSpeech = gate.process(pcm);
+        if (isSpeech && isPreviousSpeech) {
+            if (firstSpeechFrame < 0) {
+                firstSpeechFrame = frameIndex - 1;
+            }
+            endOfSpeechFrame = frameIndex;
+        }
+        isPreviousSpeech = isSpeech;
+
+        if (isFinalized) {
+            pending = new Utterance(
+                    rhino.getEndpointDurationSec(),
+                    frameMs,
+                    firstSpeechFrame,
+                    endOfSpeechFrame,
+                    frameIndex);
+            startUtterance();
+        } else {
+            frameIndex++;
+        }
+    }
+
+    @Override
+    public synchronized void onReset() {
+        completePending();
+        startUtterance();
+    }
+
+    @Override
+    public synchronized void onInference(RhinoInference inference, long inferenceNanos) {
+        if (pending != null) {
+            pending.inference = inference;
+            pending.inferenceNanos = inferenceNanos;
+            completePending();
+        }
+    }
+
+    /**
+     * Stops measuring. An utterance whose inference was not retrieved yet is completed without it.
+     */
+    @Override
+    public synchronized void close() {
+        rhino.removeObserver(this);
+        completePending();
+    }
+
+    private void startUtterance() {
+        frameIndex = 0;
+        firstSpeechFrame = -1;
+        endOfSpeechFrame = -1;
+        isPreviousSpeech = false;
+    }
+
+    private void completePending() {
+        Utterance utterance = pending;
+        if (utterance == null) {
+            return;
+        }
+        pending = null;
+        stats.record(utterance);
+        if (listener != null) {
+            listener.onUtterance(utterance);
+        }
+    }
+
+    /**
+     * Listener notified of every completed utterance.
+     */
+    public interface Listener {
+
+        /**
+         * Called when an utterance is complete.
+         *
+         * @param utterance Timing of the utterance.
+         */
+        void onUtterance(Utterance utterance);
+    }
+
+    /**
+     * Timing of one utterance. Frame positions count from the first frame after the previous reset or
+     * finalization.
+     */
+    public static final class Utterance {
+
+        private final float endpointDurationSec;
+        private final float frameMs;
+        private final int firstSpeechFrame;
+        private final int endOfSpeechFrame;
+        private final int finalizedFrame;
+        private RhinoInference inference;
+        private long inferenceNanos = -1;
+
+        Utterance(
+                float endpointDurationSec,
+                float frameMs,
+                int firstSpeechFrame,
+                int endOfSpeechFrame,
+                int finalizedFrame) {
+            this.endpointDurationSec = endpointDurationSec;
+            this.frameMs = frameMs;
+            this.firstSpeechFrame = firstSpeechFrame;
+            this.endOfSpeechFrame = endOfSpeechFrame;
+            this.finalizedFrame = finalizedFrame;
+        }
+
+        /**
+         * Getter for the endpoint duration of the instance that processed the utterance.
+         *
+         * @return Endpoint duration in seconds.
+         */
+        public float getEndpointDurationSec() {
+            return endpointDurationSec;
+        }
+
+        /**
+         * Getter for the first frame of speech.
+         *
+         * @return Frame position, or -1 if no speech was detected.
+         */
+        public int getFirstSpeechFrame() {
+            return firstSpeechFrame;
+        }
+
+        /**
+         * Getter for the last frame of speech, which is the estimated end of speech.
+         *
+         * @return Frame position, or -1 if no speech was detected.
+         */
+        public int getEndOfSpeechFrame() {
+            return endOfSpeechFrame;
+        }
+
+        /**
+         * Getter for the frame at which {@link Rhino#process(short[])} returned `true`.
+         *
+         * @return Frame position.
+         */
+        public int getFinalizedFrame() {
+            return finalizedFrame;
+        }
+
+        /**
+         * Getter for the start of speech.
+         *
+         * @return Milliseconds of audio from the start of the utterance, or -1 if no speech was detected.
+         */
+        public long getSpeechStartMs() {
+            return firstSpeechFrame < 0 ? -1 : Math.round(firstSpeechFrame * frameMs);
+        }
+
+        /**
+         * Getter for the estimated end of speech, i.e. the end of its last frame.
+         *
+         * @return Milliseconds of audio from the start of the utterance, or -1 if no speech was detected.
+         */
+        public long getSpeechEndMs() {
+            return endOfSpeechFrame < 0 ? -1 : Math.round((endOfSpeechFrame + 1) * frameMs);
+        }
+
+        /**
+         * Getter for the time at which Rhino finalized, i.e. the end of the frame for which it returned `true`.
+         *
+         * @return Milliseconds of audio from the start of the utterance.
+         */
+        public long getFinalizedMs() {
+            return Math.round((finalizedFrame + 1) * frameMs);
+        }
+
+        /**
+         * Getter for the time from the estimated end of speech to finalization.
+         *
+         * @return Milliseconds of audio, or -1 if no speech was detected.
+         */
+        public long getEndpointLatencyMs() {
+            return endOfSpeechFrame < 0 ? -1 : getFinalizedMs() - getSpeechEndMs();
+        }
+
+        /**
+         * Getter for the inference retrieved after finalization.
+         *
+         * @return Inference, or `null` if it was not retrieved.
+         */
+        public RhinoInference getInference() {
+            return inference;
+        }
+
+        /**
+         * Getter for the time spent in {@link Rhino#getInference()}.
+         *
+         * @return Time in nanoseconds, or -1 if the inference was not retrieved.
+         */
+        public long getInferenceNanos() {
+            return inferenceNanos;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports Rhino instances that were garbage collected without {@link Rhino#delete()}. The native resources of such
+ * instances are released when they are collected, but only once the garbage collector gets to them, so a leak still
+ * holds native memory for an unbounded time.
+ *
+ * <p>Leaks are always counted and reported. To find where leaked instances were created, enable sampling with
+ * {@link #setSampleRate(double)} or the `ai.picovoice.rhino.leakDetectionSampleRate` system property: the stack trace
+ * of a sampled fraction of instances is captured when they are created and included in the report. Capturing a
+ * stack trace costs a few microseconds per instance.
+ */
+public final class RhinoLeakDetector {
+
+    /**
+     * System property holding the initial sample rate.
+     */
+    public static final String SAMPLE_RATE_PROPERTY = "ai.picovoice.rhino.leakDetectionSampleRate";
+
+    private static final Listener DEFAULT_LISTENER = (contextPath, creationSite) -> {
+        System.err.println("Rhino instance for '" + contextPath + "' was garbage collected without delete(). " +
+                (creationSite == null ?
+                        "Set " + SAMPLE_RATE_PROPERTY + " to find where it was created." :
+                        "It was created at:"));
+        if (creationSite != null) {
+            creationSite.printStackTrace();
+        }
+    };
+
+    private static final AtomicLong numLeaked = new AtomicLong();
+    private static volatile double sampleRate = readSampleRate();
+    private static volatile Listener listener = DEFAULT_LISTENER;
+
+    private RhinoLeakDetector() { }
+
+    /**
+     * Setter for the fraction of instances whose creation stack trace is captured.
+     *
+     * @param rate Sample rate within [0, 1]. 0 disables capturing, 1 captures every instance.
+     * @throws RhinoInvalidArgumentException if the rate is out of range.
+     */
+    public static void setSampleRate(double rate) throws RhinoInvalidArgumentException {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new RhinoInvalidArgumentException("Leak detection sample rate should be within [0, 1].");
+        }
+        sampleRate = rate;
+    }
+
+    /**
+     * Getter for the fraction of instances whose creation stack trace is captured.
+     *
+     * @return Sample rate within [0, 1].
+     */
+    public static double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Setter for the listener notified of leaks. The listener is called on the thread that releases collected
+     * instances and should return quickly.
+     *
+     * @param listener Listener, or `null` to print leaks to standard error.
+     */
+    public static void setListener(Listener listener) {
+        RhinoLeakDetector.listener = listener != null ? listener : DEFAULT_LISTENER;
+    }
+
+    /**
+     * Getter for the number of instances collected without {@link Rhino#delete()}.
+     *
+     * @return Number of leaked instances since the process started.
+     */
+    public static long getNumLeaked() {
+        return numLeaked.get();
+    }
+
+    static Throwable sampleCreationSite() {
+        double rate = sampleRate;
+        if (rate <= 0 || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            return null;
+        }
+        return new Throwable("Rhino instance created here");
+    }
+
+    static void reportLeak(String contextPath, Throwable creationSite) {
+        numLeaked.incrementAndGet();
+        try {
+            listener.onLeak(contextPath, creationSite);
+        } catch (RuntimeException e) {
+            // a failing listener must not prevent the instance from being released
+        }
+    }
+
+    private static double readSampleRate() {
+        try {
+            double rate = Double.parseDouble(System.getProperty(SAMPLE_RATE_PROPERTY, "0"));
+            return rate >= 0 && rate <= 1 ? rate : 0;
+        } catch (NumberFormatException | SecurityException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Listener notified when an instance is collected without {@link Rhino#delete()}.
+     */
+    public interface Listener {
+
+        /**
+         * Called when a leaked instance is released.
+         *
+         * @param contextPath  Context of the leaked instance.
+         * @param creationSite Stack trace captured when the instance was created, or `null` if it was not sampled.
+         */
+        void onLeak(String contextPath, Throwable creationSite);
+    }
+}
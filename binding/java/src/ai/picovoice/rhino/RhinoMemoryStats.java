@@ -0,0 +1,372 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide accounting of the native memory held by Rhino instances. The resident set size of the process is
+ * read before and after each instance is initialized and deleted, and the difference is attributed to the
+ * configuration of the instance: its model, context and device.
+ *
+ * <p>Resident memory is shared by the whole process, so a measurement also includes anything else that allocated
+ * at the same time. Only initializations that did not overlap another one are used as the estimate for their
+ * configuration; instances of a configuration that has no such measurement yet use their own, possibly noisy,
+ * measurement. The native allocator reuses memory freed by deleted instances, so an instance initialized after
+ * another was deleted can measure close to nothing. The largest measurement of a configuration is therefore kept,
+ * and it is remembered for a bounded number of recently used configurations after their last instance is deleted.
+ * Measurements are only available on Linux, where the resident set size is read from `/proc/self/status`. Elsewhere
+ * every estimate is -1.
+ *
+ * <p>A configuration is only reported while it has live instances. Once its last instance is deleted its accounting
+ * is dropped, so a process that cycles through many contexts does not accumulate an entry for each of them.
+ */
+public final class RhinoMemoryStats {
+
+    private static final Path STATUS_PATH = Paths.get("/proc/self/status");
+    private static final int MAX_MEASURED_CONFIGURATIONS = 256;
+    private static final boolean IS_SUPPORTED = readResidentBytes() >= 0;
+
+    private static final AtomicInteger numInitsInFlight = new AtomicInteger();
+    private static final AtomicLong numInitsStarted = new AtomicLong();
+    private static final Map<Configuration, Totals> totals = new LinkedHashMap<>();
+    // guarded by totals; per-instance measurements, kept after the totals of a configuration are dropped
+    private static final Map<Configuration, Long> measurements = new LinkedHashMap<Configuration, Long>(
+            16,
+            0.75f,
+            true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Configuration, Long> eldest) {
+            return size() > MAX_MEASURED_CONFIGURATIONS;
+        }
+    };
+
+    private RhinoMemoryStats() { }
+
+    /**
+     * Checks whether native memory can be measured on this platform.
+     *
+     * @return `true` if the resident set size of the process can be read.
+     */
+    public static boolean isSupported() {
+        return IS_SUPPORTED;
+    }
+
+    /**
+     * Getter for the resident set size of the process.
+     *
+     * @return Resident memory in bytes, or -1 if it cannot be measured on this platform.
+     */
+    public static long getResidentMemory() {
+        return IS_SUPPORTED ? readResidentBytes() : -1;
+    }
+
+    /**
+     * Getter for the estimated native memory held by all live instances.
+     *
+     * @return Sum of the estimates of the live instances, in bytes. Instances without an estimate are not counted.
+     */
+    public static long getTotalNativeMemory() {
+        long total = 0;
+        synchronized (totals) {
+            for (Totals t : totals.values()) {
+                total += t.liveBytes;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Getter for the number of live instances.
+     *
+     * @return Number of instances initialized and not yet deleted.
+     */
+    public static int getNumInstances() {
+        int numInstances = 0;
+        synchronized (totals) {
+            for (Totals t : totals.values()) {
+                numInstances += t.numInstances;
+            }
+        }
+        return numInstances;
+    }
+
+    /**
+     * Getter for the memory accounting of every configuration with live instances.
+     *
+     * @return Snapshot of the usage of each configuration, in order of first initialization.
+     */
+    public static List<Usage> getUsage() {
+        List<Usage> usage = new ArrayList<>();
+        synchronized (totals) {
+            for (Map.Entry<Configuration, Totals> e : totals.entrySet()) {
+                usage.add(new Usage(e.getKey(), e.getValue()));
+            }
+        }
+        return Collections.unmodifiableList(usage);
+    }
+
+    static InitMeasurement beginInit() {
+        boolean isAlone = numInitsInFlight.getAndIncrement() == 0;
+        long id = numInitsStarted.incrementAndGet();
+        return new InitMeasurement(id, isAlone, getResidentMemory());
+    }
+
+    static void abortInit() {
+        numInitsInFlight.decrementAndGet();
+    }
+
+    static long endInit(InitMeasurement measurement, Configuration configuration) {
+        long after = getResidentMemory();
+        // exclusive if no other initialization was running at the start or started since
+        boolean isExclusive = measurement.isAlone && numInitsStarted.get() == measurement.id;
+        numInitsInFlight.decrementAndGet();
+
+        long delta = measurement.residentBytes < 0 || after < 0 ? -1 : Math.max(0, after - measurement.residentBytes);
+        synchronized (totals) {
+            Totals t = totals.get(configuration);
+            if (t == null) {
+                t = new Totals();
+                Long measured = measurements.get(configuration);
+                if (measured != null) {
+                    t.instanceBytes = measured;
+                }
+                totals.put(configuration, t);
+            }
+            if (isExclusive && delta > t.instanceBytes) {
+                t.instanceBytes = delta;
+                measurements.put(configuration, delta);
+            }
+            long estimate = t.instanceBytes >= 0 ? t.instanceBytes : delta;
+            t.numInstances++;
+            t.numCreated++;
+            if (estimate > 0) {
+                t.liveBytes += estimate;
+            }
+            return estimate;
+        }
+    }
+
+    static void recordDelete(Configuration configuration, long estimate, long residentBytesBefore) {
+        long after = getResidentMemory();
+        synchronized (totals) {
+            Totals t = totals.get(configuration);
+            if (t == null) {
+                return;
+            }
+            t.numInstances--;
+            if (estimate > 0) {
+                t.liveBytes -= estimate;
+            }
+            if (residentBytesBefore >= 0 && after >= 0) {
+                t.releasedBytes += Math.max(0, residentBytesBefore - after);
+            }
+            if (t.numInstances <= 0) {
+                totals.remove(configuration);
+            }
+        }
+    }
+
+    private static long readResidentBytes() {
+        try {
+            return parseResidentBytes(Files.readAllLines(STATUS_PATH, StandardCharsets.US_ASCII));
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    static long parseResidentBytes(List<String> statusLines) {
+        for (String line : statusLines) {
+            if (line.startsWith("VmRSS:")) {
+                String[] fields = line.substring("VmRSS:".length()).trim().split("\\s+");
+                long value = Long.parseLong(fields[0]);
+                return fields.length > 1 && fields[1].equalsIgnoreCase("kB") ? value * 1024 : value;
+            }
+        }
+        return -1;
+    }
+
+    static final class InitMeasurement {
+        final long id;
+        final boolean isAlone;
+        final long residentBytes;
+
+        InitMeasurement(long id, boolean isAlone, long residentBytes) {
+            this.id = id;
+            this.isAlone = isAlone;
+            this.residentBytes = residentBytes;
+        }
+    }
+
+    static final class Configuration {
+        final String modelPath;
+        final String contextPath;
+        final String device;
+
+        Configuration(String modelPath, String contextPath, String device) {
+            this.modelPath = modelPath;
+            this.contextPath = contextPath;
+            this.device = device;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Configuration)) {
+                return false;
+            }
+            Configuration other = (Configuration) o;
+            return Objects.equals(modelPath, other.modelPath) &&
+                    Objects.equals(contextPath, other.contextPath) &&
+                    Objects.equals(device, other.device);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modelPath, contextPath, device);
+        }
+    }
+
+    private static final class Totals {
+        long instanceBytes = -1;
+        long liveBytes;
+        long releasedBytes;
+        int numInstances;
+        long numCreated;
+    }
+
+    /**
+     * Memory accounting of one configuration.
+     */
+    public static final class Usage {
+
+        private final String modelPath;
+        private final String contextPath;
+        private final String device;
+        private final long instanceBytes;
+        private final long totalBytes;
+        private final long releasedBytes;
+        private final int numInstances;
+        private final long numCreated;
+
+        private Usage(Configuration configuration, Totals totals) {
+            this.modelPath = configuration.modelPath;
+            this.contextPath = configuration.contextPath;
+            this.device = configuration.device;
+            this.instanceBytes = totals.instanceBytes;
+            this.totalBytes = totals.liveBytes;
+            this.releasedBytes = totals.releasedBytes;
+            this.numInstances = totals.numInstances;
+            this.numCreated = totals.numCreated;
+        }
+
+        /**
+         * Getter for the model of the configuration.
+         *
+         * @return Path of the model file.
+         */
+        public String getModelPath() {
+            return modelPath;
+        }
+
+        /**
+         * Getter for the context of the configuration.
+         *
+         * @return Path of the context file.
+         */
+        public String getContextPath() {
+            return contextPath;
+        }
+
+        /**
+         * Getter for the device of the configuration.
+         *
+         * @return Device string the instances were initialized with.
+         */
+        public String getDevice() {
+            return device;
+        }
+
+        /**
+         * Getter for the native memory of one instance: the largest measurement made while no other instance was
+         * being initialized.
+         *
+         * @return Memory in bytes, or -1 if no such measurement has been made.
+         */
+        public long getInstanceBytes() {
+            return instanceBytes;
+        }
+
+        /**
+         * Getter for the estimated native memory held by the live instances.
+         *
+         * @return Memory in bytes.
+         */
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        /**
+         * Getter for the drop in resident memory measured when instances of the configuration were deleted since it
+         * was last without live instances. Much less than the memory
+         * measured at initialization usually means the native allocator keeps freed memory for reuse.
+         *
+         * @return Memory in bytes.
+         */
+        public long getReleasedBytes() {
+            return releasedBytes;
+        }
+
+        /**
+         * Getter for the number of live instances.
+         *
+         * @return Number of instances initialized and not yet deleted.
+         */
+        public int getNumInstances() {
+            return numInstances;
+        }
+
+        /**
+         * Getter for the number of instances initialized since the configuration was last without live instances.
+         *
+         * @return Number of instances, including deleted ones.
+         */
+        public long getNumCreated() {
+            return numCreated;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%s [model=%s, device=%s]: %d instances, %d bytes (%d per instance), %d bytes released",
+                    contextPath,
+                    modelPath,
+                    device,
+                    numInstances,
+                    totalBytes,
+                    instanceBytes,
+                    releasedBytes);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+/**
+ * Runs Rhino on every channel of multi-channel audio, such as the raw channels or beams of a microphone array.
+ * Each channel has its own Rhino instance, and channels are processed in parallel on a small worker pool.
+ *
+ * <p>{@link #process(short[])} takes interleaved audio and returns as soon as any channel understands the
+ * command. If several channels understand it in the same frame, the inference reported by the most channels
+ * wins. If channels only finalize without understanding, the verdict is reported once all channels have
+ * finalized or the verdict window has elapsed, whichever comes first.
+ */
+public class RhinoMultiChannel {
+
+    private static final float DEFAULT_VERDICT_WINDOW_SEC = 0.5f;
+
+    private final Rhino[] rhinos;
+    private final RhinoFanOut fanOut;
+    private final short[][] channelFrames;
+    private final int numChannels;
+    private final int frameLength;
+
+    /**
+     * Creates an instance with a verdict window of 0.5 seconds and up to one worker thread per channel beyond the
+     * first, bounded by the number of processors.
+     *
+     * @param builder     Builder used to create one Rhino instance per channel.
+     * @param numChannels Number of interleaved channels.
+     * @throws RhinoException if the arguments are invalid or a Rhino instance cannot be created.
+     */
+    public RhinoMultiChannel(Rhino.Builder builder, int numChannels) throws RhinoException {
+        this(builder,
+                numChannels,
+                Math.min(numChannels - 1, Runtime.getRuntime().availableProcessors() - 1),
+                DEFAULT_VERDICT_WINDOW_SEC);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param builder          Builder used to create one Rhino instance per channel.
+     * @param numChannels      Number of interleaved channels.
+     * @param numThreads       Number of worker threads. The calling thread processes one channel, so
+     *                         `numChannels - 1` workers process all channels at once. With 0, channels are
+     *                         processed sequentially on the calling thread.
+     * @param verdictWindowSec Time to wait for another channel to understand the command after the first channel
+     *                         finalizes without understanding it.
+     * @throws RhinoException if the arguments are invalid or a Rhino instance cannot be created.
+     */
+    public RhinoMultiChannel(
+            Rhino.Builder builder,
+            int numChannels,
+            int numThreads,
+            float verdictWindowSec) throws RhinoException {
+        if (builder == null) {
+            throw new RhinoInvalidArgumentException("Rhino builder must not be null.");
+        }
+        if (numChannels <= 0) {
+            throw new RhinoInvalidArgumentException("numChannels should be a positive integer.");
+        }
+        if (numThreads < 0) {
+            throw new RhinoInvalidArgumentException("numThreads should be a non-negative integer.");
+        }
+        if (verdictWindowSec < 0) {
+            throw new RhinoInvalidArgumentException("verdictWindowSec should be a non-negative number.");
+        }
+
+        this.rhinos = new Rhino[numChannels];
+        this.numChannels = numChannels;
+        try {
+            for (int i = 0; i < numChannels; i++) {
+                rhinos[i] = builder.build();
+            }
+            this.frameLength = rhinos[0].getFrameLength();
+            this.channelFrames = new short[numChannels][frameLength];
+            int verdictWindowFrames = (int) Math.ceil(verdictWindowSec * rhinos[0].getSampleRate() / frameLength);
+            this.fanOut = new RhinoFanOut(rhinos, numThreads, verdictWindowFrames, true, "rhino-channel-");
+        } catch (RhinoException | RuntimeException e) {
+            deleteRhinos();
+            throw e;
+        }
+    }
+
+    /**
+     * Processes one frame of interleaved audio: {@link #getFrameLength()} samples per channel, with the samples
+     * of all channels for a point in time next to each other.
+     *
+     * @param pcm Interleaved audio of length `getNumChannels() * getFrameLength()`.
+     * @return The inference once a verdict is reached, otherwise `null`.
+     * @throws RhinoException if the frame has the wrong length or processing fails.
+     */
+    public RhinoInference process(short[] pcm) throws RhinoException {
+        if (pcm == null || pcm.length != numChannels * frameLength) {
+            throw new RhinoInvalidArgumentException(String.format(
+                    "Interleaved frame must contain %d samples for each of the %d channels.",
+                    frameLength,
+                    numChannels));
+        }
+
+        for (int i = 0, sample = 0; i < frameLength; i++) {
+            for (int c = 0; c < numChannels; c++) {
+                channelFrames[c][i] = pcm[sample++];
+            }
+        }
+        return fanOut.process(channelFrames);
+    }
+
+    /**
+     * Getter for the channel that produced the last understood inference.
+     *
+     * @return Index of the channel, or -1 if the last call to {@link #process(short[])} did not return an
+     *         understood inference.
+     */
+    public int getWinningChannel() {
+        return fanOut.getWinnerIndex();
+    }
+
+    /**
+     * Resets all channels, discarding any partial command.
+     *
+     * @throws RhinoException if a reset fails.
+     */
+    public void reset() throws RhinoException {
+        fanOut.reset();
+    }
+
+    /**
+     * Getter for the number of channels.
+     *
+     * @return Number of channels.
+     */
+    public int getNumChannels() {
+        return numChannels;
+    }
+
+    /**
+     * Getter for the number of samples per channel in a frame.
+     *
+     * @return Frame length of a single channel.
+     */
+    public int getFrameLength() {
+        return frameLength;
+    }
+
+    /**
+     * Getter for the audio sample rate.
+     *
+     * @return Sample rate.
+     */
+    public int getSampleRate() {
+        return rhinos[0].getSampleRate();
+    }
+
+    /**
+     * Stops the worker threads and releases the resources of all channels.
+     */
+    public void delete() {
+        fanOut.shutdown();
+        deleteRhinos();
+    }
+
+    private void deleteRhinos() {
+        for (Rhino rhino : rhinos) {
+            if (rhino != null) {
+                rhino.delete();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+/**
+ * Receives the calls made on a Rhino instance, e.g. to record or measure them. Observers are invoked
+ * synchronously on the calling thread, after the call has completed, and should return quickly. Register one with
+ * {@link Rhino#addObserver(RhinoObserver)}.
+ */
+public interface RhinoObserver {
+
+    /**
+     * Invoked after a frame has been processed.
+     *
+     * @param pcm          The frame passed to {@link Rhino#process(short[])}. Only valid during the call.
+     * @param isFinalized  Value returned by {@link Rhino#process(short[])}.
+     * @param processNanos Time spent in the native process call, in nanoseconds.
+     */
+    default void onProcess(short[] pcm, boolean isFinalized, long processNanos) {
+    }
+
+    /**
+     * Invoked after {@link Rhino#reset()}.
+     */
+    default void onReset() {
+    }
+
+    /**
+     * Invoked after an inference has been retrieved with {@link Rhino#getInference()}.
+     *
+     * @param inference      The inference.
+     * @param inferenceNanos Time spent in the native call, in nanoseconds.
+     */
+    default void onInference(RhinoInference inference, long inferenceNanos) {
+    }
+}
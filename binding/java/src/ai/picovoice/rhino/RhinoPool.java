@@ -0,0 +1,308 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded pool of Rhino instances that share a configuration. Instances are created lazily from
+ * the given {@link Rhino.Builder} up to the pool capacity. An instance handed out by
+ * {@link #acquire(long, TimeUnit)} or {@link #tryAcquire()} is owned exclusively by the caller until
+ * it is returned with {@link #release(Rhino)}, at which point its internal state is reset.
+ */
+public class RhinoPool {
+
+    private final Rhino.Builder builder;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    // signalled whenever an instance becomes idle or a slot is freed, and on delete
+    private final Condition isAvailable = lock.newCondition();
+
+    // guarded by lock
+    private final ArrayDeque<Rhino> idle;
+    private final Set<Rhino> inUse = Collections.newSetFromMap(new IdentityHashMap<>());
+    // idle, in use and being created
+    private int numCreated;
+    private boolean isDeleted;
+
+    /**
+     * Constructor.
+     *
+     * @param builder  Builder used to create the pooled Rhino instances.
+     * @param capacity Maximum number of Rhino instances held by the pool.
+     * @throws RhinoException if the arguments are invalid.
+     */
+    public RhinoPool(Rhino.Builder builder, int capacity) throws RhinoException {
+        if (builder == null) {
+            throw new RhinoInvalidArgumentException("RhinoPool requires a Rhino builder.");
+        }
+        if (capacity <= 0) {
+            throw new RhinoInvalidArgumentException("RhinoPool capacity should be a positive integer.");
+        }
+
+        this.builder = builder;
+        this.capacity = capacity;
+        this.idle = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Takes an instance from the pool without waiting. A new instance is created if none are idle and the
+     * pool is below capacity.
+     *
+     * @return A Rhino instance, or `null` if all instances are currently in use.
+     * @throws RhinoException if creating a new instance fails.
+     */
+    public Rhino tryAcquire() throws RhinoException {
+        lock.lock();
+        try {
+            checkNotDeleted();
+            Rhino rhino = idle.poll();
+            if (rhino != null) {
+                inUse.add(rhino);
+                return rhino;
+            }
+            if (numCreated >= capacity) {
+                return null;
+            }
+            numCreated++;
+        } finally {
+            lock.unlock();
+        }
+        return create();
+    }
+
+    /**
+     * Takes an instance from the pool, waiting up to the given timeout for one to be released or discarded if
+     * the pool is exhausted.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit    Unit of the timeout argument.
+     * @return A Rhino instance, or `null` if none became available before the timeout elapsed.
+     * @throws RhinoException       if creating a new instance fails, or if the pool is deleted while waiting.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public Rhino acquire(long timeout, TimeUnit unit) throws RhinoException, InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                checkNotDeleted();
+                Rhino rhino = idle.poll();
+                if (rhino != null) {
+                    inUse.add(rhino);
+                    return rhino;
+                }
+                if (numCreated < capacity) {
+                    numCreated++;
+                    break;
+                }
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                remainingNanos = isAvailable.awaitNanos(remainingNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return create();
+    }
+
+    /**
+     * Returns an instance to the pool. The instance is reset so that the next owner starts from a clean
+     * state. If the pool has been deleted, the instance is deleted instead.
+     *
+     * @param rhino An instance previously acquired from this pool.
+     * @throws RhinoInvalidArgumentException if the instance was not acquired from this pool or has already been
+     *                                       released or discarded.
+     * @throws RhinoException                if resetting the instance fails. The instance is discarded.
+     */
+    public void release(Rhino rhino) throws RhinoException {
+        if (rhino == null) {
+            return;
+        }
+
+        boolean isPoolDeleted;
+        lock.lock();
+        try {
+            if (!inUse.remove(rhino)) {
+                throw new RhinoInvalidArgumentException(
+                        "Rhino instance was not acquired from this RhinoPool or has already been returned.");
+            }
+            isPoolDeleted = isDeleted;
+        } finally {
+            lock.unlock();
+        }
+        if (isPoolDeleted) {
+            deleteOwned(rhino);
+            return;
+        }
+
+        try {
+            rhino.reset();
+        } catch (RhinoException | RuntimeException e) {
+            deleteOwned(rhino);
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            if (!isDeleted) {
+                idle.push(rhino);
+                isAvailable.signalAll();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        deleteOwned(rhino);
+    }
+
+    /**
+     * Deletes an instance acquired from this pool instead of returning it, freeing its slot so a fresh
+     * instance can be created. Use this when an instance is left in an unknown state after an error. An
+     * instance that the pool does not own is deleted without affecting the pool.
+     *
+     * @param rhino An instance previously acquired from this pool.
+     */
+    public void discard(Rhino rhino) {
+        if (rhino == null) {
+            return;
+        }
+
+        boolean isOwned;
+        lock.lock();
+        try {
+            isOwned = inUse.remove(rhino);
+        } finally {
+            lock.unlock();
+        }
+        if (isOwned) {
+            deleteOwned(rhino);
+        } else {
+            rhino.delete();
+        }
+    }
+
+    /**
+     * Releases resources held by idle instances. Instances currently in use are deleted as they are
+     * released, and threads waiting in {@link #acquire(long, TimeUnit)} fail with
+     * {@link RhinoInvalidStateException}.
+     */
+    public void delete() {
+        ArrayDeque<Rhino> drained;
+        lock.lock();
+        try {
+            isDeleted = true;
+            drained = new ArrayDeque<>(idle);
+            idle.clear();
+            numCreated -= drained.size();
+            isAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Rhino rhino : drained) {
+            rhino.delete();
+        }
+    }
+
+    /**
+     * Getter for the pool capacity.
+     *
+     * @return Maximum number of Rhino instances held by the pool.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Getter for the number of instances created so far.
+     *
+     * @return Number of instances currently owned by the pool, idle or in use.
+     */
+    public int getNumCreated() {
+        lock.lock();
+        try {
+            return numCreated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Getter for the number of idle instances.
+     *
+     * @return Number of instances that can be acquired without creating a new one.
+     */
+    public int getNumIdle() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Builds an instance for a slot that the caller has already reserved in `numCreated`.
+     */
+    private Rhino create() throws RhinoException {
+        Rhino rhino;
+        try {
+            rhino = builder.build();
+        } catch (RhinoException | RuntimeException e) {
+            freeSlot();
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            inUse.add(rhino);
+        } finally {
+            lock.unlock();
+        }
+        return rhino;
+    }
+
+    /**
+     * Deletes an instance that the pool no longer tracks as idle or in use and frees its slot.
+     */
+    private void deleteOwned(Rhino rhino) {
+        try {
+            rhino.delete();
+        } finally {
+            freeSlot();
+        }
+    }
+
+    private void freeSlot() {
+        lock.lock();
+        try {
+            numCreated--;
+            isAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkNotDeleted() throws RhinoException {
+        if (isDeleted) {
+            throw new RhinoInvalidStateException("Attempted to acquire from RhinoPool after delete.");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+/**
+ * Keeps the most recent audio in front of Rhino so that speech that started before a session was triggered is
+ * not lost. While idle, frames are copied into a preallocated circular buffer that holds the last `preRollMs`
+ * milliseconds. When the session is activated, the buffered frames are processed as fast as possible, and
+ * live frames are processed from then on. The session ends, and buffering resumes, after an inference.
+ *
+ * <p>{@link #write(short[])} should be called from the audio thread for every frame. {@link #activate()} and
+ * {@link #deactivate()} can be called from any thread; they take effect at the next write, so buffered and live
+ * frames are always processed on the audio thread and in order. Writing does not allocate.
+ */
+public class RhinoPreRollBuffer {
+
+    private final Rhino rhino;
+    private final RhinoInferenceCallback callback;
+    private final int frameLength;
+    private final int capacity;
+    private final short[] ring;
+    private final short[] catchUpFrame;
+
+    private int head;
+    private int numFrames;
+    private boolean isActive;
+
+    private volatile boolean isActivationRequested;
+    private volatile boolean isDeactivationRequested;
+    private volatile long lastCatchUpNanos;
+    private volatile int lastCatchUpFrames;
+
+    /**
+     * Constructor.
+     *
+     * @param rhino     Rhino instance that processes the audio.
+     * @param preRollMs Amount of audio to keep while idle, in milliseconds. Rounded up to whole frames.
+     * @param callback  Invoked on the audio thread for every finalized inference.
+     * @throws RhinoInvalidArgumentException if an argument is invalid.
+     */
+    public RhinoPreRollBuffer(
+            Rhino rhino,
+            int preRollMs,
+            RhinoInferenceCallback callback) throws RhinoInvalidArgumentException {
+        if (rhino == null || callback == null) {
+            throw new RhinoInvalidArgumentException("Rhino instance and callback must not be null.");
+        }
+        if (preRollMs < 0) {
+            throw new RhinoInvalidArgumentException("preRollMs should be a non-negative integer.");
+        }
+        this.rhino = rhino;
+        this.callback = callback;
+        this.frameLength = rhino.getFrameLength();
+        long preRollSamples = (long) preRollMs * rhino.getSampleRate() / 1000;
+        this.capacity = (int) ((preRollSamples + frameLength - 1) / frameLength);
+        this.ring = new short[capacity * frameLength];
+        this.catchUpFrame = new short[frameLength];
+    }
+
+    /**
+     * Writes a frame of live audio. While idle, the frame is buffered. If a session was activated since the last
+     * write, the buffered frames are processed first, and then the frame itself.
+     *
+     * @param frame A frame of audio samples.
+     * @throws RhinoException if the frame has the wrong length or processing fails.
+     */
+    public void write(short[] frame) throws RhinoException {
+        if (frame == null || frame.length != frameLength) {
+            throw new RhinoInvalidArgumentException(String.format(
+                    "Frame must contain %d samples.",
+                    frameLength));
+        }
+
+        if (isDeactivationRequested) {
+            isDeactivationRequested = false;
+            isActive = false;
+        }
+        if (isActivationRequested) {
+            isActivationRequested = false;
+            catchUp();
+        }
+
+        if (isActive) {
+            process(frame);
+        } else if (capacity > 0) {
+            int tail = (head + numFrames) % capacity;
+            System.arraycopy(frame, 0, ring, tail * frameLength, frameLength);
+            if (numFrames == capacity) {
+                head = (head + 1) % capacity;
+            } else {
+                numFrames++;
+            }
+        }
+    }
+
+    /**
+     * Starts a session. At the next write, the buffered audio is processed as fast as possible, followed by live
+     * audio until an inference is returned.
+     */
+    public void activate() {
+        isDeactivationRequested = false;
+        isActivationRequested = true;
+    }
+
+    /**
+     * Ends the current session without an inference. Buffering resumes at the next write.
+     */
+    public void deactivate() {
+        isActivationRequested = false;
+        isDeactivationRequested = true;
+    }
+
+    /**
+     * Getter for the number of frames the buffer holds while idle.
+     *
+     * @return Capacity of the buffer, in frames.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Getter for the time it took to process the buffered audio at the last activation.
+     *
+     * @return Catch-up time in nanoseconds.
+     */
+    public long getLastCatchUpNanos() {
+        return lastCatchUpNanos;
+    }
+
+    /**
+     * Getter for the number of buffered frames processed at the last activation.
+     *
+     * @return Number of frames.
+     */
+    public int getLastCatchUpFrames() {
+        return lastCatchUpFrames;
+    }
+
+    private void catchUp() throws RhinoException {
+        long start = System.nanoTime();
+        int numProcessed = 0;
+
+        rhino.reset();
+        isActive = true;
+        while (numFrames > 0 && isActive) {
+            System.arraycopy(ring, head * frameLength, catchUpFrame, 0, frameLength);
+            head = (head + 1) % capacity;
+            numFrames--;
+            numProcessed++;
+            process(catchUpFrame);
+        }
+        // anything buffered after an inference reached during catch-up belongs to the finished session
+        head = 0;
+        numFrames = 0;
+
+        lastCatchUpFrames = numProcessed;
+        lastCatchUpNanos = System.nanoTime() - start;
+    }
+
+    private void process(short[] frame) throws RhinoException {
+        if (rhino.process(frame)) {
+            isActive = false;
+            callback.invoke(rhino.getInference());
+        }
+    }
+}
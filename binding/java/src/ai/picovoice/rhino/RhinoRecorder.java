@@ -0,0 +1,198 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Records every frame processed by a Rhino instance, together with timestamps, processing times, resets and
+ * inferences, to an append-only file that can be read back with {@link RhinoRecording}. The file is written
+ * through a memory-mapped region, so recording a frame is a copy into memory and does not block on I/O.
+ *
+ * <p>The recorder registers itself as an observer of the Rhino instance when created and unregisters when
+ * closed. If writing fails, recording stops and the error is available from {@link #getError()}; the Rhino
+ * instance is not affected.
+ */
+public class RhinoRecorder implements RhinoObserver, Closeable {
+
+    private final Rhino rhino;
+    private final FileChannel channel;
+    private final int frameLength;
+    private final long startNanos = System.nanoTime();
+
+    private MappedByteBuffer region;
+    private long regionStart;
+    private boolean isClosed;
+    private IOException error;
+
+    /**
+     * Creates a recording file, replacing any existing file at the path, and starts recording.
+     *
+     * @param rhino Rhino instance to record.
+     * @param path  Path of the recording file.
+     * @throws IOException if the file cannot be created.
+     */
+    public RhinoRecorder(Rhino rhino, String path) throws IOException {
+        this.rhino = rhino;
+        this.frameLength = rhino.getFrameLength();
+        this.channel = FileChannel.open(
+                Paths.get(path),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            mapRegion(0);
+            region.putLong(RhinoRecording.MAGIC);
+            region.putInt(RhinoRecording.VERSION);
+            region.putInt(frameLength);
+            region.putInt(rhino.getSampleRate());
+            region.putLong(System.currentTimeMillis());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        rhino.addObserver(this);
+    }
+
+    @Override
+    public synchronized void onProcess(short[] pcm, boolean isFinalized, long processNanos) {
+        if (reserve(1 + 8 + 8 + 1 + 2 * frameLength)) {
+            region.put(RhinoRecording.FRAME);
+            region.putLong(System.nanoTime() - startNanos);
+            region.putLong(processNanos);
+            region.put((byte) (isFinalized ? 1 : 0));
+            for (short sample : pcm) {
+                region.putShort(sample);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onReset() {
+        if (reserve(1 + 8)) {
+            region.put(RhinoRecording.RESET);
+            region.putLong(System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public synchronized void onInference(RhinoInference inference, long inferenceNanos) {
+        int size = 1 + 8 + 1 + sizeOf(inference.getIntent()) + 4;
+        Map<String, String> slots = inference.getSlots();
+        if (slots != null) {
+            for (Map.Entry<String, String> slot : slots.entrySet()) {
+                size += sizeOf(slot.getKey()) + sizeOf(slot.getValue());
+            }
+        }
+        if (reserve(size)) {
+            region.put(RhinoRecording.INFERENCE);
+            region.putLong(System.nanoTime() - startNanos);
+            region.put((byte) (inference.getIsUnderstood() ? 1 : 0));
+            putString(inference.getIntent());
+            region.putInt(slots == null ? 0 : slots.size());
+            if (slots != null) {
+                for (Map.Entry<String, String> slot : slots.entrySet()) {
+                    putString(slot.getKey());
+                    putString(slot.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Getter for the error that stopped recording.
+     *
+     * @return The error, or `null` if recording has not failed.
+     */
+    public synchronized IOException getError() {
+        return error;
+    }
+
+    /**
+     * Stops recording and trims the file to the recorded data.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        rhino.removeObserver(this);
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            long end = regionStart + region.position();
+            region.force();
+            region = null;
+            try {
+                channel.truncate(end);
+            } catch (IOException e) {
+                // some platforms refuse to truncate a file that is still mapped. The rest of the last region then
+                // stays zero, and readers skip from a zero type byte to the next region, which ends the recording
+                // when the region is the last one in the file.
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    private boolean reserve(int size) {
+        if (isClosed || error != null) {
+            return false;
+        }
+        if (region.remaining() >= size) {
+            return true;
+        }
+        if (size > RhinoRecording.REGION_SIZE) {
+            error = new IOException("Record of " + size + " bytes is larger than the maximum record size.");
+            return false;
+        }
+        try {
+            // the rest of the region stays zero, which readers treat as padding
+            mapRegion(regionStart + RhinoRecording.REGION_SIZE);
+            return true;
+        } catch (IOException e) {
+            error = e;
+            return false;
+        }
+    }
+
+    private void mapRegion(long start) throws IOException {
+        region = channel.map(FileChannel.MapMode.READ_WRITE, start, RhinoRecording.REGION_SIZE);
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        regionStart = start;
+    }
+
+    private void putString(String s) {
+        if (s == null) {
+            region.putInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        region.putInt(bytes.length);
+        region.put(bytes);
+    }
+
+    private static int sizeOf(String s) {
+        return 4 + (s == null ? 0 : s.getBytes(StandardCharsets.UTF_8).length);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads a file written by {@link RhinoRecorder}. Events are read in order with {@link #next()}, and the
+ * getters return the fields of the current event.
+ *
+ * <p>File format (little-endian): a header with the magic number, format version, frame length, sample rate
+ * and start time in milliseconds since the epoch, followed by records. Every record starts with a type byte and
+ * a timestamp in nanoseconds since recording started:
+ * <ul>
+ *     <li>frame: processing time in nanoseconds, finalized flag, and the samples of the frame;</li>
+ *     <li>reset: no fields;</li>
+ *     <li>inference: understood flag, intent, and the number of slots followed by slot and value pairs.
+ *     Strings are stored as a byte length, -1 for `null`, followed by UTF-8 bytes.</li>
+ * </ul>
+ * The file is written in fixed-size regions and records never cross a region boundary. A zero type byte marks
+ * padding up to the end of a region, or the end of the recording in the last region.
+ */
+public class RhinoRecording implements Closeable {
+
+    static final long MAGIC = 0x31304C4E4852L; // "RHNL01"
+    static final int VERSION = 1;
+    static final int REGION_SIZE = 4 * 1024 * 1024;
+
+    static final byte FRAME = 1;
+    static final byte RESET = 2;
+    static final byte INFERENCE = 3;
+
+    /**
+     * Type of a recorded event.
+     */
+    public enum EventType {
+        FRAME,
+        RESET,
+        INFERENCE
+    }
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int frameLength;
+    private final int sampleRate;
+    private final long startTimeMillis;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    private EventType eventType;
+    private long timestampNanos;
+    private long processNanos;
+    private boolean isFinalized;
+    private final short[] frame;
+    private RhinoInference inference;
+
+    /**
+     * Opens a recording.
+     *
+     * @param path Path of the recording file.
+     * @throws IOException if the file cannot be read or is not a recording.
+     */
+    public RhinoRecording(String path) throws IOException {
+        this.channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ);
+        try {
+            this.fileSize = channel.size();
+            mapRegion(0);
+            if (region.remaining() < 28 || region.getLong() != MAGIC) {
+                throw new IOException("'" + path + "' is not a Rhino recording.");
+            }
+            int version = region.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported Rhino recording version " + version + ".");
+            }
+            this.frameLength = region.getInt();
+            this.sampleRate = region.getInt();
+            this.startTimeMillis = region.getLong();
+            this.frame = new short[frameLength];
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Advances to the next event.
+     *
+     * @return `true` if there is an event, `false` at the end of the recording.
+     * @throws IOException if the recording is truncated or corrupt.
+     */
+    public boolean next() throws IOException {
+        byte type = region.hasRemaining() ? region.get() : 0;
+        while (type == 0) {
+            long nextRegion = regionStart + REGION_SIZE;
+            if (nextRegion >= fileSize) {
+                eventType = null;
+                return false;
+            }
+            mapRegion(nextRegion);
+            type = region.get();
+        }
+
+        try {
+            timestampNanos = region.getLong();
+            switch (type) {
+                case FRAME:
+                    eventType = EventType.FRAME;
+                    processNanos = region.getLong();
+                    isFinalized = region.get() != 0;
+                    for (int i = 0; i < frameLength; i++) {
+                        frame[i] = region.getShort();
+                    }
+                    break;
+                case RESET:
+                    eventType = EventType.RESET;
+                    break;
+                case INFERENCE:
+                    eventType = EventType.INFERENCE;
+                    boolean isUnderstood = region.get() != 0;
+                    String intent = getString();
+                    int numSlots = region.getInt();
+                    Map<String, String> slots = new LinkedHashMap<>();
+                    for (int i = 0; i < numSlots; i++) {
+                        slots.put(getString(), getString());
+                    }
+                    inference = new RhinoInference(isUnderstood, intent, slots);
+                    break;
+                default:
+                    throw new IOException("Unknown record type " + type + ".");
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Recording is truncated.", e);
+        }
+        return true;
+    }
+
+    /**
+     * Getter for the type of the current event.
+     *
+     * @return Event type, or `null` before the first or after the last event.
+     */
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Getter for the time of the current event.
+     *
+     * @return Nanoseconds between the start of the recording and the end of the call.
+     */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * Getter for the processing time of the current frame event.
+     *
+     * @return Time spent in the native process call, in nanoseconds.
+     */
+    public long getProcessNanos() {
+        return processNanos;
+    }
+
+    /**
+     * Getter for the result of the current frame event.
+     *
+     * @return Value returned by {@link Rhino#process(short[])}.
+     */
+    public boolean getIsFinalized() {
+        return isFinalized;
+    }
+
+    /**
+     * Getter for the audio of the current frame event. The array is reused for every frame.
+     *
+     * @return Samples of the frame.
+     */
+    public short[] getFrame() {
+        return frame;
+    }
+
+    /**
+     * Getter for the inference of the current inference event.
+     *
+     * @return The recorded inference.
+     */
+    public RhinoInference getInference() {
+        return inference;
+    }
+
+    /**
+     * Getter for the frame length of the recorded instance.
+     *
+     * @return Number of samples per frame.
+     */
+    public int getFrameLength() {
+        return frameLength;
+    }
+
+    /**
+     * Getter for the sample rate of the recorded instance.
+     *
+     * @return Sample rate.
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Getter for the wall-clock time at which recording started.
+     *
+     * @return Milliseconds since the epoch.
+     */
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+
+    private void mapRegion(long start) throws IOException {
+        long size = Math.min(REGION_SIZE, fileSize - start);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        regionStart = start;
+    }
+
+    private String getString() throws IOException {
+        int length = region.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > region.remaining()) {
+            throw new IOException("Recording is truncated.");
+        }
+        byte[] bytes = new byte[length];
+        region.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds a {@link RhinoRecording} through a Rhino instance, repeating the recorded frames and resets in order,
+ * and compares the results and processing times with the recorded ones. Frames are replayed either as fast as
+ * possible or on the recorded schedule.
+ */
+public class RhinoReplayer {
+
+    private final Rhino rhino;
+    private final boolean isRealtime;
+
+    /**
+     * Constructor.
+     *
+     * @param rhino      Rhino instance to replay through. It should be created with the same model, context and
+     *                   settings as the recorded one, and is reset before replaying.
+     * @param isRealtime Replay events at the times they were recorded instead of as fast as possible.
+     */
+    public RhinoReplayer(Rhino rhino, boolean isRealtime) {
+        this.rhino = rhino;
+        this.isRealtime = isRealtime;
+    }
+
+    /**
+     * Replays a recording from the current position to the end.
+     *
+     * @param recording Recording to replay.
+     * @return Summary of the replay.
+     * @throws IOException          if the recording cannot be read.
+     * @throws RhinoException       if the recording does not match the Rhino instance or processing fails.
+     * @throws InterruptedException if interrupted while waiting for the next event in real-time mode.
+     */
+    public Result replay(RhinoRecording recording) throws IOException, RhinoException, InterruptedException {
+        if (recording.getFrameLength() != rhino.getFrameLength() ||
+                recording.getSampleRate() != rhino.getSampleRate()) {
+            throw new RhinoInvalidArgumentException(String.format(
+                    "Recording has %d-sample frames at %d Hz, but Rhino expects %d-sample frames at %d Hz.",
+                    recording.getFrameLength(),
+                    recording.getSampleRate(),
+                    rhino.getFrameLength(),
+                    rhino.getSampleRate()));
+        }
+
+        Result result = new Result();
+        RhinoInference replayedInference = null;
+        long start = System.nanoTime();
+        rhino.reset();
+
+        while (recording.next()) {
+            if (isRealtime) {
+                long sleepNanos = start + recording.getTimestampNanos() - System.nanoTime();
+                if (sleepNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                }
+            }
+
+            switch (recording.getEventType()) {
+                case FRAME:
+                    long processStart = System.nanoTime();
+                    boolean isFinalized = rhino.process(recording.getFrame());
+                    long processNanos = System.nanoTime() - processStart;
+                    replayedInference = isFinalized ? rhino.getInference() : null;
+
+                    result.addFrame(recording.getProcessNanos(), processNanos);
+                    if (isFinalized) {
+                        result.numInferences++;
+                    }
+                    if (isFinalized != recording.getIsFinalized()) {
+                        result.addMismatch();
+                    }
+                    break;
+                case RESET:
+                    rhino.reset();
+                    break;
+                case INFERENCE:
+                    if (replayedInference == null || !isSameInference(replayedInference, recording.getInference())) {
+                        result.addMismatch();
+                    }
+                    replayedInference = null;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSameInference(RhinoInference a, RhinoInference b) {
+        return a.getIsUnderstood() == b.getIsUnderstood()
+                && Objects.equals(a.getIntent(), b.getIntent())
+                && Objects.equals(a.getSlots(), b.getSlots());
+    }
+
+    /**
+     * Summary of a replay.
+     */
+    public static class Result {
+
+        private long[] recordedProcessNanos = new long[1024];
+        private long[] replayedProcessNanos = new long[1024];
+        private int numFrames;
+        private int numInferences;
+        private int numMismatches;
+        private int firstMismatchFrame = -1;
+
+        Result() {
+        }
+
+        /**
+         * Getter for the number of replayed frames.
+         *
+         * @return Number of frames.
+         */
+        public int getNumFrames() {
+            return numFrames;
+        }
+
+        /**
+         * Getter for the number of inferences finalized during the replay.
+         *
+         * @return Number of inferences.
+         */
+        public int getNumInferences() {
+            return numInferences;
+        }
+
+        /**
+         * Getter for the number of frames finalized differently from the recording, plus the number of
+         * recorded inferences that the replay did not reproduce.
+         *
+         * @return Number of mismatches.
+         */
+        public int getNumMismatches() {
+            return numMismatches;
+        }
+
+        /**
+         * Getter for the first frame at which the replay diverged from the recording.
+         *
+         * @return Index of the frame, or -1 if the replay matched the recording.
+         */
+        public int getFirstMismatchFrame() {
+            return firstMismatchFrame;
+        }
+
+        /**
+         * Getter for the recorded processing time of every frame.
+         *
+         * @return Processing times in nanoseconds, in frame order.
+         */
+        public long[] getRecordedProcessNanos() {
+            return Arrays.copyOf(recordedProcessNanos, numFrames);
+        }
+
+        /**
+         * Getter for the processing time of every frame during the replay.
+         *
+         * @return Processing times in nanoseconds, in frame order.
+         */
+        public long[] getReplayedProcessNanos() {
+            return Arrays.copyOf(replayedProcessNanos, numFrames);
+        }
+
+        private void addFrame(long recordedNanos, long replayedNanos) {
+            if (numFrames == recordedProcessNanos.length) {
+                recordedProcessNanos = Arrays.copyOf(recordedProcessNanos, numFrames * 2);
+                replayedProcessNanos = Arrays.copyOf(replayedProcessNanos, numFrames * 2);
+            }
+            recordedProcessNanos[numFrames] = recordedNanos;
+            replayedProcessNanos[numFrames] = replayedNanos;
+            numFrames++;
+        }
+
+        private void addMismatch() {
+            if (firstMismatchFrame < 0) {
+                firstMismatchFrame = Math.max(0, numFrames - 1);
+            }
+            numMismatches++;
+        }
+    }
+}
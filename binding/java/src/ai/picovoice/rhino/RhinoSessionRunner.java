@@ -0,0 +1,168 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs Rhino sessions, one thread per audio stream. Each session reads frames from a blocking
+ * {@link RhinoAudioSource}, processes them with its own Rhino instance, and reports finalized inferences
+ * through a callback.
+ *
+ * <p>On Java 21+ sessions run on virtual threads, so thousands of mostly idle streams that block on I/O cost
+ * little more than their buffers. On older runtimes each session gets a platform thread. A native call pins
+ * the virtual thread to its carrier for the duration of the call, so the number of concurrent
+ * {@link Rhino#process(short[])} calls is capped below the number of carrier threads. Sessions waiting for a
+ * permit unmount instead of pinning, which leaves carriers free for sessions blocked on I/O.
+ */
+public class RhinoSessionRunner {
+
+    private final ExecutorService executor;
+    private final Semaphore nativeCalls;
+    private final boolean isVirtual;
+    private final AtomicInteger numActiveSessions = new AtomicInteger();
+
+    /**
+     * Creates a runner that uses virtual threads when available and allows one fewer concurrent native call
+     * than there are processors.
+     */
+    public RhinoSessionRunner() {
+        this(new Semaphore(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)), true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxConcurrentNativeCalls Maximum number of sessions inside a native Rhino call at any time.
+     * @param useVirtualThreads        Run sessions on virtual threads when the runtime supports them. If
+     *                                 `false`, or on Java versions before 21, platform threads are used.
+     * @throws RhinoInvalidArgumentException if `maxConcurrentNativeCalls` is not positive.
+     */
+    public RhinoSessionRunner(
+            int maxConcurrentNativeCalls,
+            boolean useVirtualThreads) throws RhinoInvalidArgumentException {
+        this(newNativeCallPermits(maxConcurrentNativeCalls), useVirtualThreads);
+    }
+
+    private RhinoSessionRunner(Semaphore nativeCalls, boolean useVirtualThreads) {
+        this.isVirtual = useVirtualThreads && SessionThreads.isVirtualThreadsSupported();
+        this.executor = SessionThreads.newSessionExecutor("rhino-session-", isVirtual);
+        this.nativeCalls = nativeCalls;
+    }
+
+    private static Semaphore newNativeCallPermits(
+            int maxConcurrentNativeCalls) throws RhinoInvalidArgumentException {
+        if (maxConcurrentNativeCalls <= 0) {
+            throw new RhinoInvalidArgumentException("maxConcurrentNativeCalls should be a positive integer.");
+        }
+        return new Semaphore(maxConcurrentNativeCalls);
+    }
+
+    /**
+     * Starts a session that runs until the source ends, the session is cancelled, or an error occurs. The
+     * Rhino instance must not be used by anyone else while the session is running.
+     *
+     * @param rhino         Rhino instance owned by the session.
+     * @param source        Source of audio frames.
+     * @param callback      Invoked on the session thread for every finalized inference.
+     * @param errorCallback Invoked on the session thread if reading or processing fails. If `null`, the error is
+     *                      printed to standard error instead.
+     * @return Future that completes when the session ends. Cancelling it with interruption stops the session.
+     */
+    public Future<?> submit(
+            final Rhino rhino,
+            final RhinoAudioSource source,
+            final RhinoInferenceCallback callback,
+            final RhinoErrorCallback errorCallback) {
+        return executor.submit(() -> {
+            numActiveSessions.incrementAndGet();
+            try {
+                runSession(rhino, source, callback);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                if (errorCallback != null) {
+                    errorCallback.invoke(e);
+                } else {
+                    System.err.println("RhinoSessionRunner session failed: " + e);
+                    e.printStackTrace();
+                }
+            } finally {
+                numActiveSessions.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Whether sessions run on virtual threads.
+     *
+     * @return `true` if sessions run on virtual threads, `false` if they run on platform threads.
+     */
+    public boolean isVirtual() {
+        return isVirtual;
+    }
+
+    /**
+     * Getter for the number of running sessions.
+     *
+     * @return Number of sessions that have started and not yet ended.
+     */
+    public int getNumActiveSessions() {
+        return numActiveSessions.get();
+    }
+
+    /**
+     * Interrupts all running sessions and stops accepting new ones.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Blocks until all sessions have ended after a shutdown, or the timeout elapses.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit    Unit of the timeout argument.
+     * @return `true` if all sessions ended, `false` if the timeout elapsed first.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    private void runSession(
+            Rhino rhino,
+            RhinoAudioSource source,
+            RhinoInferenceCallback callback) throws Exception {
+        final short[] frame = new short[rhino.getFrameLength()];
+        while (!Thread.currentThread().isInterrupted() && source.read(frame)) {
+            RhinoInference inference = null;
+            nativeCalls.acquire();
+            try {
+                if (rhino.process(frame)) {
+                    inference = rhino.getInference();
+                }
+            } finally {
+                nativeCalls.release();
+            }
+
+            if (inference != null) {
+                callback.invoke(inference);
+            }
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares a {@link RhinoPool} between many audio streams that are silent most of the time, so that the number of
+ * Rhino instances follows the number of people talking at once rather than the number of connected streams.
+ *
+ * <p>Each stream opened with {@link #open(RhinoInferenceCallback)} runs a {@link RhinoEnergyGate} on its frames and
+ * keeps the last `preRollMs` of audio in a circular buffer. Once the gate has seen `onsetFrames` consecutive speech
+ * frames, the stream leases an instance from the pool, processes the buffered audio so that the start of the
+ * command is not lost, and processes live frames from then on. The instance goes back to the pool when Rhino
+ * finalizes, or when the gate has seen no speech for `silenceTimeoutMs`.
+ *
+ * <p>If the pool is exhausted at onset, the stream keeps buffering and tries again at every frame; audio older than
+ * the pre-roll is lost in the meantime. Frames written while idle are not allocated or passed to native code.
+ */
+public class RhinoSpeechScheduler {
+
+    /**
+     * Default amount of audio processed before the onset, in milliseconds.
+     */
+    public static final int DEFAULT_PRE_ROLL_MS = 500;
+
+    /**
+     * Default number of consecutive speech frames that make an onset.
+     */
+    public static final int DEFAULT_ONSET_FRAMES = 2;
+
+    /**
+     * Default time without speech after which an instance that has not finalized is returned, in milliseconds.
+     */
+    public static final int DEFAULT_SILENCE_TIMEOUT_MS = 6000;
+
+    private final RhinoPool pool;
+    private final int frameLength;
+    private final int preRollFrames;
+    private final int onsetFrames;
+    private final int silenceTimeoutFrames;
+
+    private final AtomicInteger numStreams = new AtomicInteger();
+    private final AtomicInteger numActiveStreams = new AtomicInteger();
+    private final AtomicLong numLeases = new AtomicLong();
+    private final AtomicLong numTimeouts = new AtomicLong();
+    private final AtomicLong numStarvedFrames = new AtomicLong();
+
+    /**
+     * Creates a scheduler with the default pre-roll, onset and silence timeout.
+     *
+     * @param pool Pool the streams lease instances from.
+     * @throws RhinoException if the pool is invalid or its first instance cannot be created.
+     */
+    public RhinoSpeechScheduler(RhinoPool pool) throws RhinoException {
+        this(pool, DEFAULT_PRE_ROLL_MS, DEFAULT_ONSET_FRAMES, DEFAULT_SILENCE_TIMEOUT_MS);
+    }
+
+    /**
+     * Constructor. An instance is taken from the pool and returned to it to read the frame length, so the pool
+     * holds at least one instance afterwards.
+     *
+     * @param pool             Pool the streams lease instances from.
+     * @param preRollMs        Amount of audio before the onset to process, in milliseconds. Rounded up to whole
+     *                         frames, and at least `onsetFrames`.
+     * @param onsetFrames      Number of consecutive speech frames that make an onset.
+     * @param silenceTimeoutMs Time without speech after which an instance that has not finalized is returned to the
+     *                         pool without an inference, in milliseconds. Should be longer than the endpoint
+     *                         duration of the pooled instances.
+     * @throws RhinoException if an argument is invalid or the first instance cannot be created.
+     */
+    public RhinoSpeechScheduler(
+            RhinoPool pool,
+            int preRollMs,
+            int onsetFrames,
+            int silenceTimeoutMs) throws RhinoException {
+        if (pool == null) {
+            throw new RhinoInvalidArgumentException("RhinoSpeechScheduler requires a RhinoPool.");
+        }
+        if (preRollMs < 0) {
+            throw new RhinoInvalidArgumentException("preRollMs should be a non-negative integer.");
+        }
+        if (onsetFrames <= 0) {
+            throw new RhinoInvalidArgumentException("onsetFrames should be a positive integer.");
+        }
+        if (silenceTimeoutMs <= 0) {
+            throw new RhinoInvalidArgumentException("silenceTimeoutMs should be a positive integer.");
+        }
+
+        Rhino rhino = pool.tryAcquire();
+        if (rhino == null) {
+            throw new RhinoInvalidStateException("RhinoSpeechScheduler requires an available instance in the pool.");
+        }
+        int sampleRate;
+        try {
+            this.frameLength = rhino.getFrameLength();
+            sampleRate = rhino.getSampleRate();
+        } finally {
+            pool.release(rhino);
+        }
+
+        long samplesPerMs = sampleRate / 1000;
+        this.pool = pool;
+        this.onsetFrames = onsetFrames;
+        this.preRollFrames = (int) Math.max(onsetFrames, (preRollMs * samplesPerMs + frameLength - 1) / frameLength);
+        this.silenceTimeoutFrames = (int) ((silenceTimeoutMs * samplesPerMs + frameLength - 1) / frameLength);
+    }
+
+    /**
+     * Opens a stream. The stream holds its buffers and gate state, but no Rhino instance until speech starts.
+     *
+     * @param callback Invoked on the thread writing to the stream for every finalized inference.
+     * @return A new stream.
+     * @throws RhinoInvalidArgumentException if the callback is `null`.
+     */
+    public Stream open(RhinoInferenceCallback callback) throws RhinoInvalidArgumentException {
+        if (callback == null) {
+            throw new RhinoInvalidArgumentException("Stream callback must not be null.");
+        }
+        numStreams.incrementAndGet();
+        return new Stream(callback);
+    }
+
+    /**
+     * Getter for the length of the frames streams accept.
+     *
+     * @return Number of samples per frame.
+     */
+    public int getFrameLength() {
+        return frameLength;
+    }
+
+    /**
+     * Getter for the number of open streams.
+     *
+     * @return Number of streams opened and not yet closed.
+     */
+    public int getNumStreams() {
+        return numStreams.get();
+    }
+
+    /**
+     * Getter for the number of streams currently holding a Rhino instance.
+     *
+     * @return Number of streams with speech in progress.
+     */
+    public int getNumActiveStreams() {
+        return numActiveStreams.get();
+    }
+
+    /**
+     * Getter for the number of times a stream leased an instance.
+     *
+     * @return Number of leases since the scheduler was created.
+     */
+    public long getNumLeases() {
+        return numLeases.get();
+    }
+
+    /**
+     * Getter for the number of leases that ended because of the silence timeout rather than an inference.
+     *
+     * @return Number of timed-out leases since the scheduler was created.
+     */
+    public long getNumTimeouts() {
+        return numTimeouts.get();
+    }
+
+    /**
+     * Getter for the number of frames written while a stream was waiting for an instance because the pool was
+     * exhausted. A growing count means the pool is too small for the number of concurrent talkers.
+     *
+     * @return Number of frames since the scheduler was created.
+     */
+    public long getNumStarvedFrames() {
+        return numStarvedFrames.get();
+    }
+
+    /**
+     * Audio stream whose frames are gated before reaching Rhino. A stream must be written from one thread at a time.
+     */
+    public final class Stream implements AutoCloseable {
+
+        private final RhinoInferenceCallback callback;
+        private final RhinoEnergyGate gate = new RhinoEnergyGate();
+        private final short[] ring = new short[preRollFrames * frameLength];
+        private final short[] replayFrame = new short[frameLength];
+
+        private int head;
+        private int numBuffered;
+        private int numSpeechFrames;
+        private int numSilentFrames;
+        private Rhino rhino;
+        private boolean isClosed;
+
+        private Stream(RhinoInferenceCallback callback) {
+            this.callback = callback;
+        }
+
+        /**
+         * Writes the next frame of the stream. The frame is processed on the calling thread if speech is in
+         * progress, along with the buffered audio when speech has just started.
+         *
+         * @param frame A frame of audio samples, of length {@link #getFrameLength()}.
+         * @throws RhinoException if the frame is invalid, the stream is closed, or leasing or processing fails.
+         */
+        public void write(short[] frame) throws RhinoException {
+            if (isClosed) {
+                throw new RhinoInvalidStateException(
+                        "Attempted to write to a RhinoSpeechScheduler stream after close.");
+            }
+            if (frame == null || frame.length != frameLength) {
+                throw new RhinoInvalidArgumentException(String.format(
+                        "Frame must contain %d samples.",
+                        frameLength));
+            }
+
+            if (gate.process(frame)) {
+                numSpeechFrames++;
+                numSilentFrames = 0;
+            } else {
+                numSpeechFrames = 0;
+                numSilentFrames++;
+            }
+
+            if (rhino != null) {
+                if (!process(frame) && numSilentFrames >= silenceTimeoutFrames) {
+                    numTimeouts.incrementAndGet();
+                    endLease();
+                }
+                return;
+            }
+
+            buffer(frame);
+            if (numSpeechFrames >= onsetFrames) {
+                beginLease();
+            }
+        }
+
+        /**
+         * Whether the stream currently holds a Rhino instance.
+         *
+         * @return `true` if speech is in progress.
+         */
+        public boolean isActive() {
+            return rhino != null;
+        }
+
+        /**
+         * Closes the stream and returns its instance to the pool if it holds one.
+         *
+         * @throws RhinoException if returning the instance fails.
+         */
+        @Override
+        public void close() throws RhinoException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            numStreams.decrementAndGet();
+            if (rhino != null) {
+                endLease();
+            }
+        }
+
+        private void buffer(short[] frame) {
+            int tail = (head + numBuffered) % preRollFrames;
+            System.arraycopy(frame, 0, ring, tail * frameLength, frameLength);
+            if (numBuffered == preRollFrames) {
+                head = (head + 1) % preRollFrames;
+            } else {
+                numBuffered++;
+            }
+        }
+
+        private void beginLease() throws RhinoException {
+            rhino = pool.tryAcquire();
+            if (rhino == null) {
+                numStarvedFrames.incrementAndGet();
+                return;
+            }
+            numLeases.incrementAndGet();
+            numActiveStreams.incrementAndGet();
+
+            // the current frame is the last buffered one
+            try {
+                while (numBuffered > 0 && rhino != null) {
+                    System.arraycopy(ring, head * frameLength, replayFrame, 0, frameLength);
+                    head = (head + 1) % preRollFrames;
+                    numBuffered--;
+                    process(replayFrame);
+                }
+            } finally {
+                // anything buffered after an inference reached during replay belongs to the finished command
+                head = 0;
+                numBuffered = 0;
+            }
+        }
+
+        private boolean process(short[] frame) throws RhinoException {
+            RhinoInference inference;
+            try {
+                if (!rhino.process(frame)) {
+                    return false;
+                }
+                inference = rhino.getInference();
+            } catch (RhinoException | RuntimeException e) {
+                pool.discard(rhino);
+                rhino = null;
+                numActiveStreams.decrementAndGet();
+                throw e;
+            }
+            endLease();
+            callback.invoke(inference);
+            return true;
+        }
+
+        private void endLease() throws RhinoException {
+            Rhino leased = rhino;
+            rhino = null;
+            numSpeechFrames = 0;
+            numActiveStreams.decrementAndGet();
+            pool.release(leased);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factory for Rhino sessions. This is the Java 8 implementation, which runs each session on its
+ * own platform thread. The multi-release JAR replaces it on Java 21+ (see `src-java21`).
+ */
+class SessionThreads {
+
+    static boolean isVirtualThreadsSupported() {
+        return false;
+    }
+
+    static ExecutorService newSessionExecutor(String namePrefix, boolean useVirtualThreads) {
+        final AtomicInteger index = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, namePrefix + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,84 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * {@link RhinoHttpTransport} built on {@code HttpURLConnection}. Connections are never disconnected explicitly;
+ * closing a response drains its body so the JDK can return the connection to its keep-alive cache.
+ */
+class UrlConnectionTransport implements RhinoHttpTransport {
+
+    private static final int MAX_DRAIN_BYTES = 64 * 1024;
+
+    private final int connectTimeoutMs;
+    private final int readTimeoutMs;
+
+    UrlConnectionTransport(int connectTimeoutMs, int readTimeoutMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    @Override
+    public Response post(String url, Map<String, String> headers, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setConnectTimeout(connectTimeoutMs);
+        connection.setReadTimeout(readTimeoutMs);
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(body.length);
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+
+        int statusCode = connection.getResponseCode();
+        InputStream stream = statusCode >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        InputStream responseBody = stream != null ? stream : new ByteArrayInputStream(new byte[0]);
+
+        return new Response() {
+            @Override
+            public int getStatusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public InputStream getBody() {
+                return responseBody;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    byte[] skip = new byte[8192];
+                    int drained = 0;
+                    int n;
+                    while (drained < MAX_DRAIN_BYTES && (n = responseBody.read(skip)) > 0) {
+                        drained += n;
+                    }
+                } finally {
+                    responseBody.close();
+                }
+            }
+        };
+    }
+}
@@ -1,5 +1,5 @@
 /*
-    Copyright 2018-2024 Picovoice Inc.
+    Copyright 2018-2026 Picovoice Inc.
 
     You may not use this file except in compliance with the license. A copy of the license is
     located in the "LICENSE" file accompanying this source.
@@ -24,12 +24,16 @@ import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Logger;
 
 class Utils {
 
+    // directory holding the packaged library and model (`lib/...`), used instead of the ones in the JAR
+    static final String RESOURCE_DIRECTORY_PROPERTY = "ai.picovoice.rhino.resourceDirectory";
+
     private static final Path RESOURCE_DIRECTORY;
     private static final String ENVIRONMENT_NAME;
     private static final String ARCHITECTURE;
@@ -50,6 +54,17 @@ class Utils {
     }
 
     private static Path getResourceDirectory() throws RuntimeException {
+        String resourceDirectory = System.getProperty(RESOURCE_DIRECTORY_PROPERTY);
+        if (resourceDirectory != null) {
+            return Paths.get(resourceDirectory);
+        }
+
+        // a native image has no JAR to extract from, so resources are shipped in a `rhino` directory next to it
+        if (System.getProperty("org.graalvm.nativeimage.imagecode") != null ||
+                Rhino.class.getProtectionDomain().getCodeSource() == null) {
+            return getNativeImageResourceDirectory();
+        }
+
         // location of resources, either a JAR file or a directory
         final URL resourceURL = Rhino.class.getProtectionDomain().getCodeSource().getLocation();
         Path resourcePath;
@@ -71,6 +86,53 @@ class Utils {
         return resourcePath.resolve("rhino");
     }
 
+    private static Path getNativeImageResourceDirectory() {
+        Path executablePath = getExecutablePath();
+        if (executablePath == null || executablePath.getParent() == null) {
+            logger.warning("Could not locate the executable to find the `rhino` resource directory next to it. " +
+                    "Set -D" + RESOURCE_DIRECTORY_PROPERTY + " to the directory holding the library and model.");
+            return null;
+        }
+        Path resourcePath = executablePath.getParent().resolve("rhino");
+        if (!Files.isDirectory(resourcePath)) {
+            logger.warning("No `rhino` resource directory at " + resourcePath + ". " +
+                    "Set -D" + RESOURCE_DIRECTORY_PROPERTY + " to the directory holding the library and model.");
+            return null;
+        }
+        return resourcePath;
+    }
+
+    private static Path getExecutablePath() {
+        // looked up reflectively, as neither API is available on every runtime the binding supports
+        try {
+            Object name = Class.forName("org.graalvm.nativeimage.ProcessProperties")
+                    .getMethod("getExecutableName")
+                    .invoke(null);
+            if (name instanceof String) {
+                return Paths.get((String) name).toAbsolutePath();
+            }
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // not a GraalVM native image, try the process handle
+        }
+
+        try {
+            Class<?> processHandle = Class.forName("java.lang.ProcessHandle");
+            Object info = processHandle.getMethod("info").invoke(processHandle.getMethod("current").invoke(null));
+            Object command = Class.forName("java.lang.ProcessHandle$Info").getMethod("command").invoke(info);
+            if (command instanceof Optional && ((Optional<?>) command).isPresent()) {
+                return Paths.get(((Optional<?>) command).get().toString()).toAbsolutePath();
+            }
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Java 8, try procfs
+        }
+
+        try {
+            return Paths.get("/proc/self/exe").toRealPath();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
     private static Path extractResources(Path jarPath) throws IOException {
         // use jar name to create versioned extraction directory
         String extractionDirName = jarPath.getFileName().toString().replace(".jar", "");
@@ -120,6 +182,16 @@ class Utils {
         return resourceDirectoryPath;
     }
 
+    static void checkRange(int arrayLength, int offset, int length) throws RhinoInvalidArgumentException {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new RhinoInvalidArgumentException(String.format(
+                    "Range [%d, %d) is out of bounds for length %d.",
+                    offset,
+                    offset + length,
+                    arrayLength));
+        }
+    }
+
     public static String getEnvironmentName() throws RuntimeException {
         String os = System.getProperty("os.name", "generic").toLowerCase(Locale.ENGLISH);
         if (os.contains("mac") || os.contains("darwin")) {
@@ -208,10 +280,16 @@ class Utils {
     }
 
     public static String getPackagedModelPath() {
+        if (RESOURCE_DIRECTORY == null) {
+            return null;
+        }
         return RESOURCE_DIRECTORY.resolve("lib/common/rhino_params.pv").toString();
     }
 
     public static String getPackagedLibraryPath() {
+        if (RESOURCE_DIRECTORY == null) {
+            return null;
+        }
         switch (ENVIRONMENT_NAME) {
             case "windows":
                 return RESOURCE_DIRECTORY.resolve("lib/java/windows")
@@ -0,0 +1,305 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes single-channel 16-bit PCM to a WAV file as it arrives, using a fixed amount of memory regardless of
+ * the length of the recording. Audio is copied into a small set of preallocated buffers that a background
+ * thread writes to disk, so {@code write} never blocks on I/O. If the disk falls behind and every buffer is
+ * full, audio is dropped and counted rather than stalling the caller. The RIFF header is filled in on
+ * {@link #close()}.
+ *
+ * <p>The writer can also be registered with {@link Rhino#addObserver(RhinoObserver)} to capture every frame
+ * passed to {@link Rhino#process(short[])}.
+ */
+public class WavStreamWriter implements RhinoObserver, Closeable {
+
+    private static final int HEADER_SIZE = 44;
+    private static final long MAX_DATA_SIZE = 0xFFFFFFFFL - (HEADER_SIZE - 8);
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_NUM_BUFFERS = 8;
+
+    private final FileChannel channel;
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+    private final BlockingQueue<ByteBuffer> fullBuffers;
+    private final ByteBuffer endOfStream = ByteBuffer.allocate(0);
+    private final Thread writerThread;
+
+    private ByteBuffer current;
+    private long dataSize;
+    private long numDroppedBytes;
+    private boolean isClosed;
+    private volatile IOException error;
+
+    /**
+     * Creates a WAV file, replacing any existing file at the path, with eight 64 KiB buffers.
+     *
+     * @param path       Path of the WAV file.
+     * @param sampleRate Sample rate of the audio.
+     * @throws IOException                  if the file cannot be created.
+     * @throws RhinoInvalidArgumentException if the sample rate is not positive.
+     */
+    public WavStreamWriter(String path, int sampleRate) throws IOException, RhinoInvalidArgumentException {
+        this(path, sampleRate, DEFAULT_BUFFER_SIZE, DEFAULT_NUM_BUFFERS);
+    }
+
+    /**
+     * Creates a WAV file, replacing any existing file at the path.
+     *
+     * @param path       Path of the WAV file.
+     * @param sampleRate Sample rate of the audio.
+     * @param bufferSize Size of each buffer in bytes.
+     * @param numBuffers Number of buffers. Memory use is bounded by {@code bufferSize * numBuffers}.
+     * @throws IOException                  if the file cannot be created.
+     * @throws RhinoInvalidArgumentException if an argument is invalid.
+     */
+    public WavStreamWriter(
+            String path,
+            int sampleRate,
+            int bufferSize,
+            int numBuffers) throws IOException, RhinoInvalidArgumentException {
+        if (sampleRate <= 0) {
+            throw new RhinoInvalidArgumentException("sampleRate should be a positive integer.");
+        }
+        if (bufferSize < 2 || numBuffers < 2) {
+            throw new RhinoInvalidArgumentException("At least two buffers of two or more bytes are required.");
+        }
+
+        this.channel = FileChannel.open(
+                Paths.get(path),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        try {
+            writeFully(header(sampleRate, 0), 0);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        this.freeBuffers = new ArrayBlockingQueue<>(numBuffers);
+        this.fullBuffers = new ArrayBlockingQueue<>(numBuffers + 1);
+        for (int i = 1; i < numBuffers; i++) {
+            freeBuffers.add(ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN));
+        }
+        this.current = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+
+        this.writerThread = new Thread(this::drain, "wav-stream-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Appends samples.
+     *
+     * @param pcm Samples to append.
+     */
+    public void write(short[] pcm) {
+        append(pcm, 0, pcm.length);
+    }
+
+    /**
+     * Appends samples. Never blocks on I/O.
+     *
+     * @param pcm    Array holding the samples.
+     * @param offset Index of the first sample to append.
+     * @param length Number of samples to append.
+     * @throws RhinoInvalidArgumentException if the range is out of bounds.
+     */
+    public void write(short[] pcm, int offset, int length) throws RhinoInvalidArgumentException {
+        Utils.checkRange(pcm.length, offset, length);
+        append(pcm, offset, length);
+    }
+
+    /**
+     * Appends little-endian 16-bit PCM bytes, e.g. as read from a {@code TargetDataLine}.
+     *
+     * @param pcm    Array holding the bytes.
+     * @param offset Index of the first byte to append.
+     * @param length Number of bytes to append.
+     * @throws RhinoInvalidArgumentException if the range is out of bounds.
+     */
+    public synchronized void write(byte[] pcm, int offset, int length) throws RhinoInvalidArgumentException {
+        Utils.checkRange(pcm.length, offset, length);
+        if (isClosed) {
+            numDroppedBytes += length;
+            return;
+        }
+        while (length > 0) {
+            if (!current.hasRemaining() && !swap()) {
+                numDroppedBytes += length;
+                return;
+            }
+            int n = Math.min(length, current.remaining());
+            current.put(pcm, offset, n);
+            dataSize += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    @Override
+    public void onProcess(short[] pcm, boolean isFinalized, long processNanos) {
+        append(pcm, 0, pcm.length);
+    }
+
+    /**
+     * Getter for the number of bytes of audio accepted so far.
+     *
+     * @return Number of bytes in the data chunk.
+     */
+    public synchronized long getDataSize() {
+        return dataSize;
+    }
+
+    /**
+     * Getter for the number of bytes dropped because the disk could not keep up, writing failed, or the file
+     * reached the maximum size of a WAV file.
+     *
+     * @return Number of dropped bytes.
+     */
+    public synchronized long getNumDroppedBytes() {
+        return numDroppedBytes;
+    }
+
+    /**
+     * Writes the remaining audio, fills in the RIFF header and closes the file.
+     *
+     * @throws IOException if writing failed at any point.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            if (current.position() > 0) {
+                current.flip();
+                fullBuffers.add(current);
+            }
+            fullBuffers.add(endOfStream);
+        }
+
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            if (error != null) {
+                throw error;
+            }
+            long written = channel.size() - HEADER_SIZE;
+            ByteBuffer sizes = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            sizes.putInt(0, (int) (written + HEADER_SIZE - 8));
+            writeFully(sizes, 4);
+            sizes.putInt(0, (int) written);
+            sizes.rewind();
+            writeFully(sizes, 40);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private synchronized void append(short[] pcm, int offset, int length) {
+        if (isClosed) {
+            numDroppedBytes += 2L * length;
+            return;
+        }
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (current.remaining() < 2 && !swap()) {
+                numDroppedBytes += 2L * (end - i);
+                return;
+            }
+            current.putShort(pcm[i]);
+            dataSize += 2;
+        }
+    }
+
+    private boolean swap() {
+        if (error != null || dataSize + current.capacity() > MAX_DATA_SIZE) {
+            return false;
+        }
+        ByteBuffer next = freeBuffers.poll();
+        if (next == null) {
+            return false;
+        }
+        current.flip();
+        fullBuffers.add(current);
+        current = next;
+        return true;
+    }
+
+    private void drain() {
+        long position = HEADER_SIZE;
+        while (true) {
+            ByteBuffer buffer;
+            try {
+                buffer = fullBuffers.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (buffer == endOfStream) {
+                return;
+            }
+            if (error == null) {
+                try {
+                    position += writeFully(buffer, position);
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+            buffer.clear();
+            freeBuffers.add(buffer);
+        }
+    }
+
+    private int writeFully(ByteBuffer buffer, long position) throws IOException {
+        int n = 0;
+        while (buffer.hasRemaining()) {
+            n += channel.write(buffer, position + n);
+        }
+        return n;
+    }
+
+    private static ByteBuffer header(int sampleRate, long dataSize) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(new byte[]{'R', 'I', 'F', 'F'});
+        header.putInt((int) (dataSize + HEADER_SIZE - 8));
+        header.put(new byte[]{'W', 'A', 'V', 'E', 'f', 'm', 't', ' '});
+        header.putInt(16);
+        header.putShort((short) 1);
+        header.putShort((short) 1);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * 2);
+        header.putShort((short) 2);
+        header.putShort((short) 16);
+        header.put(new byte[]{'d', 'a', 't', 'a'});
+        header.putInt((int) dataSize);
+        header.flip();
+        return header;
+    }
+}
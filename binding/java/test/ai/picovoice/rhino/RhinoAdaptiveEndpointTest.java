@@ -0,0 +1,246 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoAdaptiveEndpointTest {
+
+    private static final int FRAME_LENGTH = 512;
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private final Random random = new Random(7);
+
+    private short[] noise() {
+        short[] frame = new short[FRAME_LENGTH];
+        for (int i = 0; i < frame.length; i++) {
+            frame[i] = (short) (random.nextGaussian() * 30);
+        }
+        return frame;
+    }
+
+    private static short[] tone() {
+        short[] frame = new short[FRAME_LENGTH];
+        for (int i = 0; i < frame.length; i++) {
+            frame[i] = (short) (Math.sin(2 * Math.PI * 220 * i / 16000.0) * 8000);
+        }
+        return frame;
+    }
+
+    // words of 10 frames separated by pauses of the given length
+    private interface FrameSink {
+        void write(short[] frame) throws RhinoException;
+    }
+
+    private void speak(FrameSink sink, int numWords, int pauseFrames) throws RhinoException {
+        for (int w = 0; w < numWords; w++) {
+            for (int i = 0; i < 10; i++) {
+                sink.write(tone());
+            }
+            for (int i = 0; i < pauseFrames; i++) {
+                sink.write(noise());
+            }
+        }
+    }
+
+    @Test
+    void measuresPausesBetweenWords() throws RhinoException {
+        RhinoAdaptiveEndpoint.PauseTracker tracker = new RhinoAdaptiveEndpoint.PauseTracker(100, 10);
+        for (int i = 0; i < 30; i++) {
+            tracker.process(noise());
+        }
+        assertEquals(0, tracker.getPercentileFrames());
+
+        speak(tracker::process, 5, 6);
+        // the silence after the last word is not a pause until speech resumes
+        assertEquals(4, tracker.getNumPauses());
+        assertEquals(6, tracker.getPercentileFrames());
+
+        // a click in the middle of a pause does not split it
+        for (int i = 0; i < 4; i++) {
+            tracker.process(noise());
+        }
+        tracker.process(tone());
+        for (int i = 0; i < 7; i++) {
+            tracker.process(noise());
+        }
+        speak(tracker::process, 1, 0);
+        assertEquals(5, tracker.getNumPauses());
+        assertEquals(18, tracker.getPercentileFrames());
+
+        // gaps longer than the maximum separate commands
+        for (int i = 0; i < 150; i++) {
+            tracker.process(noise());
+        }
+        speak(tracker::process, 1, 0);
+        assertEquals(5, tracker.getNumPauses());
+    }
+
+    @Test
+    void keepsRecentPauses() throws RhinoException {
+        RhinoAdaptiveEndpoint.PauseTracker tracker = new RhinoAdaptiveEndpoint.PauseTracker(100, 10);
+        for (int i = 0; i < 30; i++) {
+            tracker.process(noise());
+        }
+        speak(tracker::process, 40, 40);
+        speak(tracker::process, RhinoAdaptiveEndpoint.NUM_RECENT_PAUSES + 1, 5);
+        assertEquals(5, tracker.getPercentileFrames());
+    }
+
+    @Test
+    void ignoresGapsBetweenCommands() throws RhinoException {
+        RhinoAdaptiveEndpoint.PauseTracker tracker = new RhinoAdaptiveEndpoint.PauseTracker(100, 10);
+        for (int i = 0; i < 30; i++) {
+            tracker.process(noise());
+        }
+        for (int command = 0; command < 20; command++) {
+            speak(tracker::process, 4, 6);
+            // the endpoint, then a gap shorter than the maximum pause before the next command
+            for (int i = 0; i < 25; i++) {
+                tracker.process(noise());
+            }
+            tracker.finalized();
+            tracker.reset();
+            for (int i = 0; i < 40; i++) {
+                tracker.process(noise());
+            }
+        }
+        assertEquals(20 * 3, tracker.getNumPauses());
+        assertEquals(6, tracker.getPercentileFrames());
+    }
+
+    @Test
+    void measuresPausesCutShortByFinalization() throws RhinoException {
+        RhinoAdaptiveEndpoint.PauseTracker tracker = new RhinoAdaptiveEndpoint.PauseTracker(100, 10);
+        for (int i = 0; i < 30; i++) {
+            tracker.process(noise());
+        }
+        speak(tracker::process, 1, 25);
+        tracker.finalized();
+        tracker.reset();
+        for (int i = 0; i < 5; i++) {
+            tracker.process(noise());
+        }
+        speak(tracker::process, 1, 0);
+        assertEquals(1, tracker.getNumPauses());
+        assertEquals(30, tracker.getPercentileFrames());
+
+        // a reset without finalization starts a new command
+        for (int i = 0; i < 5; i++) {
+            tracker.process(noise());
+        }
+        tracker.reset();
+        speak(tracker::process, 1, 0);
+        assertEquals(1, tracker.getNumPauses());
+    }
+
+    @Test
+    void endpointDoesNotDriftAcrossCommands() throws Exception {
+        RhinoAdaptiveEndpoint adaptive = new RhinoAdaptiveEndpoint(
+                new Rhino.Builder()
+                        .setAccessKey(accessKey)
+                        .setDevice(device)
+                        .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                        .setEndpointDuration(0.5f),
+                new float[]{0.5f, 1.0f, 2.0f},
+                1);
+        try (RhinoAdaptiveEndpoint.Session session = adaptive.open()) {
+            List<short[]> command = RhinoTestUtils.readFrames("test_within_context.wav", FRAME_LENGTH);
+            int numCommands = 3 * RhinoAdaptiveEndpoint.MIN_PAUSES;
+            for (int i = 0; i < numCommands; i++) {
+                boolean isFinalized = false;
+                for (int j = 0; j < command.size() && !isFinalized; j++) {
+                    isFinalized = session.process(command.get(j));
+                }
+                assertTrue(isFinalized);
+                assertEquals("orderBeverage", session.getInference().getIntent());
+                session.reset();
+
+                // the next command starts well within the longest pause
+                for (int j = 0; j < 20; j++) {
+                    session.process(noise());
+                }
+            }
+            assertEquals(0.5f, session.getEndpointDurationSec(), 0);
+            assertEquals(0.5f, session.getTargetEndpointDurationSec(), 0);
+            assertEquals(0, adaptive.getNumSwitches());
+        } finally {
+            adaptive.delete();
+        }
+    }
+
+    @Test
+    void movesSessionsToMatchingEndpoint() throws RhinoException {
+        RhinoAdaptiveEndpoint adaptive = new RhinoAdaptiveEndpoint(
+                new Rhino.Builder()
+                        .setAccessKey(accessKey)
+                        .setDevice(device)
+                        .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                        .setEndpointDuration(1.0f),
+                new float[]{2.0f, 0.5f, 1.0f},
+                1);
+        try {
+            assertEquals(3, adaptive.getEndpointDurations().length);
+            assertEquals(0.5f, adaptive.getEndpointDurations()[0], 0);
+            assertNotNull(adaptive.getPool(2.0f));
+            assertNull(adaptive.getPool(3.0f));
+            assertEquals(1, adaptive.getPool(0.5f).getNumCreated());
+
+            try (RhinoAdaptiveEndpoint.Session session = adaptive.open()) {
+                assertEquals(1.0f, session.getEndpointDurationSec(), 0);
+                assertEquals(-1, session.getPauseMs());
+                for (int i = 0; i < 30; i++) {
+                    session.process(noise());
+                }
+
+                // pauses of about 200 ms
+                speak(session::process, RhinoAdaptiveEndpoint.MIN_PAUSES + 2, 6);
+                assertEquals(0.5f, session.getTargetEndpointDurationSec(), 0);
+                session.reset();
+                assertEquals(0.5f, session.getEndpointDurationSec(), 0);
+
+                // pauses of about 1.3 s
+                speak(session::process, RhinoAdaptiveEndpoint.NUM_RECENT_PAUSES, 40);
+                session.reset();
+                assertEquals(2.0f, session.getEndpointDurationSec(), 0);
+                assertEquals(2, adaptive.getNumSwitches());
+            }
+            assertEquals(1, adaptive.getPool(2.0f).getNumIdle());
+        } finally {
+            adaptive.delete();
+        }
+    }
+
+    @Test
+    void invalidArguments() {
+        Rhino.Builder builder = new Rhino.Builder().setAccessKey(accessKey);
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoAdaptiveEndpoint(null, new float[]{1}, 1));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoAdaptiveEndpoint(builder, new float[0], 1));
+        assertThrows(
+                RhinoInvalidArgumentException.class,
+                () -> new RhinoAdaptiveEndpoint(builder, new float[]{0.2f, 1}, 1));
+        assertThrows(
+                RhinoInvalidArgumentException.class,
+                () -> new RhinoAdaptiveEndpoint(builder, new float[]{1, 1}, 1));
+    }
+}
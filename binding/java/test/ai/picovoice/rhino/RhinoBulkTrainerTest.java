@@ -0,0 +1,277 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoBulkTrainerTest {
+
+    private static final String YAML = String.join("\n",
+            "context:",
+            "  expressions:",
+            "    callContact:",
+            "      - \"@call $contacts:contact\"",
+            "  slots:",
+            "    contacts:",
+            "      - Mom",
+            "");
+
+    private final AtomicInteger numRequests = new AtomicInteger();
+    private final AtomicInteger numInFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger numThrottled = new AtomicInteger();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private volatile long delayMs = 20;
+    private HttpServer server;
+    private File outputDirectory;
+    private RhinoContextInfo contextInfo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            numRequests.incrementAndGet();
+            int current = numInFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try (InputStream in = exchange.getRequestBody()) {
+                while (in.read() >= 0) {
+                    // consume the request
+                }
+                Thread.sleep(delayMs);
+                boolean isThrottled = numThrottled.getAndDecrement() > 0;
+                byte[] body = (isThrottled ? "slow down" : "context").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(isThrottled ? 429 : 200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                numInFlight.decrementAndGet();
+            }
+        });
+        server.start();
+        outputDirectory = Files.createTempDirectory("rhino-bulk").toFile();
+        contextInfo = RhinoContextInfo.parse(YAML);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        for (File file : outputDirectory.listFiles()) {
+            file.delete();
+        }
+        outputDirectory.delete();
+    }
+
+    private RhinoBulkTrainer buildBulkTrainer(int maxConcurrency, int maxRetries) throws RhinoException {
+        RhinoContextTrainer trainer = new RhinoContextTrainer.Builder()
+                .setAccessKey("test-key")
+                .setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .setPlatform("linux")
+                .build();
+        return new RhinoBulkTrainer.Builder()
+                .setTrainer(trainer)
+                .setMaxConcurrency(maxConcurrency)
+                .setRetryPolicy(maxRetries, 1, 10)
+                .build();
+    }
+
+    private RhinoBulkTrainer.Job job(int user, String contact) {
+        return new RhinoBulkTrainer.Job(
+                "user" + user,
+                "en",
+                contextInfo,
+                Collections.singletonMap("contacts", Collections.singleton(contact)),
+                new File(outputDirectory, "user" + user + ".rhn").getPath());
+    }
+
+    @Test
+    void boundsConcurrency() throws Exception {
+        RhinoBulkTrainer.Stats stats = buildBulkTrainer(4, 0).trainAll(
+                IntStream.range(0, 40).mapToObj(i -> job(i, "contact" + i)),
+                null);
+
+        assertEquals(40, stats.getNumJobs());
+        assertEquals(40, stats.getNumSucceeded());
+        assertEquals(40, numRequests.get());
+        assertTrue(maxInFlight.get() <= 4);
+        assertTrue(stats.getJobsPerSecond() > 0);
+        assertEquals(40, outputDirectory.listFiles().length);
+    }
+
+    @Test
+    void coalescesIdenticalJobs() throws Exception {
+        delayMs = 500;
+        List<String> succeeded = Collections.synchronizedList(new ArrayList<>());
+        RhinoBulkTrainer.Stats stats = buildBulkTrainer(4, 0).trainAll(
+                IntStream.range(0, 10).mapToObj(i -> job(i, "Alice")),
+                new RhinoBulkTrainer.Listener() {
+                    @Override
+                    public void onSuccess(RhinoBulkTrainer.Job job) {
+                        succeeded.add(job.getId());
+                    }
+                });
+
+        assertEquals(1, numRequests.get());
+        assertEquals(9, stats.getNumCoalesced());
+        assertEquals(10, succeeded.size());
+        for (File file : outputDirectory.listFiles()) {
+            assertEquals("context", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        }
+        assertEquals(10, outputDirectory.listFiles().length);
+    }
+
+    @Test
+    void retriesThrottledRequests() throws Exception {
+        numThrottled.set(3);
+        RhinoBulkTrainer.Stats stats = buildBulkTrainer(1, 5).trainAll(Stream.of(job(0, "Alice")), null);
+
+        assertEquals(1, stats.getNumSucceeded());
+        assertEquals(3, stats.getNumRetries());
+        assertEquals(4, numRequests.get());
+    }
+
+    @Test
+    void failsAfterMaxRetries() throws Exception {
+        numThrottled.set(Integer.MAX_VALUE);
+        List<RhinoException> errors = Collections.synchronizedList(new ArrayList<>());
+        RhinoBulkTrainer.Stats stats = buildBulkTrainer(1, 2).trainAll(
+                Stream.of(job(0, "Alice")),
+                new RhinoBulkTrainer.Listener() {
+                    @Override
+                    public void onFailure(RhinoBulkTrainer.Job job, RhinoException error) {
+                        errors.add(error);
+                    }
+                });
+
+        assertEquals(1, stats.getNumFailed());
+        assertEquals(3, numRequests.get());
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof RhinoActivationThrottledException);
+    }
+
+    @Test
+    void failsJobsWhenTransportThrows() throws Exception {
+        RhinoContextTrainer trainer = new RhinoContextTrainer.Builder()
+                .setAccessKey("test-key")
+                .setPlatform("linux")
+                .setTransport((url, headers, body) -> {
+                    numRequests.incrementAndGet();
+                    throw new IllegalStateException("transport failure");
+                })
+                .build();
+        RhinoBulkTrainer bulkTrainer = new RhinoBulkTrainer.Builder()
+                .setTrainer(trainer)
+                .setMaxConcurrency(1)
+                .build();
+        List<RhinoException> errors = Collections.synchronizedList(new ArrayList<>());
+        RhinoBulkTrainer.Stats stats = bulkTrainer.trainAll(
+                Stream.of(job(0, "Alice"), job(1, "Alice"), job(2, "Bob")),
+                new RhinoBulkTrainer.Listener() {
+                    @Override
+                    public void onFailure(RhinoBulkTrainer.Job job, RhinoException error) {
+                        errors.add(error);
+                    }
+                });
+
+        assertEquals(3, stats.getNumFailed());
+        assertEquals(3, errors.size());
+        for (RhinoException error : errors) {
+            assertTrue(error instanceof RhinoRuntimeException);
+            assertTrue(error.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    void failsInvalidJobsWithoutRequests() throws Exception {
+        RhinoBulkTrainer.Job invalid = new RhinoBulkTrainer.Job(
+                "user0",
+                "en",
+                contextInfo,
+                Collections.singletonMap("unknown", Collections.singleton("Alice")),
+                new File(outputDirectory, "user0.rhn").getPath());
+        RhinoBulkTrainer.Stats stats = buildBulkTrainer(2, 0).trainAll(
+                Stream.of(invalid, job(1, "Bob")).collect(Collectors.toList()).iterator(),
+                null);
+
+        assertEquals(1, stats.getNumFailed());
+        assertEquals(1, stats.getNumSucceeded());
+        assertEquals(1, numRequests.get());
+    }
+
+    @Test
+    void failsJobsWithInvalidOutputPaths() throws Exception {
+        delayMs = 200;
+        RhinoBulkTrainer.Job withoutPath = new RhinoBulkTrainer.Job(
+                "user1",
+                "en",
+                contextInfo,
+                Collections.singletonMap("contacts", Collections.singleton("Alice")),
+                null);
+        RhinoBulkTrainer.Job invalidPath = new RhinoBulkTrainer.Job(
+                "user2",
+                "en",
+                contextInfo,
+                Collections.singletonMap("contacts", Collections.singleton("Alice")),
+                "invalid\0path.rhn");
+        List<RhinoException> errors = Collections.synchronizedList(new ArrayList<>());
+        RhinoBulkTrainer.Stats stats = buildBulkTrainer(2, 0).trainAll(
+                Stream.of(job(0, "Alice"), withoutPath, invalidPath),
+                new RhinoBulkTrainer.Listener() {
+                    @Override
+                    public void onFailure(RhinoBulkTrainer.Job job, RhinoException error) {
+                        errors.add(error);
+                    }
+                });
+
+        assertEquals(1, stats.getNumSucceeded());
+        assertEquals(2, stats.getNumFailed());
+        for (RhinoException error : errors) {
+            assertTrue(error instanceof RhinoInvalidArgumentException);
+        }
+        assertEquals(1, numRequests.get());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoBulkTrainer.Builder().build());
+        assertThrows(RhinoInvalidArgumentException.class, () -> buildBulkTrainer(0, 0));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoBundleTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private File bundleFile;
+    private File cacheDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bundleFile = File.createTempFile("rhino", ".rhnb");
+        cacheDirectory = File.createTempFile("rhino", ".cache");
+        cacheDirectory.delete();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        bundleFile.delete();
+        if (cacheDirectory.exists()) {
+            try (Stream<Path> files = Files.walk(cacheDirectory.toPath())) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    private static String getContextDirectory() {
+        return new File(RhinoTestUtils.getTestContextPath("en", "coffee_maker")).getParent();
+    }
+
+    private static String getContextName(String context) {
+        return new File(RhinoTestUtils.getTestContextPath("en", context)).getName().replace(".rhn", "");
+    }
+
+    private RhinoBundle openBundle() throws IOException {
+        return new RhinoBundle(bundleFile.getPath(), cacheDirectory.getPath());
+    }
+
+    @Test
+    void packAndRead() throws Exception {
+        int numContexts = RhinoBundleWriter.packDirectory(
+                bundleFile.getPath(),
+                getContextDirectory(),
+                RhinoTestUtils.getTestModelPath("en"));
+        String name = getContextName("coffee_maker");
+
+        try (RhinoBundle bundle = openBundle()) {
+            assertEquals(numContexts, bundle.getContextNames().size());
+            assertTrue(bundle.hasContext(name));
+            assertFalse(bundle.hasContext("missing"));
+            assertTrue(bundle.hasModel());
+            bundle.verify();
+
+            byte[] expected = Files.readAllBytes(Paths.get(RhinoTestUtils.getTestContextPath("en", "coffee_maker")));
+            ByteBuffer data = bundle.getContextData(name);
+            byte[] actual = new byte[data.remaining()];
+            data.get(actual);
+            assertArrayEquals(expected, actual);
+
+            String contextPath = bundle.getContextPath(name);
+            assertArrayEquals(expected, Files.readAllBytes(Paths.get(contextPath)));
+            assertEquals(contextPath, bundle.getContextPath(name));
+            assertArrayEquals(
+                    Files.readAllBytes(Paths.get(RhinoTestUtils.getTestModelPath("en"))),
+                    Files.readAllBytes(Paths.get(bundle.getModelPath())));
+
+            assertThrows(RhinoInvalidArgumentException.class, () -> bundle.getContextData("missing"));
+        }
+    }
+
+    @Test
+    void bundleWithoutModel() throws Exception {
+        try (RhinoBundleWriter writer = new RhinoBundleWriter(bundleFile.getPath())) {
+            writer.addContext("coffee_maker", RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+        }
+        try (RhinoBundle bundle = openBundle()) {
+            assertEquals(Arrays.asList("coffee_maker"), bundle.getContextNames());
+            assertFalse(bundle.hasModel());
+            assertNull(bundle.getModelPath());
+        }
+    }
+
+    @Test
+    void rejectsDuplicateNames() throws Exception {
+        try (RhinoBundleWriter writer = new RhinoBundleWriter(bundleFile.getPath())) {
+            writer.addContext("coffee_maker", RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+            assertThrows(
+                    RhinoInvalidArgumentException.class,
+                    () -> writer.addContext("coffee_maker", RhinoTestUtils.getTestContextPath("en", "alarm")));
+            writer.addModel(RhinoTestUtils.getTestModelPath("en"));
+            assertThrows(
+                    RhinoInvalidArgumentException.class,
+                    () -> writer.addModel(RhinoTestUtils.getTestModelPath("en")));
+        }
+    }
+
+    @Test
+    void detectsCorruption() throws Exception {
+        try (RhinoBundleWriter writer = new RhinoBundleWriter(bundleFile.getPath())) {
+            writer.addContext("coffee_maker", RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(bundleFile, "rw")) {
+            file.seek(RhinoBundle.HEADER_SIZE + 100);
+            int b = file.read();
+            file.seek(RhinoBundle.HEADER_SIZE + 100);
+            file.write(b ^ 0xFF);
+        }
+        try (RhinoBundle bundle = openBundle()) {
+            assertThrows(RhinoIOException.class, bundle::verify);
+            assertThrows(RhinoIOException.class, () -> bundle.getContextPath("coffee_maker"));
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(bundleFile, "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        assertThrows(IOException.class, this::openBundle);
+
+        Files.write(bundleFile.toPath(), new byte[64]);
+        assertThrows(IOException.class, this::openBundle);
+    }
+
+    @Test
+    void rejectsNegativeEntryLength() throws Exception {
+        try (RhinoBundleWriter writer = new RhinoBundleWriter(bundleFile.getPath())) {
+            writer.addContext("coffee_maker", RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(bundleFile, "rw")) {
+            file.seek(8);
+            long indexOffset = Long.reverseBytes(file.readLong());
+            // entry count, type and name length precede the name, which is followed by the offset
+            file.seek(indexOffset + 4 + 1);
+            int nameLength = Short.reverseBytes(file.readShort()) & 0xFFFF;
+            file.seek(indexOffset + 4 + 1 + 2 + nameLength + 8);
+            file.writeLong(Long.reverseBytes(-1));
+        }
+        assertThrows(IOException.class, this::openBundle);
+    }
+
+    @Test
+    void rewritesTamperedCacheFiles() throws Exception {
+        try (RhinoBundleWriter writer = new RhinoBundleWriter(bundleFile.getPath())) {
+            writer.addContext("coffee_maker", RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+        }
+        byte[] expected = Files.readAllBytes(Paths.get(RhinoTestUtils.getTestContextPath("en", "coffee_maker")));
+        String contextPath;
+        try (RhinoBundle bundle = openBundle()) {
+            contextPath = bundle.getContextPath("coffee_maker");
+        }
+
+        Files.write(Paths.get(contextPath), new byte[expected.length]);
+        try (RhinoBundle bundle = openBundle()) {
+            assertEquals(contextPath, bundle.getContextPath("coffee_maker"));
+            assertArrayEquals(expected, Files.readAllBytes(Paths.get(contextPath)));
+        }
+    }
+
+    @Test
+    void defaultCacheIsPrivate() throws Exception {
+        try (RhinoBundleWriter writer = new RhinoBundleWriter(bundleFile.getPath())) {
+            writer.addContext("coffee_maker", RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+        }
+        try (RhinoBundle bundle = new RhinoBundle(bundleFile.getPath())) {
+            cacheDirectory = new File(bundle.getContextPath("coffee_maker")).getParentFile();
+        }
+        if (cacheDirectory.toPath().getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals(
+                    PosixFilePermissions.fromString("rwx------"),
+                    Files.getPosixFilePermissions(cacheDirectory.toPath()));
+
+            Files.setPosixFilePermissions(cacheDirectory.toPath(), PosixFilePermissions.fromString("rwxrwxrwx"));
+            try (RhinoBundle bundle = new RhinoBundle(bundleFile.getPath())) {
+                assertThrows(RhinoIOException.class, () -> bundle.getContextPath("coffee_maker"));
+            }
+        }
+    }
+
+    @Test
+    void initFromBundle() throws Exception {
+        RhinoBundleWriter.packDirectory(
+                bundleFile.getPath(),
+                getContextDirectory(),
+                RhinoTestUtils.getTestModelPath("en"));
+
+        try (RhinoBundle bundle = openBundle()) {
+            Rhino rhino = bundle.newBuilder(getContextName("coffee_maker"))
+                    .setAccessKey(accessKey)
+                    .setDevice(device)
+                    .build();
+            try {
+                assertTrue(rhino.getContextInfo().getIntents().contains("orderBeverage"));
+            } finally {
+                rhino.delete();
+            }
+        }
+    }
+}
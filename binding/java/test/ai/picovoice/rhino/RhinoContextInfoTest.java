@@ -0,0 +1,122 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoContextInfoTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+
+    private static final String YAML = String.join("\n",
+            "context:",
+            "  expressions:",
+            "    changeColor:",
+            "      - \"[change, set] (the) $location:location to $color:color\"",
+            "      - make (the) $location:location $color:color # trailing comment",
+            "    setTimer:",
+            "    - set a timer for $pv.TwoDigitInteger:minutes minutes",
+            "  slots:",
+            "    location:",
+            "      - kitchen",
+            "      - 'living room'",
+            "    color:",
+            "      - \"blue\"",
+            "      - 'rock ''n'' roll red'",
+            "  macros: {}",
+            "");
+
+    private Rhino buildRhino(String context) throws RhinoException {
+        return new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", context))
+                .build();
+    }
+
+    @Test
+    void parsesContext() throws RhinoException {
+        RhinoContextInfo info = RhinoContextInfo.parse(YAML);
+
+        assertEquals(Arrays.asList("changeColor", "setTimer"), info.getIntents());
+        assertEquals(1, info.getIntentIndex("setTimer"));
+        assertEquals(-1, info.getIntentIndex("unknown"));
+        assertEquals(Arrays.asList(
+                "[change, set] (the) $location:location to $color:color",
+                "make (the) $location:location $color:color"), info.getExpressions("changeColor"));
+        assertEquals(Arrays.asList("kitchen", "living room"), info.getSlotValues("location"));
+        assertEquals(Arrays.asList("blue", "rock 'n' roll red"), info.getSlotValues("color"));
+        assertTrue(info.getMacros().isEmpty());
+        assertTrue(info.getSlotValues("unknown").isEmpty());
+        assertEquals(YAML, info.getYaml());
+    }
+
+    @Test
+    void findsSlotsOfIntent() throws RhinoException {
+        RhinoContextInfo info = RhinoContextInfo.parse(YAML);
+
+        assertEquals(Arrays.asList("location", "color"),
+                Arrays.asList(info.getIntentSlots("changeColor").keySet().toArray()));
+        assertEquals("pv.TwoDigitInteger", info.getIntentSlots("setTimer").get("minutes"));
+        assertEquals(Collections.emptyMap(), info.getIntentSlots("unknown"));
+    }
+
+    @Test
+    void rejectsInvalidYaml() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> RhinoContextInfo.parse("slots:\n  a:\n    - b\n"));
+        assertThrows(RhinoInvalidArgumentException.class, () -> RhinoContextInfo.parse("context:\n  - a\n"));
+        assertThrows(RhinoInvalidArgumentException.class,
+                () -> RhinoContextInfo.parse("context:\n  slots:\n    a:\n      - b\n     - c\n"));
+        assertThrows(RhinoInvalidArgumentException.class,
+                () -> RhinoContextInfo.parse("context:\n  slots:\n    a: [b, c]\n    a: []\n"));
+    }
+
+    @Test
+    void parsesNativeContextInformation() throws RhinoException {
+        Rhino rhino = buildRhino("coffee_maker");
+        try {
+            RhinoContextInfo info = rhino.getContextInfo();
+            assertTrue(info.getIntents().contains("orderBeverage"));
+            assertTrue(info.getIntentSlots("orderBeverage").containsKey("beverage"));
+            assertTrue(info.getSlotValues("beverage").size() > 0);
+            assertEquals(rhino.getContextInformation(), info.getYaml());
+            assertSame(info, rhino.getContextInfo());
+        } finally {
+            rhino.delete();
+        }
+    }
+
+    @Test
+    void sharesInfoBetweenInstances() throws RhinoException {
+        Rhino first = buildRhino("coffee_maker");
+        Rhino second = buildRhino("coffee_maker");
+        Rhino other = buildRhino("smart_lighting");
+        try {
+            assertSame(first.getContextInfo(), second.getContextInfo());
+            assertTrue(first.getContextInfo() != other.getContextInfo());
+        } finally {
+            first.delete();
+            second.delete();
+            other.delete();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoContextRegistryTest {
+
+    private static final long COST = 100;
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private final AtomicInteger numBuilt = new AtomicInteger();
+    private RhinoContextRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.delete();
+        }
+    }
+
+    private RhinoContextRegistry newRegistry(long budget) throws RhinoException {
+        return new RhinoContextRegistry(
+                contextPath -> {
+                    numBuilt.incrementAndGet();
+                    return new Rhino.Builder()
+                            .setAccessKey(accessKey)
+                            .setDevice(device)
+                            .setContextPath(contextPath);
+                },
+                budget,
+                (contextPath, rhino) -> COST);
+    }
+
+    private static String context(String name) {
+        return RhinoTestUtils.getTestContextPath("en", name);
+    }
+
+    @Test
+    void reusesLoadedInstance() throws Exception {
+        registry = newRegistry(10 * COST);
+
+        Rhino first;
+        try (RhinoContextRegistry.Lease lease = registry.acquire(context("coffee_maker"))) {
+            first = lease.getRhino();
+            assertTrue(lease.getRhino().getContextInfo().getIntents().contains("orderBeverage"));
+        }
+        try (RhinoContextRegistry.Lease lease = registry.acquire(context("coffee_maker"))) {
+            assertSame(first, lease.getRhino());
+        }
+        assertEquals(1, numBuilt.get());
+        assertEquals(COST, registry.getMemoryUsage());
+    }
+
+    @Test
+    void defaultEstimateCoversModelAndContext() throws Exception {
+        registry = new RhinoContextRegistry(
+                contextPath -> new Rhino.Builder()
+                        .setAccessKey(accessKey)
+                        .setDevice(device)
+                        .setContextPath(contextPath),
+                Long.MAX_VALUE);
+
+        try (RhinoContextRegistry.Lease lease = registry.acquire(context("coffee_maker"))) {
+            long fileSizes = new File(context("coffee_maker")).length()
+                    + new File(lease.getRhino().getModelPath()).length();
+            assertTrue(registry.getMemoryUsage() >= fileSizes);
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        registry = newRegistry(2 * COST);
+
+        registry.acquire(context("coffee_maker")).close();
+        RhinoContextRegistry.Lease alarm = registry.acquire(context("alarm"));
+        alarm.close();
+        registry.acquire(context("coffee_maker")).close();
+        registry.acquire(context("clock")).close();
+
+        assertFalse(registry.contains(context("alarm")));
+        assertTrue(registry.contains(context("coffee_maker")));
+        assertTrue(registry.contains(context("clock")));
+        assertEquals(2 * COST, registry.getMemoryUsage());
+        assertThrows(RhinoInvalidStateException.class, () -> alarm.getRhino().reset());
+    }
+
+    @Test
+    void neverEvictsLeasedInstances() throws Exception {
+        registry = newRegistry(COST);
+
+        RhinoContextRegistry.Lease coffee = registry.acquire(context("coffee_maker"));
+        RhinoContextRegistry.Lease alarm = registry.acquire(context("alarm"));
+        assertEquals(2, registry.getNumInstances());
+        coffee.getRhino().reset();
+
+        coffee.close();
+        assertFalse(registry.contains(context("coffee_maker")));
+        assertTrue(registry.contains(context("alarm")));
+        alarm.getRhino().reset();
+        alarm.close();
+        assertEquals(COST, registry.getMemoryUsage());
+    }
+
+    @Test
+    void singleFlightsConcurrentFirstUse() throws Exception {
+        registry = newRegistry(10 * COST);
+
+        int numThreads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<RhinoContextRegistry.Lease>> leases = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                leases.add(executor.submit(() -> {
+                    start.await();
+                    return registry.acquire(context("coffee_maker"));
+                }));
+            }
+            start.countDown();
+
+            Rhino shared = leases.get(0).get().getRhino();
+            for (Future<RhinoContextRegistry.Lease> lease : leases) {
+                assertSame(shared, lease.get().getRhino());
+                lease.get().close();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, numBuilt.get());
+    }
+
+    @Test
+    void failedInitIsNotCached() throws Exception {
+        registry = newRegistry(10 * COST);
+
+        assertThrows(RhinoIOException.class, () -> registry.acquire("/does/not/exist.rhn"));
+        assertFalse(registry.contains("/does/not/exist.rhn"));
+        assertThrows(RhinoIOException.class, () -> registry.acquire("/does/not/exist.rhn"));
+        assertEquals(2, numBuilt.get());
+    }
+
+    @Test
+    void deleteWaitsForLeases() throws Exception {
+        registry = newRegistry(10 * COST);
+
+        RhinoContextRegistry.Lease lease = registry.acquire(context("coffee_maker"));
+        Rhino idle;
+        try (RhinoContextRegistry.Lease other = registry.acquire(context("alarm"))) {
+            idle = other.getRhino();
+        }
+        registry.delete();
+
+        assertThrows(RhinoInvalidStateException.class, idle::reset);
+        lease.getRhino().reset();
+        lease.close();
+        assertThrows(RhinoInvalidStateException.class, () -> lease.getRhino().reset());
+        assertThrows(RhinoInvalidStateException.class, () -> registry.acquire(context("coffee_maker")));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoContextRegistry(null, COST));
+        assertThrows(
+                RhinoInvalidArgumentException.class,
+                () -> new RhinoContextRegistry(c -> new Rhino.Builder(), 0));
+    }
+
+    @Test
+    void distinctContextsGetDistinctInstances() throws Exception {
+        registry = newRegistry(10 * COST);
+
+        try (RhinoContextRegistry.Lease coffee = registry.acquire(context("coffee_maker"));
+             RhinoContextRegistry.Lease alarm = registry.acquire(context("alarm"))) {
+            assertNotSame(coffee.getRhino(), alarm.getRhino());
+        }
+    }
+}
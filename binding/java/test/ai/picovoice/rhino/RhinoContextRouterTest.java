@@ -0,0 +1,111 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoContextRouterTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private RhinoContextRouter router;
+
+    @BeforeEach
+    void setUp() throws RhinoException {
+        router = new RhinoContextRouter(Arrays.asList(
+                builder("de", "beleuchtung"),
+                builder("en", "smart_lighting"),
+                builder("en", "coffee_maker")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.delete();
+    }
+
+    @Test
+    void routesToEnglishContext() throws Exception {
+        RhinoInference inference = processFile("test_within_context.wav");
+        assertNotNull(inference);
+        assertTrue(inference.getIsUnderstood());
+        assertEquals("orderBeverage", inference.getIntent());
+        assertEquals(2, router.getWinningContext());
+    }
+
+    @Test
+    void routesToGermanContext() throws Exception {
+        RhinoInference inference = processFile("test_within_context_de.wav");
+        assertNotNull(inference);
+        assertTrue(inference.getIsUnderstood());
+        assertEquals(0, router.getWinningContext());
+    }
+
+    @Test
+    void notUnderstoodByAnyContext() throws Exception {
+        // without a verdict window the first context that finalizes decides, even if others never do
+        router.delete();
+        router = new RhinoContextRouter(
+                Arrays.asList(builder("de", "beleuchtung"), builder("en", "coffee_maker")),
+                0,
+                0f);
+
+        RhinoInference inference = processFile("test_out_of_context.wav");
+        assertNotNull(inference);
+        assertFalse(inference.getIsUnderstood());
+        assertEquals(-1, router.getWinningContext());
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoContextRouter(Collections.emptyList()));
+        assertThrows(RhinoInvalidArgumentException.class, () -> router.process(new short[router.getFrameLength() + 1]));
+    }
+
+    @Test
+    void deletesBuiltInstancesOnFailure() {
+        int numInstances = RhinoMemoryStats.getNumInstances();
+        assertThrows(
+                NullPointerException.class,
+                () -> new RhinoContextRouter(Arrays.asList(builder("en", "coffee_maker"), null)));
+        assertEquals(numInstances, RhinoMemoryStats.getNumInstances());
+    }
+
+    private Rhino.Builder builder(String language, String context) {
+        return new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setModelPath(RhinoTestUtils.getTestModelPath(language))
+                .setContextPath(RhinoTestUtils.getTestContextPath(language, context));
+    }
+
+    private RhinoInference processFile(String audioFileName) throws Exception {
+        for (short[] frame : RhinoTestUtils.readFrames(audioFileName, router.getFrameLength())) {
+            RhinoInference inference = router.process(frame);
+            if (inference != null) {
+                return inference;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RhinoContextTrainerTest {
+
+    private static final String YAML = String.join("\n",
+            "context:",
+            "  expressions:",
+            "    callContact:",
+            "      - \"@call $contacts:contact\"",
+            "  slots:",
+            "    contacts:",
+            "      - Mom",
+            "      - Dad",
+            "    greeting:",
+            "      - hello",
+            "  macros:",
+            "    call:",
+            "      - ring",
+            "      - dial",
+            "");
+
+    private static final byte[] CONTEXT = "trained context".getBytes(StandardCharsets.UTF_8);
+
+    private final List<String> paths = new ArrayList<>();
+    private final List<String> apiKeys = new ArrayList<>();
+    private final List<JsonObject> payloads = new ArrayList<>();
+    private final Set<Integer> clientPorts = new HashSet<>();
+    private HttpServer server;
+    private int status = 200;
+    private File outputDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = readAll(exchange.getRequestBody());
+            synchronized (this) {
+                paths.add(exchange.getRequestURI().getPath());
+                apiKeys.add(exchange.getRequestHeaders().getFirst("x-api-key"));
+                payloads.add(JsonParser.parseString(new String(body, StandardCharsets.UTF_8)).getAsJsonObject());
+                clientPorts.add(exchange.getRemoteAddress().getPort());
+            }
+            byte[] response = status == 200 ? CONTEXT : "{\"error\":\"nope\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+        outputDirectory = Files.createTempDirectory("rhino-trainer").toFile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        for (File file : outputDirectory.listFiles()) {
+            file.delete();
+        }
+        outputDirectory.delete();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private RhinoContextTrainer buildTrainer() throws RhinoException {
+        return new RhinoContextTrainer.Builder()
+                .setAccessKey("test-key")
+                .setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .setPlatform("linux")
+                .build();
+    }
+
+    @Test
+    void trainsFromYaml() throws Exception {
+        File output = new File(outputDirectory, "out.rhn");
+        buildTrainer().trainFromYaml("en", YAML, output.getPath());
+
+        assertArrayEquals(CONTEXT, Files.readAllBytes(output.toPath()));
+        assertEquals(Collections.singletonList("/en/api/rhn"), paths);
+        assertEquals(Collections.singletonList("test-key"), apiKeys);
+        assertEquals("linux", payloads.get(0).get("platform").getAsString());
+        assertEquals(YAML, payloads.get(0).get("yaml_content").getAsString());
+        assertEquals(1, outputDirectory.listFiles().length);
+    }
+
+    @Test
+    void trainsFromDynamicSlots() throws Exception {
+        Map<String, Set<String>> slots = new HashMap<>();
+        slots.put("contacts", new HashSet<>(Collections.singletonList("Alice \"Al\" Smith")));
+        File output = new File(outputDirectory, "out.rhn");
+        buildTrainer().trainFromDynamicSlots("de", RhinoContextInfo.parse(YAML), slots, output.getPath());
+
+        assertEquals("/de/api/rhn", paths.get(0));
+        RhinoContextInfo trained = RhinoContextInfo.parse(payloads.get(0).get("yaml_content").getAsString());
+        assertEquals(Collections.singletonList("Alice \"Al\" Smith"), trained.getSlotValues("contacts"));
+        assertEquals(Collections.singletonList("hello"), trained.getSlotValues("greeting"));
+        assertEquals(Arrays.asList("ring", "dial"), trained.getMacros().get("call"));
+        assertEquals(Collections.singletonList("@call $contacts:contact"), trained.getExpressions("callContact"));
+    }
+
+    @Test
+    void reusesConnections() throws Exception {
+        RhinoContextTrainer trainer = buildTrainer();
+        for (int i = 0; i < 5; i++) {
+            trainer.trainFromYaml("en", YAML, new File(outputDirectory, i + ".rhn").getPath());
+        }
+        assertEquals(5, paths.size());
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    void mapsErrors() throws Exception {
+        RhinoContextTrainer trainer = buildTrainer();
+        File output = new File(outputDirectory, "out.rhn");
+
+        status = 429;
+        assertThrows(RhinoActivationThrottledException.class,
+                () -> trainer.trainFromYaml("en", YAML, output.getPath()));
+        status = 401;
+        assertThrows(RhinoActivationRefusedException.class,
+                () -> trainer.trainFromYaml("en", YAML, output.getPath()));
+        status = 400;
+        assertThrows(RhinoInvalidArgumentException.class,
+                () -> trainer.trainFromYaml("en", YAML, output.getPath()));
+        status = 500;
+        assertThrows(RhinoRuntimeException.class,
+                () -> trainer.trainFromYaml("en", YAML, output.getPath()));
+
+        assertFalse(output.exists());
+        assertEquals(0, outputDirectory.listFiles().length);
+    }
+
+    @Test
+    void rejectsInvalidArguments() throws Exception {
+        RhinoContextTrainer trainer = buildTrainer();
+        RhinoContextInfo info = RhinoContextInfo.parse(YAML);
+        String output = new File(outputDirectory, "out.rhn").getPath();
+
+        assertThrows(RhinoInvalidArgumentException.class, () -> trainer.trainFromYaml("xx", YAML, output));
+        assertThrows(RhinoInvalidArgumentException.class, () -> trainer.trainFromDynamicSlots(
+                "en", info, Collections.singletonMap("unknown", Collections.singleton("a")), output));
+        assertThrows(RhinoInvalidArgumentException.class, () -> trainer.trainFromDynamicSlots(
+                "en", info, Collections.singletonMap("contacts", Collections.emptySet()), output));
+        assertThrows(RhinoInvalidArgumentException.class, () -> trainer.trainFromDynamicSlots(
+                "en", info, Collections.singletonMap("contacts", Arrays.asList("Bob", "bob")), output));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoContextTrainer.Builder().build());
+        assertEquals(0, paths.size());
+    }
+}
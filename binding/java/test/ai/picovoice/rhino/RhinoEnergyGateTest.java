@@ -0,0 +1,100 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoEnergyGateTest {
+
+    private static final int FRAME_LENGTH = 512;
+
+    private final Random random = new Random(42);
+
+    private short[] noise(double amplitude) {
+        short[] frame = new short[FRAME_LENGTH];
+        for (int i = 0; i < frame.length; i++) {
+            frame[i] = (short) (random.nextGaussian() * amplitude);
+        }
+        return frame;
+    }
+
+    private static short[] tone(double amplitude) {
+        short[] frame = new short[FRAME_LENGTH];
+        for (int i = 0; i < frame.length; i++) {
+            frame[i] = (short) (Math.sin(2 * Math.PI * 440 * i / 16000.0) * amplitude);
+        }
+        return frame;
+    }
+
+    @Test
+    void detectsSpeechAboveNoiseFloor() {
+        RhinoEnergyGate gate = new RhinoEnergyGate();
+        for (int i = 0; i < 50; i++) {
+            assertFalse(gate.process(noise(100)));
+        }
+        float noiseFloorDb = gate.getNoiseFloorDb();
+        assertEquals(-50, noiseFloorDb, 2);
+
+        assertTrue(gate.process(tone(8000)));
+        assertTrue(gate.isSpeech());
+        assertTrue(gate.getEnergyDb() > noiseFloorDb + RhinoEnergyGate.DEFAULT_MARGIN_DB);
+        assertEquals(noiseFloorDb, gate.getNoiseFloorDb(), 1);
+
+        assertFalse(gate.process(noise(100)));
+    }
+
+    @Test
+    void ignoresQuietFramesAndDigitalSilence() {
+        RhinoEnergyGate gate = new RhinoEnergyGate();
+        for (int i = 0; i < 10; i++) {
+            assertFalse(gate.process(new short[FRAME_LENGTH]));
+        }
+        assertEquals(-100, gate.getEnergyDb(), 0);
+        // well above a floor of digital silence, but below the minimum energy
+        assertFalse(gate.process(noise(20)));
+    }
+
+    @Test
+    void adaptsToLouderBackground() {
+        RhinoEnergyGate gate = new RhinoEnergyGate();
+        for (int i = 0; i < 20; i++) {
+            gate.process(noise(50));
+        }
+        int numSpeechFrames = 0;
+        for (int i = 0; i < 2000; i++) {
+            if (gate.process(noise(1000))) {
+                numSpeechFrames++;
+            }
+        }
+        assertTrue(gate.getNoiseFloorDb() > -35);
+        assertTrue(numSpeechFrames < 2000);
+        assertFalse(gate.process(noise(1000)));
+
+        gate.reset();
+        assertTrue(Float.isNaN(gate.getNoiseFloorDb()));
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoEnergyGate(0, -50));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoEnergyGate(6, 0));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoEnergyGate(Float.NaN, -50));
+    }
+}
@@ -0,0 +1,229 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoFlowProcessorTest {
+
+    private static final int BUFFER_SIZE = 8;
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private Rhino rhino;
+    private ExecutorService executor;
+    private List<short[]> frames;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rhino = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .build();
+        executor = Executors.newSingleThreadExecutor();
+        frames = RhinoTestUtils.readFrames("test_within_context.wav", rhino.getFrameLength());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        rhino.delete();
+    }
+
+    @Test
+    void publishesInference() throws Exception {
+        FramePublisher publisher = new FramePublisher(frames);
+        RhinoFlowProcessor processor = new RhinoFlowProcessor(rhino, executor, BUFFER_SIZE);
+        InferenceSubscriber subscriber = new InferenceSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.done.get(10, TimeUnit.SECONDS);
+        assertEquals(1, subscriber.inferences.size());
+        RhinoInference inference = subscriber.inferences.get(0);
+        assertTrue(inference.getIsUnderstood());
+        assertEquals("orderBeverage", inference.getIntent());
+        assertTrue(publisher.maxOutstanding.get() <= BUFFER_SIZE);
+    }
+
+    @Test
+    void stopsRequestingWithoutDemand() throws Exception {
+        FramePublisher publisher = new FramePublisher(frames);
+        RhinoFlowProcessor processor = new RhinoFlowProcessor(rhino, executor, BUFFER_SIZE);
+        InferenceSubscriber subscriber = new InferenceSubscriber(0);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        Thread.sleep(500);
+        assertEquals(0, publisher.numEmitted.get());
+        assertFalse(subscriber.done.isDone());
+
+        subscriber.subscription.request(1);
+        subscriber.done.get(10, TimeUnit.SECONDS);
+        assertEquals(1, subscriber.inferences.size());
+        assertTrue(publisher.maxOutstanding.get() <= BUFFER_SIZE);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoFlowProcessor(null));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoFlowProcessor(rhino, null, BUFFER_SIZE));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoFlowProcessor(rhino, executor, 0));
+    }
+
+    @Test
+    void invalidFrameLength() throws Exception {
+        List<short[]> invalidFrames = new ArrayList<>();
+        invalidFrames.add(new short[rhino.getFrameLength() - 1]);
+        FramePublisher publisher = new FramePublisher(invalidFrames);
+        RhinoFlowProcessor processor = new RhinoFlowProcessor(rhino, executor, BUFFER_SIZE);
+        InferenceSubscriber subscriber = new InferenceSubscriber(1);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.done.handle((v, e) -> null).get(10, TimeUnit.SECONDS);
+        assertTrue(subscriber.error instanceof RhinoInvalidArgumentException);
+        assertTrue(publisher.isCancelled);
+    }
+
+    @Test
+    void subscriberFailureTerminates() throws Exception {
+        FramePublisher publisher = new FramePublisher(frames);
+        RhinoFlowProcessor processor = new RhinoFlowProcessor(rhino, executor, BUFFER_SIZE);
+        IllegalStateException failure = new IllegalStateException("subscriber failure");
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+        publisher.subscribe(processor);
+        processor.subscribe(new Flow.Subscriber<RhinoInference>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(RhinoInference inference) {
+                throw failure;
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.complete(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                error.complete(null);
+            }
+        });
+
+        assertSame(failure, error.get(10, TimeUnit.SECONDS));
+        assertTrue(publisher.isCancelled);
+    }
+
+    private static final class FramePublisher implements Flow.Publisher<short[]> {
+
+        private final List<short[]> frames;
+        private final AtomicLong numEmitted = new AtomicLong();
+        private final AtomicLong maxOutstanding = new AtomicLong();
+        private volatile boolean isCancelled;
+
+        FramePublisher(List<short[]> frames) {
+            this.frames = frames;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super short[]> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long outstanding;
+
+                @Override
+                public synchronized void request(long n) {
+                    outstanding += n;
+                    maxOutstanding.accumulateAndGet(outstanding, Math::max);
+                    while (outstanding > 0 && !isCancelled) {
+                        int index = (int) numEmitted.get();
+                        if (index == frames.size()) {
+                            subscriber.onComplete();
+                            return;
+                        }
+                        numEmitted.incrementAndGet();
+                        outstanding--;
+                        subscriber.onNext(frames.get(index));
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    isCancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class InferenceSubscriber implements Flow.Subscriber<RhinoInference> {
+
+        private final long initialDemand;
+        private final List<RhinoInference> inferences = new ArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        InferenceSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(RhinoInference inference) {
+            inferences.add(inference);
+            subscription.cancel();
+            done.complete(null);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+}
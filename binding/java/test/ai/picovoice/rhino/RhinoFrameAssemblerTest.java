@@ -0,0 +1,105 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoFrameAssemblerTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private final List<RhinoInference> inferences = new ArrayList<>();
+    private Rhino rhino;
+    private RhinoFrameAssembler assembler;
+    private byte[] audio;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rhino = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .build();
+        assembler = new RhinoFrameAssembler(rhino, inferences::add);
+        audio = RhinoTestUtils.readAudioBytes("test_within_context.wav");
+    }
+
+    @AfterEach
+    void tearDown() {
+        rhino.delete();
+    }
+
+    @Test
+    void oddSizedByteChunks() throws RhinoException {
+        for (int offset = 0; offset < audio.length; offset += 333) {
+            assembler.write(audio, offset, Math.min(333, audio.length - offset));
+        }
+        assertUnderstood();
+    }
+
+    @Test
+    void shortChunks() throws RhinoException {
+        short[] samples = new short[audio.length / 2];
+        ByteBuffer.wrap(audio).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+        for (int offset = 0; offset < samples.length; offset += 160) {
+            assembler.write(samples, offset, Math.min(160, samples.length - offset));
+        }
+        assertUnderstood();
+    }
+
+    @Test
+    void byteBufferChunks() throws RhinoException {
+        ByteBuffer buffer = ByteBuffer.wrap(audio).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            ByteBuffer chunk = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+            chunk.limit(Math.min(641, chunk.remaining()));
+            assembler.write(chunk);
+            buffer.position(buffer.position() + chunk.limit());
+        }
+        assertUnderstood();
+    }
+
+    @Test
+    void carriesOverTail() throws RhinoException {
+        int frameLength = rhino.getFrameLength();
+        assembler.write(new byte[frameLength + 3], 0, frameLength + 3);
+        assertEquals(frameLength / 2 + 1, assembler.getNumBufferedSamples());
+        assembler.write(new byte[1], 0, 1);
+        assertEquals(frameLength / 2 + 2, assembler.getNumBufferedSamples());
+        assembler.clear();
+        assertEquals(0, assembler.getNumBufferedSamples());
+    }
+
+    @Test
+    void invalidRange() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> assembler.write(new short[10], 5, 6));
+        assertThrows(RhinoInvalidArgumentException.class, () -> assembler.write(new byte[10], -1, 2));
+    }
+
+    private void assertUnderstood() {
+        assertEquals(1, inferences.size());
+        assertTrue(inferences.get(0).getIsUnderstood());
+        assertEquals("orderBeverage", inferences.get(0).getIntent());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoLatencyHistogramTest {
+
+    @Test
+    void bucketsCoverAllValues() {
+        assertEquals(0, RhinoLatencyHistogram.bucketOf(0));
+        assertEquals(63, RhinoLatencyHistogram.bucketOf(63));
+        int previous = -1;
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            int bucket = RhinoLatencyHistogram.bucketOf(value);
+            assertTrue(bucket > previous);
+            long midpoint = RhinoLatencyHistogram.midpointOf(bucket);
+            assertTrue(Math.abs(midpoint - value) <= value / 32 + 1);
+            previous = bucket;
+        }
+        RhinoLatencyHistogram.bucketOf(Long.MAX_VALUE);
+    }
+
+    @Test
+    void percentiles() throws RhinoException {
+        RhinoLatencyHistogram histogram = new RhinoLatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.5, histogram.getMean(), 1e-9);
+        assertEquals(1000, histogram.getMax());
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(500, histogram.getValueAtPercentile(50), 500 / 32.0);
+        assertEquals(990, histogram.getValueAtPercentile(99), 990 / 32.0);
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+        assertThrows(RhinoInvalidArgumentException.class, () -> histogram.getValueAtPercentile(101));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    void concurrentRecording() throws Exception {
+        RhinoLatencyHistogram histogram = new RhinoLatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        histogram.record(i % 2000);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(40000, histogram.getCount());
+        assertEquals(1999, histogram.getMax());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoLatencyTrackerTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+
+    @Test
+    void groupsUtterancesByEndpointDuration() {
+        RhinoLatencyStats stats = new RhinoLatencyStats();
+        // 32 ms frames: speech in frames 10..40, finalized at frame 71
+        stats.record(new RhinoLatencyTracker.Utterance(1.0f, 32, 10, 40, 71));
+        stats.record(new RhinoLatencyTracker.Utterance(1.0f, 32, -1, -1, 50));
+        stats.record(new RhinoLatencyTracker.Utterance(0.5f, 32, 5, 20, 36));
+
+        RhinoLatencyTracker.Utterance utterance = new RhinoLatencyTracker.Utterance(1.0f, 32, 10, 40, 71);
+        assertEquals(320, utterance.getSpeechStartMs());
+        assertEquals(1312, utterance.getSpeechEndMs());
+        assertEquals(2304, utterance.getFinalizedMs());
+        assertEquals(992, utterance.getEndpointLatencyMs());
+        assertEquals(-1, utterance.getInferenceNanos());
+        assertNull(utterance.getInference());
+
+        assertEquals(2, stats.getSettings().size());
+        assertEquals(0.5f, stats.getSettings().keySet().iterator().next(), 0);
+        RhinoLatencyStats.Setting setting = stats.getSetting(1.0f);
+        assertEquals(2, setting.getNumUtterances());
+        assertEquals(1, setting.getNumWithoutSpeech());
+        assertEquals(1, setting.getEndpointLatency().getCount());
+        assertEquals(992, setting.getEndpointLatency().getMax());
+        assertEquals(0, setting.getInferenceLatency().getCount());
+        assertEquals(512, stats.getSetting(0.5f).getEndpointLatency().getMax());
+        assertNull(stats.getSetting(2.0f));
+    }
+
+    @Test
+    void measuresEndpointLatency() throws Exception {
+        Rhino rhino = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .setEndpointDuration(1.0f)
+                .build();
+        RhinoLatencyStats stats = new RhinoLatencyStats();
+        List<RhinoLatencyTracker.Utterance> utterances = new ArrayList<>();
+        try (RhinoLatencyTracker tracker = new RhinoLatencyTracker(rhino, stats, utterances::add)) {
+            List<short[]> frames = RhinoTestUtils.readFrames("test_within_context.wav", rhino.getFrameLength());
+            boolean isFinalized = false;
+            for (int i = 0; i < frames.size() && !isFinalized; i++) {
+                isFinalized = rhino.process(frames.get(i));
+            }
+            short[] silence = new short[rhino.getFrameLength()];
+            while (!isFinalized) {
+                isFinalized = rhino.process(silence);
+            }
+            assertTrue(utterances.isEmpty());
+            rhino.getInference();
+        } finally {
+            rhino.delete();
+        }
+
+        assertEquals(1, utterances.size());
+        RhinoLatencyTracker.Utterance utterance = utterances.get(0);
+        assertEquals(1.0f, utterance.getEndpointDurationSec(), 0);
+        assertTrue(utterance.getFirstSpeechFrame() >= 0);
+        assertTrue(utterance.getEndOfSpeechFrame() > utterance.getFirstSpeechFrame());
+        assertTrue(utterance.getFinalizedFrame() >= utterance.getEndOfSpeechFrame());
+        assertTrue(utterance.getEndpointLatencyMs() >= 0);
+        assertTrue(utterance.getInferenceNanos() > 0);
+        assertEquals("orderBeverage", utterance.getInference().getIntent());
+
+        RhinoLatencyStats.Setting setting = stats.getSetting(1.0f);
+        assertEquals(1, setting.getNumUtterances());
+        assertEquals(1, setting.getNumUnderstood());
+        assertEquals(1, setting.getEndpointLatency().getCount());
+        assertEquals(1, setting.getInferenceLatency().getCount());
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoLatencyTracker(null, new RhinoLatencyStats()));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoLeakDetectorTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+
+    @AfterEach
+    void tearDown() throws RhinoException {
+        RhinoLeakDetector.setListener(null);
+        RhinoLeakDetector.setSampleRate(0);
+    }
+
+    private Rhino buildRhino() throws RhinoException {
+        return new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .build();
+    }
+
+    private static boolean awaitWithGc(CountDownLatch latch) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            System.gc();
+            if (latch.await(100, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void cleanerRunsActionOnceAfterCollection() throws InterruptedException {
+        CountDownLatch collected = new CountDownLatch(1);
+        HandleCleaner.register(new Object(), collected::countDown);
+        assertTrue(awaitWithGc(collected));
+
+        AtomicInteger numRuns = new AtomicInteger();
+        Object owner = new Object();
+        HandleCleaner.Cleanable cleanable = HandleCleaner.register(owner, numRuns::incrementAndGet);
+        cleanable.clean();
+        cleanable.clean();
+        assertEquals(1, numRuns.get());
+        assertNotNull(owner);
+    }
+
+    @Test
+    void samplesCreationSites() throws RhinoException {
+        assertNull(RhinoLeakDetector.sampleCreationSite());
+        RhinoLeakDetector.setSampleRate(1);
+        assertNotNull(RhinoLeakDetector.sampleCreationSite());
+
+        assertThrows(RhinoInvalidArgumentException.class, () -> RhinoLeakDetector.setSampleRate(-0.1));
+        assertThrows(RhinoInvalidArgumentException.class, () -> RhinoLeakDetector.setSampleRate(1.5));
+        assertThrows(RhinoInvalidArgumentException.class, () -> RhinoLeakDetector.setSampleRate(Double.NaN));
+    }
+
+    @Test
+    void closeReleasesWithoutReportingLeak() throws Exception {
+        long numLeaked = RhinoLeakDetector.getNumLeaked();
+        Rhino leaked;
+        try (Rhino rhino = buildRhino()) {
+            rhino.reset();
+            leaked = rhino;
+        }
+        assertThrows(RhinoInvalidStateException.class, leaked::reset);
+        leaked.delete();
+        assertEquals(numLeaked, RhinoLeakDetector.getNumLeaked());
+    }
+
+    @Test
+    void reportsCollectedInstances() throws Exception {
+        List<Throwable> creationSites = new ArrayList<>();
+        CountDownLatch reported = new CountDownLatch(1);
+        RhinoLeakDetector.setSampleRate(1);
+        RhinoLeakDetector.setListener((contextPath, creationSite) -> {
+            synchronized (creationSites) {
+                creationSites.add(creationSite);
+            }
+            reported.countDown();
+        });
+
+        int numInstances = RhinoMemoryStats.getNumInstances();
+        long numLeaked = RhinoLeakDetector.getNumLeaked();
+        buildRhino();
+        assertTrue(awaitWithGc(reported));
+
+        assertTrue(RhinoLeakDetector.getNumLeaked() > numLeaked);
+        synchronized (creationSites) {
+            assertNotNull(creationSites.get(0));
+        }
+        assertEquals(numInstances, RhinoMemoryStats.getNumInstances());
+    }
+}
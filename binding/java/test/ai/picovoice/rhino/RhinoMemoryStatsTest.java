@@ -0,0 +1,130 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoMemoryStatsTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+
+    private static RhinoMemoryStats.Usage findUsage(String contextPath) {
+        for (RhinoMemoryStats.Usage usage : RhinoMemoryStats.getUsage()) {
+            if (usage.getContextPath().equals(contextPath)) {
+                return usage;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    void parsesResidentSetSize() {
+        assertEquals(
+                123456L * 1024,
+                RhinoMemoryStats.parseResidentBytes(Arrays.asList(
+                        "Name:\tjava",
+                        "VmPeak:\t 9999999 kB",
+                        "VmRSS:\t  123456 kB",
+                        "Threads:\t42")));
+        assertEquals(-1, RhinoMemoryStats.parseResidentBytes(Collections.singletonList("Name:\tjava")));
+    }
+
+    @Test
+    void residentMemoryMatchesSupport() {
+        if (RhinoMemoryStats.isSupported()) {
+            assertTrue(RhinoMemoryStats.getResidentMemory() > 0);
+        } else {
+            assertEquals(-1, RhinoMemoryStats.getResidentMemory());
+        }
+    }
+
+    @Test
+    void dropsConfigurationsWithoutInstances() {
+        String contextPath = "dropsConfigurationsWithoutInstances.rhn";
+        RhinoMemoryStats.Configuration configuration = new RhinoMemoryStats.Configuration(null, contextPath, null);
+
+        long first = RhinoMemoryStats.endInit(RhinoMemoryStats.beginInit(), configuration);
+        long second = RhinoMemoryStats.endInit(RhinoMemoryStats.beginInit(), configuration);
+        assertEquals(2, findUsage(contextPath).getNumInstances());
+
+        RhinoMemoryStats.recordDelete(configuration, first, RhinoMemoryStats.getResidentMemory());
+        assertEquals(1, findUsage(contextPath).getNumInstances());
+        RhinoMemoryStats.recordDelete(configuration, second, RhinoMemoryStats.getResidentMemory());
+        assertNull(findUsage(contextPath));
+    }
+
+    @Test
+    void keepsMeasurementAcrossReinitialization() {
+        if (!RhinoMemoryStats.isSupported()) {
+            return;
+        }
+        String contextPath = "keepsMeasurementAcrossReinitialization.rhn";
+        RhinoMemoryStats.Configuration configuration = new RhinoMemoryStats.Configuration(null, contextPath, null);
+        int numBytes = 32 * 1024 * 1024;
+
+        RhinoMemoryStats.InitMeasurement measurement = RhinoMemoryStats.beginInit();
+        // zero-filled on allocation, so it is resident
+        ByteBuffer allocation = ByteBuffer.allocateDirect(numBytes);
+        long estimate = RhinoMemoryStats.endInit(measurement, configuration);
+        assertTrue(estimate >= numBytes / 2);
+        RhinoMemoryStats.recordDelete(configuration, estimate, RhinoMemoryStats.getResidentMemory());
+        assertNull(findUsage(contextPath));
+
+        // allocates nothing, as when the allocator reuses the memory of a deleted instance
+        long reinitialized = RhinoMemoryStats.endInit(RhinoMemoryStats.beginInit(), configuration);
+        assertEquals(estimate, reinitialized);
+        assertEquals(estimate, findUsage(contextPath).getInstanceBytes());
+        RhinoMemoryStats.recordDelete(configuration, reinitialized, RhinoMemoryStats.getResidentMemory());
+        assertTrue(allocation.capacity() > 0);
+    }
+
+    @Test
+    void attributesInstancesToConfiguration() throws RhinoException {
+        String contextPath = RhinoTestUtils.getTestContextPath("en", "coffee_maker");
+        int numInstances = RhinoMemoryStats.getNumInstances();
+
+        Rhino rhino = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(contextPath)
+                .build();
+        try {
+            assertEquals(numInstances + 1, RhinoMemoryStats.getNumInstances());
+            RhinoMemoryStats.Usage usage = findUsage(contextPath);
+            assertTrue(usage != null);
+            assertEquals(device, usage.getDevice());
+            assertTrue(usage.getNumInstances() >= 1);
+            if (RhinoMemoryStats.isSupported()) {
+                assertTrue(rhino.getNativeMemoryUsage() >= 0);
+                assertTrue(usage.getTotalBytes() >= rhino.getNativeMemoryUsage());
+            } else {
+                assertEquals(-1, rhino.getNativeMemoryUsage());
+            }
+        } finally {
+            rhino.delete();
+        }
+
+        assertEquals(numInstances, RhinoMemoryStats.getNumInstances());
+        rhino.delete();
+        assertEquals(numInstances, RhinoMemoryStats.getNumInstances());
+    }
+}
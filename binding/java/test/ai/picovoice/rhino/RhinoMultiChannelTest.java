@@ -0,0 +1,92 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoMultiChannelTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private RhinoMultiChannel multiChannel;
+
+    @BeforeEach
+    void setUp() throws RhinoException {
+        multiChannel = new RhinoMultiChannel(
+                new Rhino.Builder()
+                        .setAccessKey(accessKey)
+                        .setDevice(device)
+                        .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker")),
+                3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        multiChannel.delete();
+    }
+
+    @Test
+    void understoodOnOneChannel() throws Exception {
+        short[] command = RhinoTestUtils.readAudio("test_within_context.wav");
+        short[] silence = new short[command.length];
+
+        RhinoInference inference = processInterleaved(silence, command, silence);
+        assertNotNull(inference);
+        assertTrue(inference.getIsUnderstood());
+        assertEquals("orderBeverage", inference.getIntent());
+        assertEquals(1, multiChannel.getWinningChannel());
+    }
+
+    @Test
+    void notUnderstoodOnAnyChannel() throws Exception {
+        short[] command = RhinoTestUtils.readAudio("test_out_of_context.wav");
+
+        RhinoInference inference = processInterleaved(command, command, command);
+        assertNotNull(inference);
+        assertFalse(inference.getIsUnderstood());
+        assertEquals(-1, multiChannel.getWinningChannel());
+    }
+
+    @Test
+    void invalidFrameLength() {
+        assertThrows(
+                RhinoInvalidArgumentException.class,
+                () -> multiChannel.process(new short[multiChannel.getFrameLength()]));
+    }
+
+    private RhinoInference processInterleaved(short[]... channels) throws RhinoException {
+        int frameLength = multiChannel.getFrameLength();
+        short[] frame = new short[frameLength * channels.length];
+        for (int offset = 0; offset + frameLength <= channels[0].length; offset += frameLength) {
+            for (int i = 0; i < frameLength; i++) {
+                for (int c = 0; c < channels.length; c++) {
+                    frame[i * channels.length + c] = channels[c][offset + i];
+                }
+            }
+            RhinoInference inference = multiChannel.process(frame);
+            if (inference != null) {
+                return inference;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoPoolTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private RhinoPool pool;
+
+    @BeforeEach
+    void setUp() throws RhinoException {
+        pool = new RhinoPool(
+                new Rhino.Builder()
+                        .setAccessKey(accessKey)
+                        .setDevice(device)
+                        .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker")),
+                2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.delete();
+    }
+
+    @Test
+    void invalidCapacity() {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoPool(new Rhino.Builder(), 0));
+    }
+
+    @Test
+    void acquireUpToCapacity() throws Exception {
+        Rhino first = pool.tryAcquire();
+        Rhino second = pool.tryAcquire();
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(pool.tryAcquire());
+        assertNull(pool.acquire(10, TimeUnit.MILLISECONDS));
+        assertEquals(2, pool.getNumCreated());
+
+        pool.release(first);
+        assertEquals(1, pool.getNumIdle());
+        assertSame(first, pool.tryAcquire());
+
+        pool.discard(second);
+        assertEquals(1, pool.getNumCreated());
+        assertNotNull(pool.tryAcquire());
+    }
+
+    @Test
+    void waiterCreatesReplacementForDiscarded() throws Exception {
+        Rhino first = pool.tryAcquire();
+        Rhino second = pool.tryAcquire();
+        CompletableFuture<Rhino> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.acquire(10, TimeUnit.SECONDS);
+            } catch (RhinoException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(waiter.isDone());
+
+        pool.discard(second);
+        Rhino replacement = waiter.get(5, TimeUnit.SECONDS);
+        assertNotNull(replacement);
+        assertNotSame(second, replacement);
+        assertEquals(2, pool.getNumCreated());
+
+        pool.release(first);
+        pool.release(replacement);
+    }
+
+    @Test
+    void rejectsInstancesItDoesNotOwn() throws Exception {
+        Rhino rhino = pool.tryAcquire();
+        pool.release(rhino);
+        assertThrows(RhinoInvalidArgumentException.class, () -> pool.release(rhino));
+        assertEquals(1, pool.getNumIdle());
+
+        Rhino foreign = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .build();
+        try {
+            assertThrows(RhinoInvalidArgumentException.class, () -> pool.release(foreign));
+            assertEquals(1, pool.getNumCreated());
+        } finally {
+            foreign.delete();
+        }
+    }
+
+    @Test
+    void deleteWakesWaiters() throws Exception {
+        pool.tryAcquire();
+        pool.tryAcquire();
+        CompletableFuture<Rhino> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.acquire(10, TimeUnit.SECONDS);
+            } catch (RhinoException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+
+        pool.delete();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause().getCause() instanceof RhinoInvalidStateException);
+    }
+
+    @Test
+    void acquireAfterDelete() {
+        pool.delete();
+        assertThrows(RhinoInvalidStateException.class, () -> pool.tryAcquire());
+    }
+}
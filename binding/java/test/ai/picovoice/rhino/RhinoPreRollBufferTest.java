@@ -0,0 +1,94 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoPreRollBufferTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private final List<RhinoInference> inferences = new ArrayList<>();
+    private Rhino rhino;
+    private List<short[]> frames;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rhino = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .build();
+
+        frames = RhinoTestUtils.readFrames("test_within_context.wav", rhino.getFrameLength());
+    }
+
+    @AfterEach
+    void tearDown() {
+        rhino.delete();
+    }
+
+    @Test
+    void recoversSpeechBeforeActivation() throws RhinoException {
+        RhinoPreRollBuffer buffer = new RhinoPreRollBuffer(rhino, 60000, inferences::add);
+        int activationIndex = frames.size() / 2;
+        for (int i = 0; i < frames.size(); i++) {
+            if (i == activationIndex) {
+                buffer.activate();
+            }
+            buffer.write(frames.get(i));
+        }
+
+        assertEquals(1, inferences.size());
+        assertTrue(inferences.get(0).getIsUnderstood());
+        assertEquals("orderBeverage", inferences.get(0).getIntent());
+        assertEquals(activationIndex, buffer.getLastCatchUpFrames());
+        assertTrue(buffer.getLastCatchUpNanos() > 0);
+    }
+
+    @Test
+    void keepsOnlyMostRecentFrames() throws RhinoException {
+        int frameMs = rhino.getFrameLength() * 1000 / rhino.getSampleRate();
+        RhinoPreRollBuffer buffer = new RhinoPreRollBuffer(rhino, 3 * frameMs, inferences::add);
+        assertEquals(3, buffer.getCapacity());
+
+        short[] silence = new short[rhino.getFrameLength()];
+        for (int i = 0; i < 10; i++) {
+            buffer.write(silence);
+        }
+        buffer.activate();
+        buffer.write(silence);
+        assertEquals(3, buffer.getLastCatchUpFrames());
+
+        buffer.deactivate();
+        buffer.write(silence);
+        buffer.activate();
+        buffer.write(silence);
+        assertEquals(1, buffer.getLastCatchUpFrames());
+    }
+
+    @Test
+    void invalidFrameLength() throws RhinoException {
+        RhinoPreRollBuffer buffer = new RhinoPreRollBuffer(rhino, 500, inferences::add);
+        assertThrows(RhinoInvalidArgumentException.class, () -> buffer.write(new short[rhino.getFrameLength() - 1]));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoRecorderTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private Rhino rhino;
+    private List<short[]> frames;
+    private File recordingFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rhino = buildRhino("coffee_maker");
+        recordingFile = File.createTempFile("rhino", ".rhnlog");
+
+        frames = RhinoTestUtils.readFrames("test_within_context.wav", rhino.getFrameLength());
+    }
+
+    @AfterEach
+    void tearDown() {
+        rhino.delete();
+        recordingFile.delete();
+    }
+
+    private Rhino buildRhino(String context) throws RhinoException {
+        return new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", context))
+                .build();
+    }
+
+    private String record() throws Exception {
+        String path = recordingFile.getPath();
+        try (RhinoRecorder recorder = new RhinoRecorder(rhino, path)) {
+            rhino.reset();
+            for (short[] frame : frames) {
+                if (rhino.process(frame)) {
+                    rhino.getInference();
+                }
+            }
+            assertNull(recorder.getError());
+        }
+        return path;
+    }
+
+    @Test
+    void recordsEveryCall() throws Exception {
+        String path = record();
+
+        int numFrames = 0;
+        int numResets = 0;
+        int numInferences = 0;
+        try (RhinoRecording recording = new RhinoRecording(path)) {
+            assertEquals(rhino.getFrameLength(), recording.getFrameLength());
+            assertEquals(rhino.getSampleRate(), recording.getSampleRate());
+            long lastTimestamp = 0;
+            while (recording.next()) {
+                assertTrue(recording.getTimestampNanos() >= lastTimestamp);
+                lastTimestamp = recording.getTimestampNanos();
+                switch (recording.getEventType()) {
+                    case FRAME:
+                        assertEquals(frames.get(numFrames)[0], recording.getFrame()[0]);
+                        numFrames++;
+                        break;
+                    case RESET:
+                        numResets++;
+                        break;
+                    case INFERENCE:
+                        assertTrue(recording.getInference().getIsUnderstood());
+                        assertEquals("orderBeverage", recording.getInference().getIntent());
+                        numInferences++;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        assertEquals(frames.size(), numFrames);
+        assertEquals(1, numResets);
+        assertEquals(1, numInferences);
+    }
+
+    @Test
+    void replayMatchesRecording() throws Exception {
+        String path = record();
+
+        Rhino replayRhino = buildRhino("coffee_maker");
+        try (RhinoRecording recording = new RhinoRecording(path)) {
+            RhinoReplayer.Result result = new RhinoReplayer(replayRhino, false).replay(recording);
+            assertEquals(frames.size(), result.getNumFrames());
+            assertEquals(1, result.getNumInferences());
+            assertEquals(0, result.getNumMismatches());
+            assertEquals(-1, result.getFirstMismatchFrame());
+            assertEquals(frames.size(), result.getReplayedProcessNanos().length);
+        } finally {
+            replayRhino.delete();
+        }
+    }
+
+    @Test
+    void replayReportsMismatchWithDifferentContext() throws Exception {
+        String path = record();
+
+        Rhino replayRhino = buildRhino("smart_lighting");
+        try (RhinoRecording recording = new RhinoRecording(path)) {
+            RhinoReplayer.Result result = new RhinoReplayer(replayRhino, false).replay(recording);
+            assertTrue(result.getNumMismatches() > 0);
+            assertTrue(result.getFirstMismatchFrame() >= 0);
+        } finally {
+            replayRhino.delete();
+        }
+    }
+
+    @Test
+    void observerIsRemovedOnClose() throws Exception {
+        String path = record();
+        long size = new File(path).length();
+
+        rhino.process(frames.get(0));
+        assertEquals(size, new File(path).length());
+    }
+
+    @Test
+    void rejectsNonRecording() {
+        assertThrows(IOException.class, () -> new RhinoRecording(recordingFile.getPath()));
+    }
+}
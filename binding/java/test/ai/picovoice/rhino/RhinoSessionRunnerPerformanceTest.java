@@ -0,0 +1,160 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Scaling benchmark for {@link RhinoSessionRunner}. Most streams are idle: they block on a read that only
+ * returns when the benchmark ends, and never reach Rhino, so they share a single dormant engine. A few
+ * active streams feed a test file in real time through their own engines. The benchmark reports the cost of
+ * parking the idle streams and how late the active streams are woken up relative to the real-time schedule.
+ */
+public class RhinoSessionRunnerPerformanceTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private final int numStreams = Integer.parseInt(System.getProperty("numStreams"));
+    private final int numActiveStreams = Integer.parseInt(System.getProperty("numActiveStreams"));
+
+    @Test
+    void testVirtualThreads() throws Exception {
+        runBenchmark(true);
+    }
+
+    @Test
+    void testPlatformThreads() throws Exception {
+        runBenchmark(false);
+    }
+
+    private void runBenchmark(boolean useVirtualThreads) throws Exception {
+        Rhino.Builder builder = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+
+        Rhino idleRhino = builder.build();
+        List<Rhino> activeRhinos = new ArrayList<>();
+        for (int i = 0; i < numActiveStreams; i++) {
+            activeRhinos.add(builder.build());
+        }
+
+        short[] audio = RhinoTestUtils.readAudio("test_within_context.wav");
+        int frameLength = idleRhino.getFrameLength();
+        long frameNanos = TimeUnit.SECONDS.toNanos(frameLength) / idleRhino.getSampleRate();
+
+        RhinoSessionRunner runner = new RhinoSessionRunner(
+                Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                useVirtualThreads);
+        CountDownLatch stopIdle = new CountDownLatch(1);
+        CountDownLatch activeDone = new CountDownLatch(numActiveStreams);
+        AtomicInteger numUnderstood = new AtomicInteger();
+        long[][] lateness = new long[numActiveStreams][audio.length / frameLength];
+
+        try {
+            long heapBefore = usedHeap();
+            long submitStart = System.nanoTime();
+            for (int i = 0; i < numStreams - numActiveStreams; i++) {
+                runner.submit(idleRhino, frame -> {
+                    try {
+                        stopIdle.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return false;
+                }, inference -> { }, null);
+            }
+            long submitNanos = System.nanoTime() - submitStart;
+            while (runner.getNumActiveSessions() < numStreams - numActiveStreams) {
+                Thread.sleep(10);
+            }
+            long parkedHeap = usedHeap() - heapBefore;
+            int numThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+            for (int i = 0; i < numActiveStreams; i++) {
+                final long[] streamLateness = lateness[i];
+                final long start = System.nanoTime();
+                runner.submit(activeRhinos.get(i), new RhinoAudioSource() {
+                    private int frameIndex;
+
+                    @Override
+                    public boolean read(short[] frame) {
+                        if (frameIndex == streamLateness.length) {
+                            activeDone.countDown();
+                            return false;
+                        }
+                        long scheduled = start + frameIndex * frameNanos;
+                        long sleepNanos = scheduled - System.nanoTime();
+                        if (sleepNanos > 0) {
+                            try {
+                                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return false;
+                            }
+                        }
+                        streamLateness[frameIndex] = System.nanoTime() - scheduled;
+                        System.arraycopy(audio, frameIndex * frame.length, frame, 0, frame.length);
+                        frameIndex++;
+                        return true;
+                    }
+                }, inference -> {
+                    if (inference.getIsUnderstood()) {
+                        numUnderstood.incrementAndGet();
+                    }
+                }, null);
+            }
+
+            assertTrue(activeDone.await(1, TimeUnit.MINUTES));
+
+            long[] allLateness = Arrays.stream(lateness).flatMapToLong(Arrays::stream).sorted().toArray();
+            System.out.printf(
+                    "%s threads: %d streams (%d active), submit %.1f ms, %d live threads, ~%.1f MB heap parked, " +
+                            "wake-up lateness p50 %.2f ms p99 %.2f ms%n",
+                    runner.isVirtual() ? "virtual" : "platform",
+                    numStreams,
+                    numActiveStreams,
+                    submitNanos * 1e-6,
+                    numThreads,
+                    parkedHeap / 1e6,
+                    allLateness[allLateness.length / 2] * 1e-6,
+                    allLateness[(int) (allLateness.length * 0.99)] * 1e-6);
+            assertEquals(numActiveStreams, numUnderstood.get());
+        } finally {
+            stopIdle.countDown();
+            runner.shutdown();
+            runner.awaitTermination(1, TimeUnit.MINUTES);
+            idleRhino.delete();
+            for (Rhino rhino : activeRhinos) {
+                rhino.delete();
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
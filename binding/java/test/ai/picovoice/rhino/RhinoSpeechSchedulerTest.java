@@ -0,0 +1,127 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RhinoSpeechSchedulerTest {
+
+    private final String accessKey = System.getProperty("pvTestingAccessKey");
+    private final String device = System.getProperty("pvTestingDevice");
+    private RhinoPool pool;
+    private List<short[]> frames;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = new RhinoPool(
+                new Rhino.Builder()
+                        .setAccessKey(accessKey)
+                        .setDevice(device)
+                        .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker")),
+                1);
+
+        Rhino rhino = pool.tryAcquire();
+        int frameLength = rhino.getFrameLength();
+        pool.release(rhino);
+
+        frames = RhinoTestUtils.readFrames("test_within_context.wav", frameLength);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.delete();
+    }
+
+    @Test
+    void leasesOnlyForSpeech() throws RhinoException {
+        RhinoSpeechScheduler scheduler = new RhinoSpeechScheduler(pool);
+        List<RhinoInference> inferences = new ArrayList<>();
+        short[] silence = new short[scheduler.getFrameLength()];
+
+        try (RhinoSpeechScheduler.Stream talking = scheduler.open(inferences::add);
+             RhinoSpeechScheduler.Stream silent = scheduler.open(inference -> { })) {
+            assertEquals(2, scheduler.getNumStreams());
+            for (int i = 0; i < 20; i++) {
+                talking.write(silence);
+                silent.write(silence);
+            }
+            assertEquals(0, scheduler.getNumLeases());
+
+            for (short[] frame : frames) {
+                talking.write(frame);
+                silent.write(silence);
+                assertFalse(silent.isActive());
+            }
+            for (int i = 0; i < 100 && inferences.isEmpty(); i++) {
+                talking.write(silence);
+            }
+        }
+
+        assertEquals(1, inferences.size());
+        assertTrue(inferences.get(0).getIsUnderstood());
+        assertEquals("orderBeverage", inferences.get(0).getIntent());
+        assertEquals(1, pool.getNumCreated());
+        assertEquals(0, scheduler.getNumActiveStreams());
+        assertEquals(0, scheduler.getNumStreams());
+        assertTrue(scheduler.getNumLeases() >= 1);
+    }
+
+    @Test
+    void waitsForInstanceWhenPoolIsExhausted() throws RhinoException {
+        RhinoSpeechScheduler scheduler = new RhinoSpeechScheduler(pool);
+        Rhino held = pool.tryAcquire();
+        try (RhinoSpeechScheduler.Stream stream = scheduler.open(inference -> { })) {
+            for (short[] frame : frames) {
+                stream.write(frame);
+            }
+            assertFalse(stream.isActive());
+            assertTrue(scheduler.getNumStarvedFrames() > 0);
+
+            pool.release(held);
+            int i = 0;
+            while (!stream.isActive() && i < frames.size()) {
+                stream.write(frames.get(i++));
+            }
+            assertTrue(stream.isActive());
+        }
+        assertEquals(0, scheduler.getNumActiveStreams());
+    }
+
+    @Test
+    void invalidArguments() throws RhinoException {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoSpeechScheduler(null));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoSpeechScheduler(pool, -1, 2, 6000));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new RhinoSpeechScheduler(pool, 500, 0, 6000));
+
+        RhinoSpeechScheduler scheduler = new RhinoSpeechScheduler(pool);
+        assertThrows(RhinoInvalidArgumentException.class, () -> scheduler.open(null));
+        RhinoSpeechScheduler.Stream stream = scheduler.open(inference -> { });
+        assertThrows(
+                RhinoInvalidArgumentException.class,
+                () -> stream.write(new short[scheduler.getFrameLength() - 1]));
+        stream.close();
+        assertThrows(
+                RhinoInvalidStateException.class,
+                () -> stream.write(new short[scheduler.getFrameLength()]));
+    }
+}
@@ -1,5 +1,5 @@
 /*
-    Copyright 2018-2025 Picovoice Inc.
+    Copyright 2018-2026 Picovoice Inc.
 
     You may not use this file except in compliance with the license. A copy of the license is
     located in the "LICENSE" file accompanying this source.
@@ -26,8 +26,13 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
@@ -36,6 +41,8 @@ import javax.sound.sampled.UnsupportedAudioFileException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RhinoTest {
 
@@ -132,6 +139,18 @@ public class RhinoTest {
         assertTrue(rhino.getSampleRate() > 0);
     }
 
+    @Test
+    void nativeBackendFollowsProperty() {
+        String javaVersion = System.getProperty("java.specification.version");
+        boolean isForeignAvailable = !javaVersion.startsWith("1.") && Integer.parseInt(javaVersion) >= 22;
+        String backend = System.getProperty(NativeBackend.PROPERTY);
+        if (!isForeignAvailable) {
+            assertEquals("jni", NativeBackend.getName());
+        } else if ("ffm".equals(backend) || "jni".equals(backend)) {
+            assertEquals(backend, NativeBackend.getName());
+        }
+    }
+
     @Test
     void reset() throws Exception {
         rhino = new Rhino.Builder()
@@ -152,6 +171,149 @@ public class RhinoTest {
         assertEquals(inference.getIsUnderstood(), true);
     }
 
+    @Test
+    void warmUp() throws Exception {
+        rhino = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .setWarmUpDuration(1.0f)
+                .build();
+        assertTrue(rhino.getWarmUpNanos() > 0);
+
+        long warmUpNanos = rhino.warmUp(0.5f);
+        assertTrue(warmUpNanos > 0);
+        assertTrue(rhino.getWarmUpNanos() > warmUpNanos);
+        assertThrows(RhinoInvalidArgumentException.class, () -> rhino.warmUp(-1f));
+        assertThrows(RhinoInvalidStateException.class, () -> rhino.getInference());
+
+        runTestCase("test_within_context.wav", true, "orderBeverage", expectedCoffeeSlots());
+
+        assertThrows(RhinoInvalidArgumentException.class, () -> new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .setWarmUpDuration(-1f)
+                .build());
+    }
+
+    private static Map<String, String> expectedCoffeeSlots() {
+        Map<String, String> slots = new HashMap<>();
+        slots.put("size", "medium");
+        slots.put("numberOfShots", "double shot");
+        slots.put("beverage", "americano");
+        return slots;
+    }
+
+    @Test
+    void buildAll() throws Exception {
+        Rhino.Builder builder = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+        List<Rhino> rhinos = builder.buildAll(4, 2);
+        try {
+            assertEquals(4, rhinos.size());
+            assertEquals(4, new HashSet<>(rhinos).size());
+            for (Rhino instance : rhinos) {
+                assertTrue(instance.getInitNanos() > 0);
+                instance.reset();
+            }
+        } finally {
+            for (Rhino instance : rhinos) {
+                instance.delete();
+            }
+        }
+
+        List<Rhino.Builder> builders = Arrays.asList(
+                builder,
+                new Rhino.Builder()
+                        .setAccessKey(accessKey)
+                        .setDevice(device)
+                        .setContextPath(RhinoTestUtils.getTestContextPath("en", "alarm")));
+        rhinos = Rhino.buildAll(builders);
+        try {
+            assertTrue(rhinos.get(0).getContextInfo().getIntents().contains("orderBeverage"));
+            assertFalse(rhinos.get(1).getContextInfo().getIntents().contains("orderBeverage"));
+        } finally {
+            for (Rhino instance : rhinos) {
+                instance.delete();
+            }
+        }
+    }
+
+    @Test
+    void buildAllFailsAsAWhole() {
+        int numInstances = RhinoMemoryStats.getNumInstances();
+        Rhino.Builder valid = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"));
+
+        assertThrows(RhinoIOException.class, () -> Rhino.buildAll(Arrays.asList(
+                valid,
+                new Rhino.Builder()
+                        .setAccessKey(accessKey)
+                        .setContextPath("/does/not/exist.rhn"))));
+        assertEquals(numInstances, RhinoMemoryStats.getNumInstances());
+
+        assertThrows(RhinoException.class, () -> Rhino.buildAll(Arrays.asList(
+                valid,
+                new Rhino.Builder()
+                        .setAccessKey("invalid")
+                        .setDevice(device)
+                        .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker")),
+                valid), 3));
+        assertEquals(numInstances, RhinoMemoryStats.getNumInstances());
+
+        assertThrows(RhinoInvalidArgumentException.class, () -> valid.buildAll(0));
+        assertThrows(RhinoInvalidArgumentException.class, () -> Rhino.buildAll(Arrays.asList(valid), 0));
+    }
+
+    @Test
+    void deleteWhileProcessing() throws Exception {
+        rhino = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setDevice(device)
+                .setContextPath(RhinoTestUtils.getTestContextPath("en", "coffee_maker"))
+                .build();
+
+        short[] frame = new short[rhino.getFrameLength()];
+        AtomicInteger numProcessed = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    while (true) {
+                        // the engine itself is not thread-safe, only its lifecycle is
+                        synchronized (frame) {
+                            rhino.process(frame);
+                        }
+                        numProcessed.incrementAndGet();
+                    }
+                } catch (RhinoInvalidStateException e) {
+                    // deleted
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            threads[i].start();
+        }
+
+        while (numProcessed.get() < 100) {
+            Thread.sleep(1);
+        }
+        rhino.delete();
+        for (Thread thread : threads) {
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+        }
+        assertNull(failure.get());
+        assertThrows(RhinoInvalidStateException.class, () -> rhino.process(frame));
+        assertThrows(RhinoInvalidStateException.class, () -> rhino.getContextInformation());
+        rhino.delete();
+    }
+
     @Test
     void getErrorStack() {
         String[] error = {};
@@ -15,11 +15,20 @@ package ai.picovoice.rhino;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
 
 public class RhinoTestUtils {
 
@@ -59,6 +68,40 @@ public class RhinoTestUtils {
                 .toString();
     }
 
+    static byte[] readAudioBytes(String audioFileName) throws IOException, UnsupportedAudioFileException {
+        File file = new File(getAudioFilePath(audioFileName));
+        try (AudioInputStream stream = AudioSystem.getAudioInputStream(file)) {
+            // read() can return fewer bytes than requested before the end of the stream
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int numRead;
+            while ((numRead = stream.read(buffer)) != -1) {
+                bytes.write(buffer, 0, numRead);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    static short[] readAudio(String audioFileName) throws IOException, UnsupportedAudioFileException {
+        byte[] bytes = readAudioBytes(audioFileName);
+        short[] audio = new short[bytes.length / 2];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(audio);
+        return audio;
+    }
+
+    static List<short[]> readFrames(
+            String audioFileName,
+            int frameLength) throws IOException, UnsupportedAudioFileException {
+        short[] audio = readAudio(audioFileName);
+        List<short[]> frames = new ArrayList<>();
+        for (int offset = 0; offset + frameLength <= audio.length; offset += frameLength) {
+            short[] frame = new short[frameLength];
+            System.arraycopy(audio, offset, frame, 0, frameLength);
+            frames.add(frame);
+        }
+        return frames;
+    }
+
     public static JsonObject loadTestData() throws IOException {
         final Path testDataPath = Paths.get(System.getProperty("user.dir"))
                 .resolve("../../resources/.test")
@@ -0,0 +1,130 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhino;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WavStreamWriterTest {
+
+    private File file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = File.createTempFile("rhino", ".wav");
+    }
+
+    @AfterEach
+    void tearDown() {
+        file.delete();
+    }
+
+    private short[] readWav(int expectedSampleRate) throws Exception {
+        try (AudioInputStream stream = AudioSystem.getAudioInputStream(file)) {
+            AudioFormat format = stream.getFormat();
+            assertEquals(expectedSampleRate, (int) format.getSampleRate());
+            assertEquals(1, format.getChannels());
+            assertEquals(16, format.getSampleSizeInBits());
+
+            byte[] bytes = new byte[(int) stream.getFrameLength() * 2];
+            int offset = 0;
+            while (offset < bytes.length) {
+                offset += stream.read(bytes, offset, bytes.length - offset);
+            }
+            short[] samples = new short[bytes.length / 2];
+            ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+            return samples;
+        }
+    }
+
+    private static short[] ramp(int length) {
+        short[] samples = new short[length];
+        for (int i = 0; i < length; i++) {
+            samples[i] = (short) (i * 31 - 12345);
+        }
+        return samples;
+    }
+
+    @Test
+    void writesSamplesAcrossBuffers() throws Exception {
+        short[] samples = ramp(10000);
+        try (WavStreamWriter writer = new WavStreamWriter(file.getPath(), 16000, 512, 4)) {
+            for (int i = 0; i < samples.length; i += 512) {
+                writer.write(samples, i, Math.min(512, samples.length - i));
+                // give the background thread time to return buffers so nothing is dropped
+                Thread.sleep(1);
+            }
+            assertEquals(2L * samples.length, writer.getDataSize());
+            assertEquals(0, writer.getNumDroppedBytes());
+        }
+
+        assertArrayEquals(samples, readWav(16000));
+        assertEquals(44 + 2L * samples.length, file.length());
+    }
+
+    @Test
+    void writesBytes() throws Exception {
+        short[] samples = ramp(1001);
+        byte[] bytes = new byte[samples.length * 2];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().put(samples);
+
+        try (WavStreamWriter writer = new WavStreamWriter(file.getPath(), 8000)) {
+            // odd-sized chunks split samples between calls
+            for (int i = 0; i < bytes.length; i += 333) {
+                writer.write(bytes, i, Math.min(333, bytes.length - i));
+            }
+        }
+
+        assertArrayEquals(samples, readWav(8000));
+    }
+
+    @Test
+    void emptyFileIsValid() throws Exception {
+        new WavStreamWriter(file.getPath(), 16000).close();
+        assertEquals(0, readWav(16000).length);
+    }
+
+    @Test
+    void dropsWritesAfterClose() throws Exception {
+        WavStreamWriter writer = new WavStreamWriter(file.getPath(), 16000);
+        writer.write(ramp(100));
+        writer.close();
+        writer.write(ramp(50));
+        writer.close();
+
+        assertEquals(100, writer.getNumDroppedBytes());
+        assertEquals(100, readWav(16000).length);
+    }
+
+    @Test
+    void rejectsInvalidArguments() throws Exception {
+        assertThrows(RhinoInvalidArgumentException.class, () -> new WavStreamWriter(file.getPath(), 0));
+        assertThrows(RhinoInvalidArgumentException.class, () -> new WavStreamWriter(file.getPath(), 16000, 1, 4));
+        try (WavStreamWriter writer = new WavStreamWriter(file.getPath(), 16000)) {
+            assertThrows(RhinoInvalidArgumentException.class, () -> writer.write(new short[10], 5, 6));
+            assertThrows(RhinoInvalidArgumentException.class, () -> writer.write(new byte[10], -1, 2));
+        }
+    }
+}
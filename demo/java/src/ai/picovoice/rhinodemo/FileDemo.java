@@ -1,5 +1,5 @@
 /*
-    Copyright 2018-2025 Picovoice Inc.
+    Copyright 2018-2026 Picovoice Inc.
 
     You may not use this file except in compliance with the license. A copy of the license is
     located in the "LICENSE" file accompanying this source.
@@ -15,6 +15,7 @@ package ai.picovoice.rhinodemo;
 import ai.picovoice.rhino.Rhino;
 import ai.picovoice.rhino.RhinoException;
 import ai.picovoice.rhino.RhinoInference;
+import ai.picovoice.rhino.RhinoMultiChannel;
 import org.apache.commons.cli.*;
 
 import javax.sound.sampled.AudioFormat;
@@ -51,31 +52,33 @@ public class FileDemo {
             return;
         }
 
+        Rhino.Builder builder = new Rhino.Builder()
+                .setAccessKey(accessKey)
+                .setLibraryPath(libraryPath)
+                .setModelPath(modelPath)
+                .setDevice(device)
+                .setContextPath(contextPath)
+                .setSensitivity(sensitivity)
+                .setEndpointDuration(endpointDuration)
+                .setRequireEndpoint(requireEndpoint);
+
+        AudioFormat audioFormat = audioInputStream.getFormat();
+        if (audioFormat.getChannels() > 1) {
+            System.out.println("Picovoice processes single-channel audio, but a multi-channel file was provided. " +
+                    "Processing each channel with its own Rhino instance.");
+            processMultiChannel(builder, audioInputStream);
+            return;
+        }
+
         Rhino rhino = null;
         try {
-            rhino = new Rhino.Builder()
-                    .setAccessKey(accessKey)
-                    .setLibraryPath(libraryPath)
-                    .setModelPath(modelPath)
-                    .setDevice(device)
-                    .setContextPath(contextPath)
-                    .setSensitivity(sensitivity)
-                    .setEndpointDuration(endpointDuration)
-                    .setRequireEndpoint(requireEndpoint)
-                    .build();
-
-            AudioFormat audioFormat = audioInputStream.getFormat();
+            rhino = builder.build();
 
             if (audioFormat.getSampleRate() != 16000.0f || audioFormat.getSampleSizeInBits() != 16) {
                 throw new IllegalArgumentException(String.format("Invalid input audio file format. " +
                         "Input file must be a %dkHz, 16-bit audio file.", rhino.getSampleRate()));
             }
 
-            if (audioFormat.getChannels() > 1) {
-                System.out.println("Picovoice processes single-channel audio, but a multi-channel file was provided. " +
-                        "Processing leftmost channel only.");
-            }
-
             int frameIndex = 0;
             short[] rhinoFrame = new short[rhino.getFrameLength()];
 
@@ -94,21 +97,7 @@ public class FileDemo {
 
                     boolean isFinalized = rhino.process(rhinoFrame);
                     if (isFinalized) {
-
-                        RhinoInference inference = rhino.getInference();
-                        if (inference.getIsUnderstood()) {
-
-                            System.out.println("{");
-                            System.out.println(String.format("  intent : '%s'", inference.getIntent()));
-                            System.out.println("  slots : {");
-                            for (Map.Entry<String, String> slot : inference.getSlots().entrySet()) {
-                                System.out.println(String.format("    %s : '%s'", slot.getKey(), slot.getValue()));
-                            }
-                            System.out.println("  }");
-                            System.out.println("}");
-                        } else {
-                            System.out.println("Didn't understand the command.");
-                        }
+                        printInference(rhino.getInference());
                         return;
                     }
                     frameIndex = 0;
@@ -124,6 +113,72 @@ public class FileDemo {
         }
     }
 
+    private static void processMultiChannel(Rhino.Builder builder, AudioInputStream audioInputStream) {
+        AudioFormat audioFormat = audioInputStream.getFormat();
+
+        RhinoMultiChannel multiChannel = null;
+        try {
+            multiChannel = new RhinoMultiChannel(builder, audioFormat.getChannels());
+
+            if (audioFormat.getSampleRate() != 16000.0f || audioFormat.getSampleSizeInBits() != 16) {
+                throw new IllegalArgumentException(String.format("Invalid input audio file format. " +
+                        "Input file must be a %dkHz, 16-bit audio file.", multiChannel.getSampleRate()));
+            }
+
+            // one frame of interleaved audio holds a Rhino frame for every channel
+            short[] interleavedFrame = new short[multiChannel.getFrameLength() * multiChannel.getNumChannels()];
+            byte[] frameBytes = new byte[interleavedFrame.length * 2];
+            while (readFully(audioInputStream, frameBytes)) {
+
+                ByteBuffer.wrap(frameBytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(interleavedFrame);
+
+                RhinoInference inference = multiChannel.process(interleavedFrame);
+                if (inference != null) {
+                    if (inference.getIsUnderstood()) {
+                        System.out.printf("Understood on channel %d:%n", multiChannel.getWinningChannel());
+                    }
+                    printInference(inference);
+                    return;
+                }
+            }
+            System.out.println("Reached end of audio file before Rhino returned an inference.");
+        } catch (Exception e) {
+            System.out.println(e.toString());
+        } finally {
+            if (multiChannel != null) {
+                multiChannel.delete();
+            }
+        }
+    }
+
+    private static boolean readFully(AudioInputStream audioInputStream, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            int numBytesRead = audioInputStream.read(buffer, offset, buffer.length - offset);
+            if (numBytesRead <= 0) {
+                return false;
+            }
+            offset += numBytesRead;
+        }
+        return true;
+    }
+
+    private static void printInference(RhinoInference inference) {
+        if (inference.getIsUnderstood()) {
+
+            System.out.println("{");
+            System.out.println(String.format("  intent : '%s'", inference.getIntent()));
+            System.out.println("  slots : {");
+            for (Map.Entry<String, String> slot : inference.getSlots().entrySet()) {
+                System.out.println(String.format("    %s : '%s'", slot.getKey(), slot.getValue()));
+            }
+            System.out.println("  }");
+            System.out.println("}");
+        } else {
+            System.out.println("Didn't understand the command.");
+        }
+    }
+
     public static void main(String[] args) {
 
         Options options = buildCommandLineOptions();
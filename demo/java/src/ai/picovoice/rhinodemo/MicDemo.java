@@ -1,5 +1,5 @@
 /*
-    Copyright 2018-2025 Picovoice Inc.
+    Copyright 2018-2026 Picovoice Inc.
 
     You may not use this file except in compliance with the license. A copy of the license is
     located in the "LICENSE" file accompanying this source.
@@ -17,10 +17,6 @@ import org.apache.commons.cli.*;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.Map;
 import javax.sound.sampled.*;
 
@@ -35,12 +31,9 @@ public class MicDemo {
             float endpointDuration,
             int audioDeviceIndex,
             String outputPath,
+            String recordingPath,
             boolean requireEndpoint) {
 
-        // for file output
-        File outputFile = null;
-        ByteArrayOutputStream outputStream = null;
-        long totalBytesCaptured = 0;
         AudioFormat format = new AudioFormat(16000f, 16, 1, true, false);
 
         // get audio capture device
@@ -57,6 +50,8 @@ public class MicDemo {
         }
 
         Rhino rhino = null;
+        RhinoRecorder recorder = null;
+        WavStreamWriter outputWriter = null;
         try {
 
             rhino = new Rhino.Builder()
@@ -71,8 +66,11 @@ public class MicDemo {
                     .build();
 
             if (outputPath != null) {
-                outputFile = new File(outputPath);
-                outputStream = new ByteArrayOutputStream();
+                outputWriter = new WavStreamWriter(outputPath, rhino.getSampleRate());
+            }
+
+            if (recordingPath != null) {
+                recorder = new RhinoRecorder(rhino, recordingPath);
             }
 
             micDataLine.start();
@@ -81,79 +79,81 @@ public class MicDemo {
             System.out.println("Press enter to stop recording.");
             System.out.println("Listening...");
 
-            // buffers for processing audio
-            int frameLength = rhino.getFrameLength();
-            ByteBuffer captureBuffer = ByteBuffer.allocate(frameLength * 2);
-            captureBuffer.order(ByteOrder.LITTLE_ENDIAN);
-            short[] rhinoBuffer = new short[frameLength];
+            // re-chunks captured audio into frames and prints each inference
+            RhinoFrameAssembler assembler = new RhinoFrameAssembler(rhino, MicDemo::printInference);
+            byte[] captureBuffer = new byte[rhino.getFrameLength() * 2];
 
             int numBytesRead;
+            long numDroppedBytes = 0;
             while (System.in.available() == 0) {
 
                 // read a buffer of audio
-                numBytesRead = micDataLine.read(captureBuffer.array(), 0, captureBuffer.capacity());
-                totalBytesCaptured += numBytesRead;
-
-                // write to output if we're recording
-                if (outputStream != null) {
-                    outputStream.write(captureBuffer.array(), 0, numBytesRead);
-                }
-
-                // don't pass to rhino if we don't have a full buffer
-                if (numBytesRead != frameLength * 2) {
-                    continue;
-                }
-
-                // copy into 16-bit buffer
-                captureBuffer.asShortBuffer().get(rhinoBuffer);
-
-                // process with rhino
-                boolean isFinalized = rhino.process(rhinoBuffer);
-                if (isFinalized) {
-
-                    RhinoInference inference = rhino.getInference();
-                    if (inference.getIsUnderstood()) {
-
-                        System.out.println("{");
-                        System.out.println(String.format("  intent : '%s'", inference.getIntent()));
-                        System.out.println("  slots : {");
-                        for (Map.Entry<String, String> slot : inference.getSlots().entrySet()) {
-                            System.out.println(String.format("    %s : '%s'", slot.getKey(), slot.getValue()));
-                        }
-                        System.out.println("  }");
-                        System.out.println("}");
-                    } else {
-                        System.out.println("Didn't understand the command.");
+                numBytesRead = micDataLine.read(captureBuffer, 0, captureBuffer.length);
+
+                // write to output if we're recording; this only copies into a buffer written in the background
+                if (outputWriter != null) {
+                    outputWriter.write(captureBuffer, 0, numBytesRead);
+
+                    // the writer drops audio rather than blocking capture when the disk falls behind
+                    if (outputWriter.getNumDroppedBytes() > numDroppedBytes) {
+                        numDroppedBytes = outputWriter.getNumDroppedBytes();
+                        System.err.printf("Disk is falling behind, %d bytes of audio dropped from '%s' so far.\n",
+                                numDroppedBytes,
+                                outputPath);
                     }
                 }
+
+                // short reads are kept until the next read completes the frame
+                assembler.write(captureBuffer, 0, numBytesRead);
             }
             System.out.println("Stopping...");
         } catch (Exception e) {
             System.err.println(e.toString());
         } finally {
-            if (outputStream != null && outputFile != null) {
-
-                // need to transfer to input stream to write
-                ByteArrayInputStream writeArray = new ByteArrayInputStream(outputStream.toByteArray());
-                AudioInputStream writeStream = new AudioInputStream(
-                        writeArray,
-                        format,
-                        totalBytesCaptured / format.getFrameSize());
-
+            if (outputWriter != null) {
                 try {
-                    AudioSystem.write(writeStream, AudioFileFormat.Type.WAVE, outputFile);
+                    outputWriter.close();
+                    if (outputWriter.getNumDroppedBytes() > 0) {
+                        System.err.printf("Dropped %d bytes of audio while writing '%s'.\n",
+                                outputWriter.getNumDroppedBytes(),
+                                outputPath);
+                    }
                 } catch (IOException e) {
-                    System.err.printf("Failed to write audio to '%s'.\n", outputFile.getPath());
+                    System.err.printf("Failed to write audio to '%s'.\n", outputPath);
                     e.printStackTrace();
                 }
             }
 
+            if (recorder != null) {
+                try {
+                    recorder.close();
+                } catch (IOException e) {
+                    System.err.printf("Failed to write recording to '%s'.\n", recordingPath);
+                }
+            }
+
             if (rhino != null) {
                 rhino.delete();
             }
         }
     }
 
+    private static void printInference(RhinoInference inference) {
+        if (inference.getIsUnderstood()) {
+
+            System.out.println("{");
+            System.out.println(String.format("  intent : '%s'", inference.getIntent()));
+            System.out.println("  slots : {");
+            for (Map.Entry<String, String> slot : inference.getSlots().entrySet()) {
+                System.out.println(String.format("    %s : '%s'", slot.getKey(), slot.getValue()));
+            }
+            System.out.println("  }");
+            System.out.println("}");
+        } else {
+            System.out.println("Didn't understand the command.");
+        }
+    }
+
     private static void showAudioDevices() {
 
         // get available audio devices
@@ -253,6 +253,7 @@ public class MicDemo {
         String endpointDurationStr = cmd.getOptionValue("endpoint_duration");
         String audioDeviceIndexStr = cmd.getOptionValue("audio_device_index");
         String outputPath = cmd.getOptionValue("output_path");
+        String recordingPath = cmd.getOptionValue("recording_path");
         String requireEndpointValue = cmd.getOptionValue("require_endpoint");
 
         if (accessKey == null || accessKey.length() == 0) {
@@ -339,6 +340,7 @@ public class MicDemo {
                 endpointDuration,
                 audioDeviceIndex,
                 outputPath,
+                recordingPath,
                 requireEndpoint);
     }
 
@@ -412,6 +414,13 @@ public class MicDemo {
                 .desc("Absolute path to recorded audio for debugging.")
                 .build());
 
+        options.addOption(Option.builder("r")
+                .longOpt("recording_path")
+                .hasArg(true)
+                .desc("Absolute path to a recording of every frame, reset and inference, for replay with the " +
+                        "replay demo.")
+                .build());
+
         options.addOption(Option.builder("di")
                 .longOpt("audio_device_index")
                 .hasArg(true)
@@ -0,0 +1,250 @@
+/*
+    Copyright 2026 Picovoice Inc.
+
+    You may not use this file except in compliance with the license. A copy of the license is
+    located in the "LICENSE" file accompanying this source.
+
+    Unless required by applicable law or agreed to in writing, software distributed under the
+    License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+    express or implied. See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package ai.picovoice.rhinodemo;
+
+import ai.picovoice.rhino.Rhino;
+import ai.picovoice.rhino.RhinoRecording;
+import ai.picovoice.rhino.RhinoReplayer;
+import org.apache.commons.cli.*;
+
+import java.io.File;
+import java.util.Arrays;
+
+public class ReplayDemo {
+
+    public static void runDemo(
+            String accessKey,
+            String recordingPath,
+            String libraryPath,
+            String modelPath,
+            String device,
+            String contextPath,
+            float sensitivity,
+            float endpointDuration,
+            boolean requireEndpoint,
+            boolean isRealtime) {
+
+        Rhino rhino = null;
+        try (RhinoRecording recording = new RhinoRecording(recordingPath)) {
+            rhino = new Rhino.Builder()
+                    .setAccessKey(accessKey)
+                    .setLibraryPath(libraryPath)
+                    .setModelPath(modelPath)
+                    .setDevice(device)
+                    .setContextPath(contextPath)
+                    .setSensitivity(sensitivity)
+                    .setEndpointDuration(endpointDuration)
+                    .setRequireEndpoint(requireEndpoint)
+                    .build();
+
+            long start = System.nanoTime();
+            RhinoReplayer.Result result = new RhinoReplayer(rhino, isRealtime).replay(recording);
+            double elapsedSec = (System.nanoTime() - start) * 1e-9;
+
+            double audioSec = (double) result.getNumFrames() * rhino.getFrameLength() / rhino.getSampleRate();
+            System.out.printf("Replayed %d frames (%.1f s of audio) in %.2f s.%n",
+                    result.getNumFrames(),
+                    audioSec,
+                    elapsedSec);
+            System.out.printf("Inferences: %d, mismatches with the recording: %d%n",
+                    result.getNumInferences(),
+                    result.getNumMismatches());
+            if (result.getFirstMismatchFrame() >= 0) {
+                System.out.printf("First mismatch at frame %d.%n", result.getFirstMismatchFrame());
+            }
+            printLatency("recorded", result.getRecordedProcessNanos());
+            printLatency("replayed", result.getReplayedProcessNanos());
+        } catch (Exception e) {
+            System.out.println(e.toString());
+        } finally {
+            if (rhino != null) {
+                rhino.delete();
+            }
+        }
+    }
+
+    private static void printLatency(String label, long[] processNanos) {
+        if (processNanos.length == 0) {
+            return;
+        }
+        long[] sorted = processNanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("Process time (%s): p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                label,
+                sorted[sorted.length / 2] * 1e-6,
+                sorted[(int) (sorted.length * 0.99)] * 1e-6,
+                sorted[sorted.length - 1] * 1e-6);
+    }
+
+    public static void main(String[] args) {
+
+        Options options = buildCommandLineOptions();
+        CommandLineParser parser = new DefaultParser();
+        HelpFormatter formatter = new HelpFormatter();
+
+        CommandLine cmd;
+        try {
+            cmd = parser.parse(options, args);
+        } catch (ParseException e) {
+            System.out.println(e.getMessage());
+            formatter.printHelp("rhinoreplaydemo", options);
+            System.exit(1);
+            return;
+        }
+
+        if (cmd.hasOption("help")) {
+            formatter.printHelp("rhinoreplaydemo", options);
+            return;
+        }
+
+        String accessKey = cmd.getOptionValue("access_key");
+        String recordingPath = cmd.getOptionValue("recording_path");
+        String libraryPath = cmd.getOptionValue("library_path");
+        String modelPath = cmd.getOptionValue("model_path");
+        String device = cmd.getOptionValue("device");
+        String contextPath = cmd.getOptionValue("context_path");
+        String sensitivityStr = cmd.getOptionValue("sensitivity");
+        String endpointDurationStr = cmd.getOptionValue("endpoint_duration");
+        String requireEndpointValue = cmd.getOptionValue("require_endpoint");
+        String realtimeValue = cmd.getOptionValue("realtime");
+
+        if (accessKey == null || accessKey.length() == 0) {
+            throw new IllegalArgumentException("AccessKey is required for Rhino.");
+        }
+
+        float sensitivity = 0.5f;
+        if (sensitivityStr != null) {
+            try {
+                sensitivity = Float.parseFloat(sensitivityStr);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Failed to parse sensitivity value. " +
+                        "Must be a floating-point number between [0,1].");
+            }
+        }
+
+        float endpointDuration = 1.0f;
+        if (endpointDurationStr != null) {
+            try {
+                endpointDuration = Float.parseFloat(endpointDurationStr);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Failed to parse endpointDuration value. " +
+                        "Must be a floating-point number between [0.5, 5.0].");
+            }
+        }
+
+        if (recordingPath == null || !new File(recordingPath).exists()) {
+            throw new IllegalArgumentException("A recording made with the microphone demo's --recording_path " +
+                    "option is required.");
+        }
+
+        if (contextPath == null || !new File(contextPath).exists()) {
+            throw new IllegalArgumentException("The context file used for the recording is required.");
+        }
+
+        if (libraryPath == null) {
+            libraryPath = Rhino.LIBRARY_PATH;
+        }
+
+        if (modelPath == null) {
+            modelPath = Rhino.MODEL_PATH;
+        }
+
+        if (device == null) {
+            device = "best";
+        }
+
+        boolean requireEndpoint = requireEndpointValue == null || !requireEndpointValue.equalsIgnoreCase("false");
+        boolean isRealtime = realtimeValue != null && realtimeValue.equalsIgnoreCase("true");
+
+        runDemo(accessKey,
+                recordingPath,
+                libraryPath,
+                modelPath,
+                device,
+                contextPath,
+                sensitivity,
+                endpointDuration,
+                requireEndpoint,
+                isRealtime);
+    }
+
+    private static Options buildCommandLineOptions() {
+        Options options = new Options();
+
+        options.addOption(Option.builder("a")
+                .longOpt("access_key")
+                .hasArg(true)
+                .desc("AccessKey obtained from Picovoice Console (https://console.picovoice.ai/).")
+                .build());
+
+        options.addOption(Option.builder("r")
+                .longOpt("recording_path")
+                .hasArg(true)
+                .desc("Absolute path to a recording made with the microphone demo.")
+                .build());
+
+        options.addOption(Option.builder("c")
+                .longOpt("context_path")
+                .hasArg(true)
+                .desc("Absolute path to the context file used for the recording.")
+                .build());
+
+        options.addOption(Option.builder("l")
+                .longOpt("library_path")
+                .hasArg(true)
+                .desc("Absolute path to the Rhino native runtime library.")
+                .build());
+
+        options.addOption(Option.builder("m")
+                .longOpt("model_path")
+                .hasArg(true)
+                .desc("Absolute path to the file containing model parameters.")
+                .build());
+
+        options.addOption(Option.builder("y")
+                .longOpt("device")
+                .hasArg(true)
+                .desc("Device to run inference on (`best`, `cpu:{num_threads}` or `gpu:{gpu_index}`). " +
+                        "Default: automatically selects best device.")
+                .build());
+
+        options.addOption(Option.builder("s")
+                .longOpt("sensitivity")
+                .hasArgs()
+                .desc("Inference sensitivity used for the recording. If not set 0.5 will be used.")
+                .build());
+
+        options.addOption(Option.builder("u")
+                .longOpt("endpoint_duration")
+                .hasArgs()
+                .desc("Endpoint duration in seconds used for the recording. If not set 1.0 will be used.")
+                .build());
+
+        options.addOption(Option.builder("e")
+                .longOpt("require_endpoint")
+                .hasArg(true)
+                .desc("Whether an endpoint was required for the recording. If not set `true` will be used.")
+                .build());
+
+        options.addOption(Option.builder("rt")
+                .longOpt("realtime")
+                .hasArg(true)
+                .desc("If set to `true`, frames are replayed at the times they were recorded. Otherwise they are " +
+                        "replayed as fast as possible.")
+                .build());
+
+        options.addOption(new Option("h", "help", false, ""));
+
+        return options;
+    }
+}